@@ -0,0 +1,66 @@
+package com.choi.springmall2;
+
+import com.choi.springmall2.config.JpaConfig;
+import com.choi.springmall2.service.ProductDetailCacheService;
+import com.choi.springmall2.service.ProductImageService;
+import com.choi.springmall2.service.ProductListCacheService;
+import com.choi.springmall2.service.ProductService;
+import com.choi.springmall2.service.UserService;
+import org.mockito.Mockito;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * JPA 벤치마크용 최소 Spring 컨텍스트. 테스트 프로필의 H2 를 사용하며 Redis, S3, Quartz 등은 띄우지 않음
+ */
+public final class JpaBenchmarkContext {
+
+    private JpaBenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(Config.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--logging.level.root=WARN");
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class,
+            JdbcTemplateAutoConfiguration.class, FlywayAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class})
+    @EntityScan("com.choi.springmall2.domain.entity")
+    @EnableJpaRepositories("com.choi.springmall2.repository")
+    @Import({JpaConfig.class, ProductService.class, ProductImageService.class})
+    static class Config {
+
+        @Bean
+        UserService userService() {
+            return Mockito.mock(UserService.class);
+        }
+
+        @Bean
+        ProductDetailCacheService productDetailCacheService() {
+            return Mockito.mock(ProductDetailCacheService.class);
+        }
+
+        @Bean
+        ProductListCacheService productListCacheService() {
+            return Mockito.mock(ProductListCacheService.class);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.choi.springmall2.config;
+
+import com.choi.springmall2.domain.CustomUser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.servlet.handler.HandlerMappingIntrospector;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 한 건당 JwtAuthenticationFilter 비용 측정.
+ * legacy : 캐시 도입 전처럼 validateToken + getAuthentication 으로 토큰을 두 번 파싱
+ * cacheDisabled : 캐시 크기 0 (요청마다 한 번 파싱)
+ * cacheEnabled : 검증된 토큰 캐시 적중
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationFilter cacheDisabledFilter;
+    private JwtAuthenticationFilter cacheEnabledFilter;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        jwtTokenProvider.setJwtSecretKey(Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded()));
+        jwtTokenProvider.init();
+
+        RefreshTokenRotator refreshTokenRotator = new RefreshTokenRotator(jwtTokenProvider, new SimpleMeterRegistry(), 3000);
+        RequestMatcher anonymousApiMatcher = SecurityConfig.anonymousApiMatcher(new HandlerMappingIntrospector());
+        cacheDisabledFilter = new JwtAuthenticationFilter(jwtTokenProvider,
+                new JwtAuthenticationCache(jwtTokenProvider, new SimpleMeterRegistry(), 0), refreshTokenRotator, anonymousApiMatcher);
+        cacheEnabledFilter = new JwtAuthenticationFilter(jwtTokenProvider,
+                new JwtAuthenticationCache(jwtTokenProvider, new SimpleMeterRegistry(), 10_000), refreshTokenRotator, anonymousApiMatcher);
+
+        CustomUser user = new CustomUser(1, "bench@test.com", "bench", "",
+                List.of(new SimpleGrantedAuthority("ROLE_BUYER")));
+        accessToken = jwtTokenProvider.createAccessToken(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @Benchmark
+    public Authentication legacy() {
+        jwtTokenProvider.validateToken(accessToken);
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public Authentication cacheDisabled() throws Exception {
+        return runFilter(cacheDisabledFilter);
+    }
+
+    @Benchmark
+    public Authentication cacheEnabled() throws Exception {
+        return runFilter(cacheEnabledFilter);
+    }
+
+    private Authentication runFilter(JwtAuthenticationFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/profile");
+        request.setCookies(new Cookie(JwtTokenProvider.ACCESS_TOKEN_COOKIE_NAME, accessToken));
+        filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
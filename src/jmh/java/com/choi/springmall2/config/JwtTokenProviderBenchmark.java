@@ -0,0 +1,90 @@
+package com.choi.springmall2.config;
+
+import com.choi.springmall2.domain.CustomUser;
+import com.choi.springmall2.domain.vo.TokenValidationResultVo;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 토큰 생성 / 검증 / 인증 정보 추출 비용 측정.
+ * *Expired : 만료된 토큰 처리 비용 (extractToken 은 예외, verify 는 실패 사유 반환)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private Authentication authentication;
+    private String accessToken;
+    private String expiredToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        SecretKey key = Jwts.SIG.HS256.key().build();
+        jwtTokenProvider.setJwtSecretKey(Encoders.BASE64.encode(key.getEncoded()));
+        jwtTokenProvider.init();
+
+        CustomUser user = new CustomUser(1, "bench@test.com", "bench", "",
+                List.of(new SimpleGrantedAuthority("ROLE_BUYER")));
+        authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+        accessToken = jwtTokenProvider.createAccessToken(authentication);
+        expiredToken = Jwts.builder()
+                .subject("1")
+                .claim("email", "bench@test.com")
+                .claim("nickname", "bench")
+                .claim("roles", List.of("ROLE_BUYER"))
+                .expiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(key)
+                .compact();
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(authentication);
+    }
+
+    @Benchmark
+    public Claims extractToken() {
+        return jwtTokenProvider.extractToken(accessToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public TokenValidationResultVo verify() {
+        return jwtTokenProvider.verify(accessToken);
+    }
+
+    @Benchmark
+    public Object extractTokenExpired() {
+        try {
+            return jwtTokenProvider.extractToken(expiredToken);
+        } catch (JwtException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public TokenValidationResultVo verifyExpired() {
+        return jwtTokenProvider.verify(expiredToken);
+    }
+}
@@ -0,0 +1,75 @@
+package com.choi.springmall2.config;
+
+import com.choi.springmall2.domain.dto.ProductDto;
+import com.choi.springmall2.domain.vo.FileVo;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * product/list 템플릿 렌더링 비용 측정. cacheable=false 는 application.properties 기본값 (매 요청 파싱),
+ * cacheable=true 는 application-prod.properties 설정 (파싱 결과 캐시)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemplateRenderBenchmark {
+
+    @Param({"false", "true"})
+    private boolean cacheable;
+
+    private SpringTemplateEngine templateEngine;
+    private JakartaServletWebApplication webApplication;
+    private PageImpl<ProductDto> productPage;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateResolver.setCacheable(cacheable);
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        webApplication = JakartaServletWebApplication.buildApplication(new MockServletContext());
+
+        List<ProductDto> products = new ArrayList<>();
+        for (int i = 1; i <= 9; i++) {
+            ProductDto productDto = new ProductDto();
+            productDto.setId(i);
+            productDto.setTitle("상품" + i);
+            productDto.setDescription("설명" + i);
+            productDto.setPrice(1000.0 * i);
+            productDto.setThumbnailImage(new FileVo("thumbnail" + i + ".jpg", i + "_thumbnail.jpg"));
+            products.add(productDto);
+        }
+        productPage = new PageImpl<>(products, PageRequest.of(0, 9), 90);
+    }
+
+    @Benchmark
+    public String renderProductList() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/product/list");
+        WebContext context = new WebContext(webApplication.buildExchange(request, new MockHttpServletResponse()));
+        context.setVariable("productPage", productPage);
+
+        StringWriter writer = new StringWriter();
+        templateEngine.process("product/list", context, writer);
+        return writer.toString();
+    }
+}
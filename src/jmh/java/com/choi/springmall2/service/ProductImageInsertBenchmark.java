@@ -0,0 +1,91 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.JpaBenchmarkContext;
+import com.choi.springmall2.domain.ImageType;
+import com.choi.springmall2.domain.Role;
+import com.choi.springmall2.domain.entity.Product;
+import com.choi.springmall2.domain.entity.ProductImage;
+import com.choi.springmall2.domain.entity.User;
+import com.choi.springmall2.repository.ProductImageRepository;
+import com.choi.springmall2.repository.ProductRepository;
+import com.choi.springmall2.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 이미지 저장 비용 측정. perEntitySave : 이미지마다 JPA save (IDENTITY 라 batch 불가), batchInsert : JDBC batch.
+ * H2 in-memory 는 왕복 비용이 거의 없으므로 실제 MySQL 에서는 차이가 더 커짐
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductImageInsertBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int imageCount;
+
+    private ConfigurableApplicationContext context;
+    private ProductImageRepository productImageRepository;
+    private TransactionTemplate transactionTemplate;
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        context = JpaBenchmarkContext.start();
+        productImageRepository = context.getBean(ProductImageRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        User seller = new User();
+        seller.setEmail("seller@bench.com");
+        seller.setRole(Role.ROLE_SELLER);
+        seller = context.getBean(UserRepository.class).save(seller);
+
+        product = new Product();
+        product.setTitle("상품");
+        product.setPrice(1000.0);
+        product.setStock(100);
+        product.setSeller(seller);
+        product = context.getBean(ProductRepository.class).save(product);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void perEntitySave() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (ProductImage image : createImages()) {
+                productImageRepository.save(image);
+            }
+        });
+    }
+
+    @Benchmark
+    public void batchInsert() {
+        transactionTemplate.executeWithoutResult(status -> productImageRepository.batchInsert(createImages()));
+    }
+
+    private List<ProductImage> createImages() {
+        List<ProductImage> images = new ArrayList<>(imageCount);
+        for (int seq = 0; seq < imageCount; seq++) {
+            ProductImage image = new ProductImage();
+            image.setProduct(product);
+            image.setType(seq == 0 ? ImageType.THUMBNAIL : ImageType.CONTENT);
+            image.setSeq(seq);
+            image.setImageName("image" + seq + ".jpg");
+            image.setImageKey("key" + seq + ".jpg");
+            images.add(image);
+        }
+        return images;
+    }
+}
@@ -0,0 +1,85 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.JpaBenchmarkContext;
+import com.choi.springmall2.domain.ImageType;
+import com.choi.springmall2.domain.Role;
+import com.choi.springmall2.domain.dto.ProductDto;
+import com.choi.springmall2.domain.entity.Product;
+import com.choi.springmall2.domain.entity.ProductImage;
+import com.choi.springmall2.domain.entity.User;
+import com.choi.springmall2.repository.ProductImageRepository;
+import com.choi.springmall2.repository.ProductRepository;
+import com.choi.springmall2.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * H2 기준 상품 목록 페이지 조회 + ProductDto 조립 비용 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductServiceBenchmark {
+
+    private static final int PRODUCT_COUNT = 1_000;
+    private static final int CONTENT_IMAGES_PER_PRODUCT = 5;
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+
+    @Setup
+    public void setUp() {
+        context = JpaBenchmarkContext.start();
+        productService = context.getBean(ProductService.class);
+
+        User seller = new User();
+        seller.setEmail("seller@bench.com");
+        seller.setRole(Role.ROLE_SELLER);
+        seller = context.getBean(UserRepository.class).save(seller);
+
+        ProductRepository productRepository = context.getBean(ProductRepository.class);
+        ProductImageRepository productImageRepository = context.getBean(ProductImageRepository.class);
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            Product product = new Product();
+            product.setTitle("상품" + i);
+            product.setDescription("설명" + i);
+            product.setPrice(1000.0);
+            product.setStock(100);
+            product.setSeller(seller);
+            product = productRepository.save(product);
+
+            List<ProductImage> images = new ArrayList<>();
+            for (int seq = 0; seq <= CONTENT_IMAGES_PER_PRODUCT; seq++) {
+                ProductImage image = new ProductImage();
+                image.setProduct(product);
+                image.setType(seq == 0 ? ImageType.THUMBNAIL : ImageType.CONTENT);
+                image.setSeq(seq);
+                image.setImageName("image" + seq + ".jpg");
+                image.setImageKey(i + "_" + seq + ".jpg");
+                images.add(image);
+            }
+            productImageRepository.batchInsert(images);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<ProductDto> getProductsPage() {
+        return productService.getProductsPage(1, pageSize);
+    }
+}
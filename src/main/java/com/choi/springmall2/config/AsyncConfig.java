@@ -0,0 +1,47 @@
+package com.choi.springmall2.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 상품 등록 시 S3 임시 파일 -> 실제 경로 이동을 병렬로 처리하는 executor.
+     * 동시 이동 수는 스레드 수로 제한하고, 큐가 가득 차면 요청 스레드가 직접 처리하여 자연스럽게 속도를 늦춤
+     */
+    @Bean
+    public ThreadPoolTaskExecutor s3MoveExecutor(@Value("${s3.move.parallelism:16}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(parallelism * 10);
+        executor.setThreadNamePrefix("s3-move-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 메일 outbox 발송 executor. SMTP 응답 대기로 요청 스레드가 묶이지 않도록 분리.
+     * 메일은 이미 DB 에 저장되어 있으므로 큐가 가득 차면 작업을 버리고 MailOutboxDispatchJob 이 다음 주기에 발송
+     */
+    @Bean
+    public ThreadPoolTaskExecutor mailExecutor(@Value("${mail.outbox.threads:2}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("mail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
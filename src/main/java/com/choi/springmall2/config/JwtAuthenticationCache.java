@@ -0,0 +1,90 @@
+package com.choi.springmall2.config;
+
+import com.choi.springmall2.domain.vo.TokenValidationResultVo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검증이 끝난 액세스 토큰의 Authentication 캐시.
+ * 같은 토큰으로 들어온 요청은 서명 검증과 JSON 파싱을 생략하고 이전 검증 결과를 재사용함.
+ * key 는 토큰의 SHA-256 해시이고, 각 항목은 토큰 자체의 exp 까지만 유효함.
+ * 가득 찬 뒤의 만료 항목 정리는 전체 항목을 훑으므로 PURGE_INTERVAL_MILLIS 마다 한 스레드만 수행함.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    static final long PURGE_INTERVAL_MILLIS = 1000;
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final int maxSize;
+    private final Map<String, TokenValidationResultVo> cache = new ConcurrentHashMap<>();
+    private final AtomicLong nextPurgeAt = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter purgeCounter;
+
+    public JwtAuthenticationCache(JwtTokenProvider jwtTokenProvider,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${jwt.auth-cache.max-size:10000}") int maxSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.maxSize = maxSize;
+        this.hitCounter = meterRegistry.counter("jwt.auth.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("jwt.auth.cache", "result", "miss");
+        this.purgeCounter = meterRegistry.counter("jwt.auth.cache.purge");
+        Gauge.builder("jwt.auth.cache.size", cache, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 토큰 검증 결과를 반환. 캐시에 없거나 만료된 경우에만 토큰을 검증하고 파싱함
+     * @param token 액세스 토큰
+     * @return 검증 결과. 유효한 결과만 캐시함
+     */
+    public TokenValidationResultVo verify(String token) {
+        String cacheKey = JwtTokenProvider.hashToken(token);
+        long now = System.currentTimeMillis();
+
+        TokenValidationResultVo cached = cache.get(cacheKey);
+        if (cached != null) {
+            if (cached.expiresAt() > now) {
+                hitCounter.increment();
+                return cached;
+            }
+            cache.remove(cacheKey, cached); // 만료된 토큰은 아래에서 다시 검증하여 EXPIRED 반환
+        }
+
+        missCounter.increment();
+        TokenValidationResultVo result = jwtTokenProvider.verify(token);
+        if (result.isValid()) {
+            put(cacheKey, result, now);
+        }
+        return result;
+    }
+
+    private void put(String cacheKey, TokenValidationResultVo result, long now) {
+        if (cache.size() >= maxSize) {
+            // 가득 찬 경우 만료된 항목부터 정리. 새 토큰이 몰려도 요청마다 전체를 훑지 않도록 정리 주기를 제한
+            purgeExpired(now);
+            if (cache.size() >= maxSize) {
+                return; // 그래도 가득 차 있으면 이번 토큰은 캐시하지 않음
+            }
+        }
+        cache.put(cacheKey, result);
+    }
+
+    private void purgeExpired(long now) {
+        long scheduled = nextPurgeAt.get();
+        if (now < scheduled || !nextPurgeAt.compareAndSet(scheduled, now + PURGE_INTERVAL_MILLIS)) {
+            return; // 정리 주기가 안 되었거나 다른 스레드가 정리 중
+        }
+        purgeCounter.increment();
+        cache.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
+}
@@ -1,5 +1,8 @@
 package com.choi.springmall2.config;
 
+import com.choi.springmall2.domain.TokenFailureReason;
+import com.choi.springmall2.domain.vo.TokenPairVo;
+import com.choi.springmall2.domain.vo.TokenValidationResultVo;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -7,59 +10,75 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final RefreshTokenRotator refreshTokenRotator;
+    private final RequestMatcher anonymousApiMatcher; // 토큰 파싱과 재발급을 생략할 익명 API (SecurityConfig.anonymousApiMatcher)
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, JwtAuthenticationCache jwtAuthenticationCache, RefreshTokenRotator refreshTokenRotator,
+                                   RequestMatcher anonymousApiMatcher) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.jwtAuthenticationCache = jwtAuthenticationCache;
+        this.refreshTokenRotator = refreshTokenRotator;
+        this.anonymousApiMatcher = anonymousApiMatcher;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return anonymousApiMatcher.matches(request);
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         try {
             String accessToken = getCookieValue(request, JwtTokenProvider.ACCESS_TOKEN_COOKIE_NAME);
+            // 이미 검증한 토큰은 캐시된 검증 결과를 재사용
+            TokenValidationResultVo accessResult = accessToken != null ? jwtAuthenticationCache.verify(accessToken) : null;
 
-            // 액세스 토큰이 존재하고 만료되지 않은 경우
-            if (accessToken != null && jwtTokenProvider.validateToken(accessToken)) {
-                Authentication authentication = jwtTokenProvider.getAuthentication(accessToken);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (accessResult != null && accessResult.isValid()) { // 액세스 토큰이 존재하고 만료되지 않은 경우
+                SecurityContextHolder.getContext().setAuthentication(accessResult.authentication());
+            } else if (accessResult != null && accessResult.failureReason() != TokenFailureReason.EXPIRED) { // 위조되거나 손상된 액세스 토큰
+                handleErrorResponse(request, response, "인증 토큰 처리 중 오류가 발생했습니다.", accessResult.failureReason().name(), 401);
+                return;
             } else { // 액세스 토큰이 없거나 만료된 경우
                 String refreshToken = getCookieValue(request, JwtTokenProvider.REFRESH_TOKEN_COOKIE_NAME);
 
-                if (refreshToken != null && jwtTokenProvider.validateToken(refreshToken)) {
-                    try {
-                        // 리프레시 토큰이 유효한 경우
-                        Authentication authentication = jwtTokenProvider.getAuthentication(refreshToken);
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
-
-                        // 새로운 액세스 토큰 발급
-                        String newAccessToken = jwtTokenProvider.createAccessToken(authentication);
-                        Cookie newAccessCookie = new Cookie(JwtTokenProvider.ACCESS_TOKEN_COOKIE_NAME, newAccessToken);
-                        newAccessCookie.setHttpOnly(true);
-                        newAccessCookie.setPath("/");
-                        newAccessCookie.setMaxAge((int) JwtTokenProvider.ACCESS_TOKEN_VALID_TIME);
-                        response.addCookie(newAccessCookie);
-
-                        // 새로운 리프레시 토큰 발급
-                        String newRefreshToken = jwtTokenProvider.createRefreshToken(authentication);
-                        Cookie newRefreshCookie = new Cookie(JwtTokenProvider.REFRESH_TOKEN_COOKIE_NAME, newRefreshToken);
-                        newRefreshCookie.setHttpOnly(true);
-                        newRefreshCookie.setPath("/");
-                        newRefreshCookie.setMaxAge((int) JwtTokenProvider.REFRESH_TOKEN_VALID_TIME);
-                        response.addCookie(newRefreshCookie);
-                    } catch (Exception e) {
-                        handleErrorResponse(request, response, "세션이 만료되었습니다. 다시 로그인해주세요.", e, 401);
+                if (refreshToken != null) {
+                    TokenValidationResultVo refreshResult = jwtTokenProvider.verify(refreshToken);
+                    if (!refreshResult.isValid()) {
+                        handleErrorResponse(request, response, "세션이 만료되었습니다. 다시 로그인해주세요.", refreshResult.failureReason().name(), 401);
                         return;
                     }
+
+                    // 리프레시 토큰이 유효한 경우
+                    Authentication authentication = refreshResult.authentication();
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+
+                    // 새로운 액세스/리프레시 토큰 발급. 같은 리프레시 토큰의 동시 요청은 한 번만 발급하여 공유
+                    TokenPairVo newTokens = refreshTokenRotator.rotate(refreshToken, authentication);
+
+                    Cookie newAccessCookie = new Cookie(JwtTokenProvider.ACCESS_TOKEN_COOKIE_NAME, newTokens.accessToken());
+                    newAccessCookie.setHttpOnly(true);
+                    newAccessCookie.setPath("/");
+                    newAccessCookie.setMaxAge((int) JwtTokenProvider.ACCESS_TOKEN_VALID_TIME);
+                    response.addCookie(newAccessCookie);
+
+                    Cookie newRefreshCookie = new Cookie(JwtTokenProvider.REFRESH_TOKEN_COOKIE_NAME, newTokens.refreshToken());
+                    newRefreshCookie.setHttpOnly(true);
+                    newRefreshCookie.setPath("/");
+                    newRefreshCookie.setMaxAge((int) JwtTokenProvider.REFRESH_TOKEN_VALID_TIME);
+                    response.addCookie(newRefreshCookie);
                 }
             }
         } catch (Exception e) {
             logger.error("토큰 처리 중 예외 발생: "+ e.getMessage());
-            handleErrorResponse(request, response, "인증 토큰 처리 중 오류가 발생했습니다.", e, 401);
+            handleErrorResponse(request, response, "인증 토큰 처리 중 오류가 발생했습니다.", e.getClass().getSimpleName(), 401);
             return;
         }
 
@@ -79,9 +98,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     // 인증 인가 관련 오류는 필터라서 ControlAdvice 에서 처리 불가능함. 그래서 따로 처리.
-    private void handleErrorResponse(HttpServletRequest request, HttpServletResponse response, String message, Exception e, int statusCode) throws ServletException, IOException {
+    private void handleErrorResponse(HttpServletRequest request, HttpServletResponse response, String message, String exception, int statusCode) throws ServletException, IOException {
         request.setAttribute("message", message);
-        request.setAttribute("exception", e.getClass().getSimpleName());
+        request.setAttribute("exception", exception);
         request.setAttribute("status", statusCode);
         request.setAttribute("path", request.getRequestURI());
         response.setStatus(statusCode);
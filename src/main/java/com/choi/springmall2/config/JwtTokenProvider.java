@@ -1,9 +1,12 @@
 package com.choi.springmall2.config;
 
 import com.choi.springmall2.domain.CustomUser;
+import com.choi.springmall2.domain.TokenFailureReason;
+import com.choi.springmall2.domain.vo.TokenValidationResultVo;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import jakarta.annotation.PostConstruct;
 import lombok.Setter;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,6 +17,10 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,6 +32,9 @@ public class JwtTokenProvider {
     @Value("${jwt.secret}")
     private String jwtSecretKey;
     private SecretKey key;
+    private JwtParser jwtParser; // 불변 + thread-safe 이므로 한 번만 생성하여 재사용
+    private JwtParser verifyingParser; // verify 전용. exp / nbf 는 직접 비교하므로 허용 오차를 최대로 두어 ExpiredJwtException 이 생성되지 않게 함
+    private static final long UNCHECKED_CLOCK_SKEW_SECONDS = Long.MAX_VALUE / 1000 / 1000; // 약 29만 년. 현재 시각 ± 오차 계산이 overflow 되지 않는 범위
     public static final long ACCESS_TOKEN_VALID_TIME = 60 * 5; // 액세스 토큰 유효 기간. 5분
     public static final long REFRESH_TOKEN_VALID_TIME = 60 * 60 * 24 * 7; // 리프레시 토큰 유효 기간. 7일
     public static final String ACCESS_TOKEN_COOKIE_NAME = "access_token";
@@ -33,6 +43,8 @@ public class JwtTokenProvider {
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecretKey));
+        this.jwtParser = Jwts.parser().verifyWith(key).build();
+        this.verifyingParser = Jwts.parser().verifyWith(key).clockSkewSeconds(UNCHECKED_CLOCK_SKEW_SECONDS).build();
     }
 
     // Access 토큰 생성
@@ -78,27 +90,67 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    // 토큰 유효기간 검증
+    // 토큰 유효기간 검증. 만료 여부는 파싱 시 jjwt 가 검사함
     public boolean validateToken(String token) {
-        Claims claims = extractToken(token);
-        if (claims.getExpiration().before(new Date())) {
-            throw new JwtException("로그인 유효기간이 만료되었습니다.");
-        }
+        extractToken(token);
         return true;
     }
 
+    /**
+     * 토큰을 한 번만 파싱하여 서명과 유효기간을 검증하고 인증 정보를 추출
+     * 만료는 매 요청마다 발생하는 흐름이므로 (만료 결과는 캐시되지 않고, 리프레시 토큰은 캐시하지 않음)
+     * jjwt 의 만료 예외 대신 exp / nbf 를 현재 시각과 직접 비교하여 실패 사유로 반환함
+     * @param token 액세스 또는 리프레시 토큰
+     * @return 검증 결과 (성공 시 인증 정보와 만료 시각, 실패 시 실패 사유)
+     */
+    public TokenValidationResultVo verify(String token) {
+        if (token == null || token.isBlank()) {
+            return TokenValidationResultVo.failure(TokenFailureReason.MALFORMED);
+        }
+
+        Claims claims;
+        try {
+            claims = verifyingParser.parseSignedClaims(token).getPayload();
+        } catch (UnsupportedJwtException e) {
+            return TokenValidationResultVo.failure(TokenFailureReason.UNSUPPORTED);
+        } catch (SignatureException e) {
+            return TokenValidationResultVo.failure(TokenFailureReason.INVALID_SIGNATURE);
+        } catch (JwtException | IllegalArgumentException e) {
+            return TokenValidationResultVo.failure(TokenFailureReason.MALFORMED);
+        }
+
+        long now = System.currentTimeMillis();
+        Date expiration = claims.getExpiration();
+        if (expiration == null || expiration.getTime() <= now) { // 만료 시각이 없는 토큰은 발급하지 않으므로 받지 않음
+            return TokenValidationResultVo.failure(TokenFailureReason.EXPIRED);
+        }
+        Date notBefore = claims.getNotBefore();
+        if (notBefore != null && notBefore.getTime() > now) { // 아직 사용할 수 없는 토큰. jjwt 의 PrematureJwtException 과 같은 처리
+            return TokenValidationResultVo.failure(TokenFailureReason.MALFORMED);
+        }
+
+        try {
+            return TokenValidationResultVo.valid(getAuthentication(claims, token), expiration.getTime());
+        } catch (RuntimeException e) { // 서명은 맞지만 필요한 클레임이 없거나 형식이 다른 경우
+            return TokenValidationResultVo.failure(TokenFailureReason.MALFORMED);
+        }
+    }
+
     // Access 토큰에서 인증 정보 추출
     public Authentication getAuthentication(String token) {
-        Claims claims = extractToken(token);
+        return getAuthentication(extractToken(token), token);
+    }
 
+    // 이미 검증된 Claims 에서 인증 정보 추출 (토큰을 다시 파싱하지 않음)
+    public Authentication getAuthentication(Claims claims, String token) {
         int id = Integer.parseInt(claims.getSubject());
         String username = claims.get("email", String.class); // 이메일 추출
         String nickname = claims.get("nickname", String.class); // 닉네임 추출
-        List<String> roles = claims.get("roles", List.class); // 권한 목록 추출
+        List<?> roles = claims.get("roles", List.class); // 권한 목록 추출
 
-        // 권한을 SimpleGrantedAuthority로 변환
+        // 권한을 SimpleGrantedAuthority로 변환. 문자열이 아니면 ClassCastException (잘못된 토큰)
         List<GrantedAuthority> authorities = roles.stream()
-                .map(SimpleGrantedAuthority::new)
+                .map(role -> new SimpleGrantedAuthority((String) role))
                 .collect(Collectors.toList());
 
         // CustomUser 생성 (비밀번호는 토큰에 포함되지 않음)
@@ -109,8 +161,7 @@ public class JwtTokenProvider {
     // 토큰에서 데이터 추출
     public Claims extractToken(String token) throws JwtException {
         try {
-            return Jwts.parser().verifyWith(key).build()
-                    .parseSignedClaims(token).getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             throw new JwtException("토큰이 만료되었습니다.");
         } catch (UnsupportedJwtException e) {
@@ -121,4 +172,14 @@ public class JwtTokenProvider {
             throw new JwtException("서명 불일치");
         }
     }
+
+    // 토큰 원문 대신 메모리 캐시 key 로 사용할 SHA-256 해시
+    public static String hashToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
 }
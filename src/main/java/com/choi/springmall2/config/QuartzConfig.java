@@ -1,7 +1,15 @@
 package com.choi.springmall2.config;
 
+import com.choi.springmall2.job.EventOutboxPurgeJob;
+import com.choi.springmall2.job.FlashSaleOrderDrainJob;
+import com.choi.springmall2.job.FlashSaleStockReconcileJob;
+import com.choi.springmall2.job.MailOutboxDispatchJob;
+import com.choi.springmall2.job.MailOutboxPurgeJob;
+import com.choi.springmall2.job.OutboxEventDispatchJob;
+import com.choi.springmall2.job.PasswordResetTokenPurgeJob;
 import com.choi.springmall2.job.TempFileCleanupJob;
 import org.quartz.*;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -27,4 +35,153 @@ public class QuartzConfig {
                 .withSchedule(schedule)
                 .build();
     }
+
+    @Bean
+    public JobDetail flashSaleOrderDrainJobDetail() {
+        return JobBuilder.newJob(FlashSaleOrderDrainJob.class)
+                .withIdentity("flashSaleOrderDrainJob")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger flashSaleOrderDrainTrigger() {
+        // 1초마다. 접수된 주문이 DB 에 저장되기까지의 지연
+        SimpleScheduleBuilder schedule = SimpleScheduleBuilder.repeatSecondlyForever(1)
+                .withMisfireHandlingInstructionNextWithRemainingCount();
+
+        return TriggerBuilder.newTrigger()
+                .forJob(flashSaleOrderDrainJobDetail())
+                .withIdentity("flashSaleOrderDrainTrigger")
+                .withSchedule(schedule)
+                .build();
+    }
+
+    @Bean
+    public JobDetail flashSaleStockReconcileJobDetail() {
+        return JobBuilder.newJob(FlashSaleStockReconcileJob.class)
+                .withIdentity("flashSaleStockReconcileJob")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger flashSaleStockReconcileTrigger() {
+        // 30초마다 Redis 남은 재고를 DB 에 반영
+        SimpleScheduleBuilder schedule = SimpleScheduleBuilder.repeatSecondlyForever(30)
+                .withMisfireHandlingInstructionNextWithRemainingCount();
+
+        return TriggerBuilder.newTrigger()
+                .forJob(flashSaleStockReconcileJobDetail())
+                .withIdentity("flashSaleStockReconcileTrigger")
+                .withSchedule(schedule)
+                .build();
+    }
+
+    @Bean
+    public JobDetail mailOutboxDispatchJobDetail() {
+        return JobBuilder.newJob(MailOutboxDispatchJob.class)
+                .withIdentity("mailOutboxDispatchJob")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger mailOutboxDispatchTrigger() {
+        // 10초마다 재시도 대상 메일 발송. 신규 메일은 저장 직후 mailExecutor 에서 바로 발송됨
+        SimpleScheduleBuilder schedule = SimpleScheduleBuilder.repeatSecondlyForever(10)
+                .withMisfireHandlingInstructionNextWithRemainingCount();
+
+        return TriggerBuilder.newTrigger()
+                .forJob(mailOutboxDispatchJobDetail())
+                .withIdentity("mailOutboxDispatchTrigger")
+                .withSchedule(schedule)
+                .build();
+    }
+
+    @Bean
+    public JobDetail mailOutboxPurgeJobDetail() {
+        return JobBuilder.newJob(MailOutboxPurgeJob.class)
+                .withIdentity("mailOutboxPurgeJob")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger mailOutboxPurgeTrigger() {
+        // 1시간마다 보관 기간이 지난 발송 완료 메일 삭제
+        SimpleScheduleBuilder schedule = SimpleScheduleBuilder.repeatSecondlyForever(3600)
+                .withMisfireHandlingInstructionNextWithRemainingCount();
+
+        return TriggerBuilder.newTrigger()
+                .forJob(mailOutboxPurgeJobDetail())
+                .withIdentity("mailOutboxPurgeTrigger")
+                .withSchedule(schedule)
+                .build();
+    }
+
+    @Bean
+    public JobDetail outboxEventDispatchJobDetail() {
+        return JobBuilder.newJob(OutboxEventDispatchJob.class)
+                .withIdentity("outboxEventDispatchJob")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger outboxEventDispatchTrigger() {
+        // 1초마다 outbox 이벤트 처리. 이벤트 저장부터 처리까지의 최대 지연
+        SimpleScheduleBuilder schedule = SimpleScheduleBuilder.repeatSecondlyForever(1)
+                .withMisfireHandlingInstructionNextWithRemainingCount();
+
+        return TriggerBuilder.newTrigger()
+                .forJob(outboxEventDispatchJobDetail())
+                .withIdentity("outboxEventDispatchTrigger")
+                .withSchedule(schedule)
+                .build();
+    }
+
+    @Bean
+    public JobDetail eventOutboxPurgeJobDetail() {
+        return JobBuilder.newJob(EventOutboxPurgeJob.class)
+                .withIdentity("eventOutboxPurgeJob")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger eventOutboxPurgeTrigger() {
+        // 1시간마다 보관 기간이 지난 처리 완료 이벤트 삭제
+        SimpleScheduleBuilder schedule = SimpleScheduleBuilder.repeatSecondlyForever(3600)
+                .withMisfireHandlingInstructionNextWithRemainingCount();
+
+        return TriggerBuilder.newTrigger()
+                .forJob(eventOutboxPurgeJobDetail())
+                .withIdentity("eventOutboxPurgeTrigger")
+                .withSchedule(schedule)
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "password-reset.token-store", havingValue = "jpa")
+    public JobDetail passwordResetTokenPurgeJobDetail() {
+        return JobBuilder.newJob(PasswordResetTokenPurgeJob.class)
+                .withIdentity("passwordResetTokenPurgeJob")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "password-reset.token-store", havingValue = "jpa")
+    public Trigger passwordResetTokenPurgeTrigger() {
+        // 10분마다 만료된 비밀번호 초기화 토큰 삭제. 테이블에는 최근 발급된 토큰만 남음
+        SimpleScheduleBuilder schedule = SimpleScheduleBuilder.repeatSecondlyForever(600)
+                .withMisfireHandlingInstructionNextWithRemainingCount();
+
+        return TriggerBuilder.newTrigger()
+                .forJob(passwordResetTokenPurgeJobDetail())
+                .withIdentity("passwordResetTokenPurgeTrigger")
+                .withSchedule(schedule)
+                .build();
+    }
 }
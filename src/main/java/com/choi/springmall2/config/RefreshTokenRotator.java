@@ -0,0 +1,81 @@
+package com.choi.springmall2.config;
+
+import com.choi.springmall2.domain.vo.TokenPairVo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리프레시 토큰 재발급 single-flight.
+ * 액세스 토큰 만료 직후 한 페이지의 여러 요청이 동시에 같은 리프레시 토큰으로 재발급을 시도하면,
+ * 처음 요청만 새 토큰 쌍을 서명하고 window 안에 들어온 나머지 요청은 같은 토큰 쌍을 공유함.
+ */
+@Component
+public class RefreshTokenRotator {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final long windowMillis;
+    private final Map<String, Rotation> rotations = new ConcurrentHashMap<>(); // key : 리프레시 토큰 해시
+
+    private final Counter mintedCounter;
+    private final Counter sharedCounter;
+
+    public RefreshTokenRotator(JwtTokenProvider jwtTokenProvider,
+                               MeterRegistry meterRegistry,
+                               @Value("${jwt.refresh.single-flight-window-millis:3000}") long windowMillis) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.windowMillis = windowMillis;
+        this.mintedCounter = meterRegistry.counter("jwt.refresh.rotation", "result", "minted");
+        this.sharedCounter = meterRegistry.counter("jwt.refresh.rotation", "result", "shared");
+    }
+
+    /**
+     * 검증된 리프레시 토큰으로 새 액세스/리프레시 토큰 쌍을 발급. 같은 리프레시 토큰의 동시 요청은 한 번만 서명함
+     * @param refreshToken 요청에 담긴 (검증된) 리프레시 토큰
+     * @param authentication 리프레시 토큰에서 추출한 인증 정보
+     * @return 새 토큰 쌍
+     */
+    public TokenPairVo rotate(String refreshToken, Authentication authentication) {
+        String key = JwtTokenProvider.hashToken(refreshToken);
+        long now = System.currentTimeMillis();
+        Rotation mine = new Rotation(new CompletableFuture<>(), now);
+
+        Rotation current = rotations.compute(key, (k, existing) ->
+                existing != null && now - existing.startedAt() < windowMillis ? existing : mine);
+
+        if (current != mine) { // 다른 요청이 이미 발급 중이거나 발급한 경우
+            sharedCounter.increment();
+            try {
+                return current.tokens().join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            TokenPairVo tokens = new TokenPairVo(
+                    jwtTokenProvider.createAccessToken(authentication),
+                    jwtTokenProvider.createRefreshToken(authentication));
+            mine.tokens().complete(tokens);
+            mintedCounter.increment();
+            return tokens;
+        } catch (RuntimeException e) {
+            mine.tokens().completeExceptionally(e);
+            rotations.remove(key, mine);
+            throw e;
+        } finally {
+            // window 가 지난 항목 정리
+            rotations.values().removeIf(rotation -> now - rotation.startedAt() >= windowMillis);
+        }
+    }
+
+    private record Rotation(CompletableFuture<TokenPairVo> tokens, long startedAt) {
+    }
+}
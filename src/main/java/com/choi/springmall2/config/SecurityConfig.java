@@ -3,17 +3,26 @@ package com.choi.springmall2.config;
 import com.choi.springmall2.error.handler.JwtAccessDeniedHandler;
 import com.choi.springmall2.error.handler.JwtAuthenticationEntryPoint;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.MvcRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.servlet.handler.HandlerMappingIntrospector;
+
+import java.util.Arrays;
 
 @Configuration
 @RequiredArgsConstructor
@@ -22,20 +31,55 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final RefreshTokenRotator refreshTokenRotator;
+
+    // 인증 정보를 사용하지 않는 익명 API. permitAll 이면서 JwtAuthenticationFilter 도 토큰 파싱과 재발급을 생략함
+    // (화면은 navbar 가 로그인 여부를 표시하므로 공개 페이지라도 필터를 거침)
+    private static final String[] ANONYMOUS_API_PATHS = {
+            "/api/login", "/api/register", "/api/check-email-duplication", "/api/check-email-exists"
+    };
+
+    // 인가 규칙과 JWT 필터가 같은 matcher 를 사용하도록 한 곳에서 생성
+    static RequestMatcher anonymousApiMatcher(HandlerMappingIntrospector introspector) {
+        MvcRequestMatcher.Builder mvc = new MvcRequestMatcher.Builder(introspector);
+        return new OrRequestMatcher(Arrays.stream(ANONYMOUS_API_PATHS)
+                .map(path -> (RequestMatcher) mvc.pattern(path))
+                .toList());
+    }
+
+    // 정적 리소스 (/css/**, /js/**, /images/**, /favicon.ico 등) 전용 필터 체인. JWT 필터와 SecurityContext 처리를 거치지 않음
+    @Bean
+    @Order(1)
+    public SecurityFilterChain staticResourceFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher(PathRequest.toStaticResources().atCommonLocations())
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                .csrf(csrf -> csrf.disable())
+                .requestCache(cache -> cache.disable())
+                .securityContext(context -> context.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+        ;
+
+        return http.build();
+    }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    @Order(2)
+    public SecurityFilterChain filterChain(HttpSecurity http, HandlerMappingIntrospector introspector) throws Exception {
+        RequestMatcher anonymousApiMatcher = anonymousApiMatcher(introspector);
         http
                 .authorizeHttpRequests(auth -> auth
                         // JWT 인증 불필요한 URL
+                        .requestMatchers(anonymousApiMatcher).permitAll()
                         .requestMatchers("/", "/product/**", "/signup", "/forgotPassword", "/request-password-reset-by-email", "/login", "/logout", "/reset-password", "/reset-password-post"
-                                , "/api/login", "/api/register", "/api/check-email-duplication", "/api/check-email-exists", "/api/refresh-token"
+                                , "/api/refresh-token"
                                 , "/error", "/error/custom", "/error/error"
                         )
                         .permitAll()
-                        // 정적 리소스 경로 허용
-                        .requestMatchers("/js/**", "/css/**", "/images/**") // 정적 리소스 경로
-                        .permitAll()
+                        // Actuator : health 는 기존처럼 로그인 사용자, 나머지 (metrics 등 내부 지표) 는 관리자만
+                        .requestMatchers("/actuator/health", "/actuator/health/**").authenticated()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated() // 모든 요청 검증 필요
                 )
 
@@ -51,7 +95,7 @@ public class SecurityConfig {
                 .logout(logout -> logout.disable())// 기본 로그아웃 폼 비활성화. JWT 사용 시 필요 없음.
         ;
 
-        http.addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, jwtAuthenticationCache, refreshTokenRotator, anonymousApiMatcher), UsernamePasswordAuthenticationFilter.class);
 
 
 
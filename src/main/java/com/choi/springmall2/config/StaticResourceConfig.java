@@ -0,0 +1,29 @@
+package com.choi.springmall2.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 운영 환경 정적 리소스 설정. spring.web.resources.chain.enabled=true 인 경우에만 적용 (application-prod.properties)
+ * /js/** 는 내용 해시가 포함된 URL (예: /js/product/list-{md5}.js) 로 제공하므로 내용이 바뀌면 URL 도 바뀜. 따라서 1년 immutable 캐시 적용.
+ * 템플릿의 @{/js/...} 링크는 Spring Boot 가 등록하는 ResourceUrlEncodingFilter 가 해시 URL 로 변환함
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.web.resources.chain.enabled", havingValue = "true")
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/js/**")
+                .addResourceLocations("classpath:/static/js/")
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .resourceChain(true) // 해시 계산 결과 캐시
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+}
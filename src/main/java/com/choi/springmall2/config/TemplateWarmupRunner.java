@@ -0,0 +1,64 @@
+package com.choi.springmall2.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafProperties;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 템플릿 캐시가 켜진 경우 (운영) 기동 시 모든 템플릿을 한 번씩 렌더링하여 파싱 결과를 캐시에 올려둠.
+ * 모델 값이 없으므로 렌더링 중 예외가 나는 템플릿이 있지만, 파싱된 템플릿은 처리 전에 캐시되므로 예외는 무시함
+ */
+@Component
+@ConditionalOnProperty(name = "spring.thymeleaf.cache", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class TemplateWarmupRunner implements ApplicationRunner {
+
+    private final ITemplateEngine templateEngine;
+    private final ThymeleafProperties thymeleafProperties;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        long start = System.currentTimeMillis();
+        List<String> templateNames = findTemplateNames();
+
+        for (String templateName : templateNames) {
+            try {
+                templateEngine.process(templateName, new Context(), Writer.nullWriter());
+            } catch (Exception e) {
+                log.debug("템플릿 예열 중 렌더링 실패 (파싱 결과는 캐시됨). template={}, {}", templateName, e.getMessage());
+            }
+        }
+
+        log.info("템플릿 예열 완료. count={}, elapsed={}ms", templateNames.size(), System.currentTimeMillis() - start);
+    }
+
+    // prefix 아래의 모든 템플릿 파일을 ViewResolver 가 사용하는 이름 (예: product/list) 으로 변환
+    List<String> findTemplateNames() throws IOException {
+        ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        String prefix = thymeleafProperties.getPrefix();
+        String suffix = thymeleafProperties.getSuffix();
+        String baseUrl = resolver.getResource(prefix).getURL().toString();
+
+        List<String> templateNames = new ArrayList<>();
+        for (Resource resource : resolver.getResources(prefix + "**/*" + suffix)) {
+            String url = resource.getURL().toString();
+            templateNames.add(url.substring(baseUrl.length(), url.length() - suffix.length()));
+        }
+        return templateNames;
+    }
+}
@@ -1,24 +1,40 @@
 package com.choi.springmall2.controller;
 
 import com.choi.springmall2.domain.CustomUser;
+import com.choi.springmall2.domain.dto.ProductCursorPageDto;
 import com.choi.springmall2.domain.dto.ProductDto;
+import com.choi.springmall2.domain.vo.FileMoveResultVo;
 import com.choi.springmall2.domain.vo.FileVo;
+import com.choi.springmall2.error.exceptions.S3FileOperationException;
+import com.choi.springmall2.service.ProductListCacheService;
 import com.choi.springmall2.service.ProductService;
 import com.choi.springmall2.service.RedisFileKeyService;
 import com.choi.springmall2.service.S3Service;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.WebContext;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Controller
@@ -31,6 +47,8 @@ public class ProductController {
     private final ProductService productService;
     private final S3Service s3Service;
     private final RedisFileKeyService redisFileKeyService;
+    private final ProductListCacheService productListCacheService;
+    private final ITemplateEngine templateEngine;
 
     @GetMapping("/registerProduct")
     @PreAuthorize("hasRole('SELLER')")
@@ -50,18 +68,28 @@ public class ProductController {
 
             ProductDto savedProductDto = productService.saveProduct(productDto, customUser); // CustomUser 전달
 
+            // 상품 등록 후, 임시 파일을 실제 파일로 이동 (썸네일 + 내용 이미지 병렬 처리)
+            List<String> tempFileKeys = new ArrayList<>();
             FileVo thumbnailImage = productDto.getThumbnailImage();
             if (thumbnailImage != null) {
-                s3Service.moveFromTemp(thumbnailImage.fileKey()); // 상품 등록 후, 임시 파일을 실제 파일로 이동
+                tempFileKeys.add(thumbnailImage.fileKey());
             }
 
             List<FileVo> contentImages = productDto.getContentImages();
             if (contentImages != null) {
                 for (FileVo tempContentImage : contentImages) {
-                    s3Service.moveFromTemp(tempContentImage.fileKey()); // 상품 등록 후, 임시 파일을 실제 파일로 이동
+                    tempFileKeys.add(tempContentImage.fileKey());
                 }
             }
 
+            List<String> failedKeys = s3Service.moveFromTempAll(tempFileKeys).stream()
+                    .filter(result -> !result.success())
+                    .map(FileMoveResultVo::fileKey)
+                    .toList();
+            if (!failedKeys.isEmpty()) {
+                throw new S3FileOperationException("임시 파일 이동 실패: " + failedKeys);
+            }
+
             return ResponseEntity.ok(savedProductDto);
         } catch (Exception e) {
             log.error("상품 등록 중 오류 발생", e); // 스택트레이스를 로그에 포함
@@ -90,28 +118,88 @@ public class ProductController {
         return ResponseEntity.ok("파일 키 저장 성공");
     }
 
-    // 상품 목록 조회
+    // 상품 목록 조회. cursor 파라미터가 있으면 커서 기반으로 조회 (첫 페이지는 cursor= 빈 값)
     @GetMapping("/product/list")
-    public String getProductList(Model model,
+    public String getProductList(Model model, HttpServletRequest request, HttpServletResponse response, WebRequest webRequest,
+                                 @AuthenticationPrincipal CustomUser customUser,
                                  @RequestParam(value = "page", defaultValue = "1") int page,
-                                 @RequestParam(value = "size", defaultValue = "10") int size) {
+                                 @RequestParam(value = "size", defaultValue = "10") int size,
+                                 @RequestParam(value = "cursor", required = false) String cursor,
+                                 @RequestParam(value = "count", defaultValue = "false") boolean withCount) {
+        // 캐시 키와 ETag 에 요청 값이 그대로 들어가지 않도록 먼저 보정
+        int pageSize = ProductService.clampPageSize(size);
+        int pageNumber = Math.max(page, 1);
+
+        // 목록은 상품이 등록될 때만 바뀌므로 카탈로그 버전으로 조건부 요청 처리. 변경이 없으면 조회/렌더링 없이 304 반환
+        Long catalogVersion = productListCacheService.getCatalogVersion();
+        if (catalogVersion != null) {
+            setRevalidateHeaders(response);
+            String etag = "list-" + catalogVersion + "-" + pageNumber + "-" + pageSize + "-" + cursor + "-" + withCount;
+            if (webRequest.checkNotModified(weakEtag(etag, customUser))) {
+                return null;
+            }
+        }
+
+        if (cursor != null) {
+            ProductCursorPageDto productCursorPage = productService.getProductsByCursor(cursor, pageSize, withCount);
+
+            model.addAttribute("productCursorPage", productCursorPage);
+            model.addAttribute("size", pageSize);
+
+            return "product/list";
+        }
+
+        // 상품 그리드 (목록 + 페이지네이션) 는 사용자와 무관하므로 렌더링된 HTML 을 카탈로그 버전별로 캐시
+        String productGridHtml = productListCacheService.getProductGrid(pageNumber, pageSize,
+                () -> renderProductGrid(pageNumber, pageSize, request, response));
+        model.addAttribute("productGridHtml", productGridHtml);
+
+        return "product/list"; // Thymeleaf 템플릿 (product/list.html)로 반환
+    }
+
+    // 상품 목록을 조회하여 product/list 의 productGrid fragment 만 렌더링
+    private String renderProductGrid(int page, int size, HttpServletRequest request, HttpServletResponse response) {
         // 상품 목록 조회
         Page<ProductDto> productPage = productService.getProductsPage(page, size);
 
-        // 모델에 데이터 추가
-        model.addAttribute("productPage", productPage);
-        model.addAttribute("currentPage", page);
-        model.addAttribute("totalPages", productPage.getTotalPages());
+        // 렌더링 결과를 모든 사용자가 공유하므로 현재 요청의 세션/locale 등이 섞이지 않는 컨텍스트 사용
+        WebContext context = SharedFragmentContext.create(request, response);
+        context.setVariable("productPage", productPage);
+        context.setVariable("currentPage", page);
+        context.setVariable("totalPages", productPage.getTotalPages());
 
-        return "product/list"; // Thymeleaf 템플릿 (product/list.html)로 반환
+        return templateEngine.process("product/list", Set.of("productGrid"), context);
     }
 
     // 상품 상세 조회
     @GetMapping("/product/{id}")
-    public String getProductDetail(@PathVariable int id, Model model) {
+    public String getProductDetail(@PathVariable int id, Model model, HttpServletResponse response, WebRequest webRequest,
+                                   @AuthenticationPrincipal CustomUser customUser) {
+        // 상품 수정 시각으로 조건부 요청 처리. 변경이 없으면 상세 조립/렌더링 없이 304 반환
+        LocalDateTime modifyAt = productService.getProductModifyAt(id);
+        if (modifyAt != null) {
+            setRevalidateHeaders(response);
+            long lastModified = modifyAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            if (webRequest.checkNotModified(weakEtag("product-" + id + "-" + lastModified, customUser), lastModified)) {
+                return null;
+            }
+        }
+
         // 상품 목록 조회
         ProductDto productDto = productService.getProductDetail(id);
         model.addAttribute("product", productDto);
         return "product/detail";
     }
+
+    // navbar 가 로그인 사용자마다 다르므로 ETag 에 사용자를 포함
+    private String weakEtag(String value, CustomUser customUser) {
+        String viewer = customUser == null ? "anonymous" : "u" + customUser.getId();
+        return "W/\"" + value + "-" + viewer + "\"";
+    }
+
+    // 캐시는 하되 매번 재검증하도록 설정 (시큐리티 기본값인 no-store 를 덮어씀). 쿠키 (로그인 사용자) 별로 구분
+    private void setRevalidateHeaders(HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.COOKIE);
+    }
 }
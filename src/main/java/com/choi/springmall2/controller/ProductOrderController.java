@@ -1,13 +1,20 @@
 package com.choi.springmall2.controller;
 
+import com.choi.springmall2.domain.CustomUser;
+import com.choi.springmall2.domain.dto.ProductOrderRequestDto;
+import com.choi.springmall2.domain.dto.ProductOrderResponseDto;
 import com.choi.springmall2.domain.entity.Product;
+import com.choi.springmall2.service.FlashSaleService;
+import com.choi.springmall2.service.ProductOrderService;
 import com.choi.springmall2.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.*;
 
 @Controller
 @RequiredArgsConstructor
@@ -15,6 +22,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 public class ProductOrderController {
 
 //    private final ProductService productService;
+    private final ProductOrderService productOrderService;
+    private final FlashSaleService flashSaleService;
 
     @GetMapping("/productOrder")
     public String productOrder(
@@ -31,4 +40,33 @@ public class ProductOrderController {
         return "productOrder/productOrder";
     }
 
+    // 주문 생성. 네트워크 오류로 재시도해도 중복 주문이 생기지 않도록 Idempotency-Key 헤더 필수
+    @PostMapping("/api/order")
+    @ResponseBody
+    public ResponseEntity<ProductOrderResponseDto> placeOrder(@RequestBody ProductOrderRequestDto productOrderRequestDto,
+                                                              @RequestHeader("Idempotency-Key") String idempotencyKey,
+                                                              @AuthenticationPrincipal CustomUser customUser) {
+        ProductOrderResponseDto productOrder = productOrderService.placeOrder(productOrderRequestDto,
+                customUser.getId(), idempotencyKey);
+        // 플래시 세일로 접수만 된 주문은 202
+        return productOrder.isPending() ? ResponseEntity.accepted().body(productOrder) : ResponseEntity.ok(productOrder);
+    }
+
+    // 플래시 세일 시작. 상품 재고를 Redis 로 옮기고 이후 주문은 Redis 에서 차감
+    @PostMapping("/api/admin/flash-sale/{productId}/open")
+    @PreAuthorize("hasRole('ADMIN')")
+    @ResponseBody
+    public ResponseEntity<Void> openFlashSale(@PathVariable int productId) {
+        flashSaleService.openFlashSale(productId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // 플래시 세일 종료. 남은 재고를 DB 로 되돌림
+    @PostMapping("/api/admin/flash-sale/{productId}/close")
+    @PreAuthorize("hasRole('ADMIN')")
+    @ResponseBody
+    public ResponseEntity<Void> closeFlashSale(@PathVariable int productId) {
+        flashSaleService.closeFlashSale(productId);
+        return ResponseEntity.noContent().build();
+    }
 }
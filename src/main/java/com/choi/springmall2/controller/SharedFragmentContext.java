@@ -0,0 +1,169 @@
+package com.choi.springmall2.controller;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import jakarta.servlet.http.HttpSession;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 여러 사용자가 공유하는 fragment (캐시되는 상품 그리드 등) 렌더링용 Thymeleaf 컨텍스트.
+ * 처음 렌더링을 일으킨 요청의 세션, 파라미터, 헤더, 요청 속성, locale 이 HTML 에 섞이지 않도록
+ * 서블릿 컨텍스트 정보 (context path) 만 원래 요청에서 가져오고 나머지는 비어 있는 요청으로 렌더링함
+ */
+final class SharedFragmentContext {
+
+    static final Locale LOCALE = Locale.KOREA;
+
+    private SharedFragmentContext() {
+    }
+
+    /**
+     * 요청과 무관한 WebContext 생성
+     * @param request 현재 요청. 서블릿 컨텍스트와 context path 만 사용
+     * @param response 현재 응답. 출력에는 사용하지 않음
+     * @return 공유 fragment 렌더링용 컨텍스트
+     */
+    static WebContext create(HttpServletRequest request, HttpServletResponse response) {
+        JakartaServletWebApplication application = JakartaServletWebApplication.buildApplication(request.getServletContext());
+        return new WebContext(application.buildExchange(new NeutralRequest(request), new NeutralResponse(response)), LOCALE);
+    }
+
+    private static class NeutralRequest extends HttpServletRequestWrapper {
+
+        // 렌더링 중 Thymeleaf 가 설정하는 속성은 원래 요청이 아닌 이 맵에만 저장
+        private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+        NeutralRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public HttpSession getSession(boolean create) {
+            return null;
+        }
+
+        @Override
+        public HttpSession getSession() {
+            return null;
+        }
+
+        @Override
+        public String getRequestedSessionId() {
+            return null;
+        }
+
+        @Override
+        public boolean isRequestedSessionIdValid() {
+            return false;
+        }
+
+        @Override
+        public Cookie[] getCookies() {
+            return null;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return null;
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return Collections.emptyEnumeration();
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            return Collections.emptyEnumeration();
+        }
+
+        @Override
+        public String getQueryString() {
+            return null;
+        }
+
+        @Override
+        public String getParameter(String name) {
+            return null;
+        }
+
+        @Override
+        public Map<String, String[]> getParameterMap() {
+            return new HashMap<>();
+        }
+
+        @Override
+        public Enumeration<String> getParameterNames() {
+            return Collections.emptyEnumeration();
+        }
+
+        @Override
+        public String[] getParameterValues(String name) {
+            return null;
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            return attributes.get(name);
+        }
+
+        @Override
+        public Enumeration<String> getAttributeNames() {
+            return Collections.enumeration(attributes.keySet());
+        }
+
+        @Override
+        public void setAttribute(String name, Object value) {
+            if (value == null) {
+                attributes.remove(name);
+            } else {
+                attributes.put(name, value);
+            }
+        }
+
+        @Override
+        public void removeAttribute(String name) {
+            attributes.remove(name);
+        }
+
+        @Override
+        public Locale getLocale() {
+            return LOCALE;
+        }
+
+        @Override
+        public Enumeration<Locale> getLocales() {
+            return Collections.enumeration(List.of(LOCALE));
+        }
+    }
+
+    private static class NeutralResponse extends HttpServletResponseWrapper {
+
+        NeutralResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        // 세션 id 가 URL 에 붙지 않도록 URL 을 그대로 반환
+        @Override
+        public String encodeURL(String url) {
+            return url;
+        }
+
+        @Override
+        public String encodeRedirectURL(String url) {
+            return url;
+        }
+    }
+}
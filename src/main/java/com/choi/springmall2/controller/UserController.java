@@ -4,6 +4,8 @@ import com.choi.springmall2.config.JwtTokenProvider;
 import com.choi.springmall2.domain.CustomUser;
 import com.choi.springmall2.domain.dto.*;
 import com.choi.springmall2.error.exceptions.DuplicateUserException;
+import com.choi.springmall2.error.exceptions.ExpiredPasswordResetTokenException;
+import com.choi.springmall2.error.exceptions.InvalidPasswordResetTokenException;
 import com.choi.springmall2.error.exceptions.UserNotFoundException;
 import com.choi.springmall2.service.PasswordResetService;
 import com.choi.springmall2.service.UserService;
@@ -254,16 +256,14 @@ public class UserController {
     @ResponseBody
     public ResponseEntity<?> handlePasswordReset(@RequestParam("token") String token
                                     , @RequestParam("newPassword") String newPassword) {
-        boolean valid = passwordResetService.isValidToken(token);
-        if (!valid) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
-                    Map.of("message", "유효하지 않은 토큰입니다.")
-            );
-        }
-
+        // 토큰 확인과 소비를 한 번에 처리하므로 isValidToken 으로 미리 조회하지 않음
         try {
             passwordResetService.updatePasswordWithToken(token, newPassword);
             return ResponseEntity.ok(Map.of("message", "비밀번호가 성공적으로 변경되었습니다."));
+        } catch (InvalidPasswordResetTokenException | ExpiredPasswordResetTokenException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
+                    Map.of("message", "유효하지 않은 토큰입니다.")
+            );
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
                     Map.of("message", "비밀번호 초기화 중 에러가 발생했습니다.")
@@ -0,0 +1,11 @@
+package com.choi.springmall2.domain;
+
+// 플래시 세일 재고 차감 Lua 스크립트 결과
+public enum FlashSaleReserveResult {
+    ACCEPTED,   // 재고 차감 후 큐에 적재됨
+    DUPLICATE,  // 같은 주문 키로 이미 접수됨
+    REJECTED,   // 같은 주문 키가 다른 주문에 사용되어 접수했던 주문이 저장되지 못함 (재고는 복구됨)
+    SOLD_OUT,   // 재고 부족
+    NOT_ACTIVE, // 플래시 세일 중인 상품이 아님 -> 일반 주문으로 처리
+    UNAVAILABLE // Redis 를 사용할 수 없어 세일 여부를 알 수 없음 -> 일반 주문으로 처리하되 세일 상품이면 재시도 요청
+}
@@ -0,0 +1,26 @@
+package com.choi.springmall2.domain;
+
+import lombok.Getter;
+
+// 상품 이미지 종류. DB 에는 한 글자 코드로 저장
+@Getter
+public enum ImageType {
+    THUMBNAIL('T'),
+    CONTENT('C')
+    ;
+
+    private final char code;
+
+    ImageType(char code) {
+        this.code = code;
+    }
+
+    public static ImageType fromCode(char code) {
+        for (ImageType imageType : values()) {
+            if (imageType.code == code) {
+                return imageType;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 이미지 종류 코드입니다. : " + code);
+    }
+}
@@ -0,0 +1,7 @@
+package com.choi.springmall2.domain;
+
+public enum OutboxStatus {
+    PENDING,   // 처리 대기 (재시도 포함)
+    PROCESSED,
+    FAILED     // 최대 재시도 횟수 초과 또는 처리할 handler 없음
+}
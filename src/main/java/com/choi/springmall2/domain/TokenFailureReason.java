@@ -0,0 +1,19 @@
+package com.choi.springmall2.domain;
+
+import lombok.Getter;
+
+// JWT 검증 실패 사유
+@Getter
+public enum TokenFailureReason {
+    EXPIRED("토큰이 만료되었습니다."),
+    UNSUPPORTED("지원되지 않는 토큰 형식입니다."),
+    MALFORMED("잘못된 토큰 형식입니다."),
+    INVALID_SIGNATURE("서명 불일치")
+    ;
+
+    private final String message;
+
+    TokenFailureReason(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,20 @@
+package com.choi.springmall2.domain.converter;
+
+import com.choi.springmall2.domain.ImageType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// ImageType <-> CHAR(1) 코드 변환. ordinal 과 달리 enum 순서를 바꿔도 저장된 값이 깨지지 않음
+@Converter
+public class ImageTypeConverter implements AttributeConverter<ImageType, Character> {
+
+    @Override
+    public Character convertToDatabaseColumn(ImageType imageType) {
+        return imageType == null ? null : imageType.getCode();
+    }
+
+    @Override
+    public ImageType convertToEntityAttribute(Character code) {
+        return code == null ? null : ImageType.fromCode(code);
+    }
+}
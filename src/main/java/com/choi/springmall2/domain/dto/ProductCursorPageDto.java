@@ -0,0 +1,20 @@
+package com.choi.springmall2.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 상품 목록 조회 결과.
+ * nextCursor 는 다음 페이지 조회 시 그대로 전달하는 불투명 토큰이며, 다음 페이지가 없으면 null.
+ * totalElements 는 전체 개수 조회를 요청한 경우에만 채워짐.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductCursorPageDto {
+    private List<ProductDto> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private Long totalElements;
+}
@@ -0,0 +1,15 @@
+package com.choi.springmall2.domain.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ProductOrderRequestDto {
+    int productId;
+    int quantity;
+    String phoneNumber;
+    String zipCode;
+    String addressLine1;
+    String addressLine2;
+}
@@ -0,0 +1,30 @@
+package com.choi.springmall2.domain.dto;
+
+import com.choi.springmall2.domain.entity.ProductOrder;
+import com.choi.springmall2.domain.vo.FlashSaleOrderVo;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Getter
+@AllArgsConstructor
+public class ProductOrderResponseDto {
+    private Integer orderId; // 플래시 세일로 접수되어 아직 저장되지 않은 주문은 null
+    private int productId;
+    private int quantity;
+    private LocalDateTime orderDate;
+    private boolean pending; // true 면 접수만 된 상태이며 곧 주문으로 저장됨
+
+    public static ProductOrderResponseDto from(ProductOrder productOrder) {
+        return new ProductOrderResponseDto(productOrder.getId(), productOrder.getProduct().getId(),
+                productOrder.getQuantity(), productOrder.getOrder_date(), false);
+    }
+
+    public static ProductOrderResponseDto pending(FlashSaleOrderVo order) {
+        LocalDateTime orderDate = LocalDateTime.ofInstant(Instant.ofEpochMilli(order.orderedAt()), ZoneId.systemDefault());
+        return new ProductOrderResponseDto(null, order.productId(), order.quantity(), orderDate, true);
+    }
+}
@@ -0,0 +1,40 @@
+package com.choi.springmall2.domain.entity;
+
+import com.choi.springmall2.domain.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+public class EventOutbox extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String eventType; // 이벤트 클래스 이름. OutboxEventHandler 를 찾는 키
+
+    @Column(columnDefinition = "TEXT")
+    private String payload; // 이벤트 JSON. 처리 후에는 null (토큰 등 민감한 값이 남지 않도록)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private OutboxStatus status;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 36)
+    private String claimToken;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime processedAt;
+}
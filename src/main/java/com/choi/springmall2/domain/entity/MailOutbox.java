@@ -0,0 +1,43 @@
+package com.choi.springmall2.domain.entity;
+
+import com.choi.springmall2.domain.MailStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+public class MailOutbox extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String body; // 발송 후에는 null (비밀번호 초기화 링크 등이 남지 않도록)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private MailStatus status;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 36)
+    private String claimToken; // 발송 중인 인스턴스 식별용. 같은 메일을 여러 스레드가 동시에 발송하지 않도록 함
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime sentAt;
+}
@@ -17,6 +17,7 @@ public class PasswordResetToken {
     @OneToOne
     private User user;
 
-    private String token;
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash; // 토큰 원문은 메일로만 전달하고 DB 에는 SHA-256 해시만 저장
     private LocalDateTime expiryDate;
 }
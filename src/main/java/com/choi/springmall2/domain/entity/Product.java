@@ -21,7 +21,10 @@ public class Product extends BaseTimeEntity {
     private Double price;
     private Integer stock;
 
-    @ManyToOne
+    // true 인 동안 주문은 Redis 재고 카운터로만 처리 (FlashSaleService)
+    private boolean flashSale;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "seller_id", nullable = false)
     private User seller;
 }
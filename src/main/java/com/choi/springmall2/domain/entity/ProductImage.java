@@ -1,5 +1,7 @@
 package com.choi.springmall2.domain.entity;
 
+import com.choi.springmall2.domain.ImageType;
+import com.choi.springmall2.domain.converter.ImageTypeConverter;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -26,7 +28,8 @@ public class ProductImage extends BaseTimeEntity {
     @Column(nullable = false)
     private String imageName;
 
-    @Column(nullable = false, length = 20)
-    private String type;
+    @Convert(converter = ImageTypeConverter.class)
+    @Column(nullable = false)
+    private ImageType type;
     private int seq = 0;
 }
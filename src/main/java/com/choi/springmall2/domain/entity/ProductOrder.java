@@ -28,4 +28,8 @@ public class ProductOrder extends BaseTimeEntity {
     private String zipCode;
     private String addressLine1;
     private String addressLine2;
+
+    // 클라이언트가 보낸 주문 멱등성 키. 사용자별로 유일
+    @Column(length = 64)
+    private String idempotencyKey;
 }
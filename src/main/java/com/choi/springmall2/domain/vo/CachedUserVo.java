@@ -0,0 +1,15 @@
+package com.choi.springmall2.domain.vo;
+
+import com.choi.springmall2.domain.Role;
+import com.choi.springmall2.domain.entity.User;
+
+import java.time.LocalDateTime;
+
+// 사용자 캐시에 저장하는 불변 스냅샷. 엔티티를 여러 스레드가 공유하지 않도록 필요한 값만 복사
+public record CachedUserVo(int id, String email, String nickname, String password, Role role, LocalDateTime createAt) {
+
+    public static CachedUserVo from(User user) {
+        return new CachedUserVo(user.getId(), user.getEmail(), user.getNickname(), user.getPassword(),
+                user.getRole(), user.getCreateAt());
+    }
+}
@@ -0,0 +1,12 @@
+package com.choi.springmall2.domain.vo;
+
+public record FileMoveResultVo(String fileKey, boolean success, String errorMessage) {
+
+    public static FileMoveResultVo success(String fileKey) {
+        return new FileMoveResultVo(fileKey, true, null);
+    }
+
+    public static FileMoveResultVo failure(String fileKey, String errorMessage) {
+        return new FileMoveResultVo(fileKey, false, errorMessage);
+    }
+}
@@ -0,0 +1,6 @@
+package com.choi.springmall2.domain.vo;
+
+// 플래시 세일로 접수되어 Redis 큐에서 DB 저장을 기다리는 주문
+public record FlashSaleOrderVo(int productId, int userId, int quantity, String idempotencyKey, long orderedAt,
+                               String phoneNumber, String zipCode, String addressLine1, String addressLine2) {
+}
@@ -0,0 +1,11 @@
+package com.choi.springmall2.domain.vo;
+
+import com.choi.springmall2.domain.FlashSaleReserveResult;
+
+/**
+ * 플래시 세일 주문 접수 결과
+ * @param result 접수 결과
+ * @param order 접수된 주문. DUPLICATE 이면 먼저 접수된 주문, SOLD_OUT / NOT_ACTIVE / UNAVAILABLE / REJECTED 이면 null
+ */
+public record FlashSaleReservationVo(FlashSaleReserveResult result, FlashSaleOrderVo order) {
+}
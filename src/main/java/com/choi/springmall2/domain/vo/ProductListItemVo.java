@@ -0,0 +1,11 @@
+package com.choi.springmall2.domain.vo;
+
+// 상품 목록 한 행. 목록 화면에 필요한 컬럼과 썸네일만 조회하여 내용 이미지는 읽지 않음
+public record ProductListItemVo(int id, String title, String description, Double price, Integer stock,
+                                String thumbnailImageKey, String thumbnailImageName) {
+
+    // 썸네일이 없는 상품은 기존 단건 조회와 동일하게 null
+    public FileVo thumbnailImage() {
+        return thumbnailImageKey == null ? null : new FileVo(thumbnailImageName, thumbnailImageKey);
+    }
+}
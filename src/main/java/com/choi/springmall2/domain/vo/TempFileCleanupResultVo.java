@@ -0,0 +1,6 @@
+package com.choi.springmall2.domain.vo;
+
+import java.time.Duration;
+
+public record TempFileCleanupResultVo(long scanned, long deleted, long failed, Duration elapsed) {
+}
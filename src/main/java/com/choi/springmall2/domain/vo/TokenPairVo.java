@@ -0,0 +1,4 @@
+package com.choi.springmall2.domain.vo;
+
+public record TokenPairVo(String accessToken, String refreshToken) {
+}
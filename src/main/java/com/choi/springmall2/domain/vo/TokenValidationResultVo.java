@@ -0,0 +1,20 @@
+package com.choi.springmall2.domain.vo;
+
+import com.choi.springmall2.domain.TokenFailureReason;
+import org.springframework.security.core.Authentication;
+
+// 토큰 검증 결과. 성공이면 authentication, expiresAt(epoch millis) 이 채워지고 실패면 failureReason 이 채워짐
+public record TokenValidationResultVo(Authentication authentication, TokenFailureReason failureReason, long expiresAt) {
+
+    public static TokenValidationResultVo valid(Authentication authentication, long expiresAt) {
+        return new TokenValidationResultVo(authentication, null, expiresAt);
+    }
+
+    public static TokenValidationResultVo failure(TokenFailureReason failureReason) {
+        return new TokenValidationResultVo(null, failureReason, 0L);
+    }
+
+    public boolean isValid() {
+        return failureReason == null;
+    }
+}
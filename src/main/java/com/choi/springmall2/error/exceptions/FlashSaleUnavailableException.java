@@ -0,0 +1,7 @@
+package com.choi.springmall2.error.exceptions;
+
+public class FlashSaleUnavailableException extends RuntimeException {
+    public FlashSaleUnavailableException(String message) {
+        super(message);
+    }
+}
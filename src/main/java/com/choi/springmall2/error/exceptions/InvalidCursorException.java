@@ -0,0 +1,7 @@
+package com.choi.springmall2.error.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.choi.springmall2.error.exceptions;
+
+public class InvalidOrderException extends RuntimeException {
+    public InvalidOrderException(String message) {
+        super(message);
+    }
+}
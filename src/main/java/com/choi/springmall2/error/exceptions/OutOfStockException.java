@@ -0,0 +1,7 @@
+package com.choi.springmall2.error.exceptions;
+
+public class OutOfStockException extends RuntimeException {
+    public OutOfStockException(String message) {
+        super(message);
+    }
+}
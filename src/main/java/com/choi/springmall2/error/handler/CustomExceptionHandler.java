@@ -5,10 +5,12 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.ui.Model;
+import org.springframework.web.bind.ServletRequestBindingException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -51,6 +53,42 @@ public class CustomExceptionHandler {
         return error;
     }
 
+    // 재고 부족 예외 처리
+    @ExceptionHandler(OutOfStockException.class)
+    @ResponseBody
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Map<String, String> handleOutOfStock(OutOfStockException ex) {
+        logger.info("재고 부족: {}", ex.getMessage());
+
+        Map<String, String> error = new HashMap<>();
+        error.put("message", ex.getMessage());
+        return error;
+    }
+
+    // 플래시 세일 주문 일시 불가 예외 처리. 재고는 남아 있으므로 재시도하도록 503 + Retry-After
+    @ExceptionHandler(FlashSaleUnavailableException.class)
+    public ResponseEntity<Map<String, String>> handleFlashSaleUnavailable(FlashSaleUnavailableException ex) {
+        logger.warn("플래시 세일 주문 일시 불가: {}", ex.getMessage());
+
+        Map<String, String> error = new HashMap<>();
+        error.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
+    // 잘못된 주문 요청 예외 처리
+    @ExceptionHandler(InvalidOrderException.class)
+    @ResponseBody
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> handleInvalidOrder(InvalidOrderException ex) {
+        logger.error("잘못된 주문 요청: {}", ex.getMessage());
+
+        Map<String, String> error = new HashMap<>();
+        error.put("message", ex.getMessage());
+        return error;
+    }
+
     // 토큰 만료시 예외 처리
     @ExceptionHandler(JWTExpirationException.class)
     public ResponseEntity<?> handleJWTExpirationException(JWTExpirationException ex) {
@@ -91,6 +129,20 @@ public class CustomExceptionHandler {
         return "error/error";
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public String handleInvalidCursor(InvalidCursorException ex, Model model, HttpServletRequest request, HttpServletResponse response) {
+        logger.error("잘못된 커서 요청: {}", ex.getMessage());
+
+        model.addAttribute("message", ex.getMessage());
+        model.addAttribute("exception", ex.getClass().getSimpleName());
+        model.addAttribute("status", HttpStatus.BAD_REQUEST.value());
+        model.addAttribute("path", request.getRequestURI());
+        model.addAttribute("error", ex.getMessage());
+        response.setStatus(HttpStatus.BAD_REQUEST.value());
+
+        return "error/error";
+    }
+
     // 최종 fallback 예외 처리
     @ExceptionHandler(Exception.class)
     public String handleViewException(Exception ex, Model model, HttpServletRequest request, HttpServletResponse response) {
@@ -107,6 +159,8 @@ public class CustomExceptionHandler {
             statusCode = clientEx.getStatusCode().value();
         } else if (ex instanceof AuthorizationDeniedException) {
             statusCode = HttpServletResponse.SC_FORBIDDEN; // 권한 없을 경우 접근 거부
+        } else if (ex instanceof ServletRequestBindingException) {
+            statusCode = HttpServletResponse.SC_BAD_REQUEST; // 필수 헤더, 파라미터 누락
         }
 
         // 꼭 세팅해줘야 브라우저에서도 상태 코드가 바뀜
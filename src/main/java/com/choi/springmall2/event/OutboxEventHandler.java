@@ -0,0 +1,13 @@
+package com.choi.springmall2.event;
+
+/**
+ * outbox 에 저장된 이벤트 처리기. 빈으로 등록하면 OutboxEventService 가 이벤트 타입별로 찾아 호출함.
+ * 같은 이벤트가 두 번 이상 전달될 수 있으므로 (at-least-once) 중복 처리에 안전해야 함
+ * @param <T> 이벤트 타입 (JSON 으로 직렬화 가능한 record)
+ */
+public interface OutboxEventHandler<T> {
+
+    Class<T> eventType();
+
+    void handle(T event);
+}
@@ -1,19 +1,24 @@
 package com.choi.springmall2.event.listener;
 
+import com.choi.springmall2.event.OutboxEventHandler;
 import com.choi.springmall2.event.PasswordResetMailEvent;
 import com.choi.springmall2.service.MailService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 @RequiredArgsConstructor
-public class MailEventListener {
+public class MailEventListener implements OutboxEventHandler<PasswordResetMailEvent> {
     private final MailService mailService;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void handlePasswordResetMail(PasswordResetMailEvent event) {
+    @Override
+    public Class<PasswordResetMailEvent> eventType() {
+        return PasswordResetMailEvent.class;
+    }
+
+    // 비밀번호 초기화 토큰이 커밋된 뒤 outbox 를 통해 호출됨
+    @Override
+    public void handle(PasswordResetMailEvent event) {
         mailService.sendPasswordResetToken(event.email(), event.token());
     }
 }
@@ -0,0 +1,29 @@
+package com.choi.springmall2.job;
+
+import com.choi.springmall2.service.EventOutboxCleanupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class EventOutboxPurgeJob implements Job {
+
+    private final EventOutboxCleanupService eventOutboxCleanupService;
+
+    @Override
+    public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
+        try {
+            int purged = eventOutboxCleanupService.purgeProcessedEvents();
+            log.info("[Quartz] Processed event outbox rows purged. Deleted: {}", purged);
+        } catch (Exception e) {
+            log.error("[Quartz] Event outbox purge failed.", e);
+        }
+    }
+}
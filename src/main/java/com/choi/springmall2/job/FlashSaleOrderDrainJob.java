@@ -0,0 +1,32 @@
+package com.choi.springmall2.job;
+
+import com.choi.springmall2.service.FlashSaleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution // 이전 실행이 길어져도 겹쳐서 실행되지 않도록 함
+public class FlashSaleOrderDrainJob implements Job {
+
+    private final FlashSaleService flashSaleService;
+
+    @Override
+    public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
+        try {
+            int drained = flashSaleService.drainOrders();
+            if (drained > 0) {
+                log.info("[Quartz] Flash sale orders drained. Persisted: {}", drained);
+            }
+        } catch (Exception e) {
+            // 큐에서 제거되지 않은 주문은 다음 실행에서 다시 저장됨
+            log.error("[Quartz] Flash sale order drain failed.", e);
+        }
+    }
+}
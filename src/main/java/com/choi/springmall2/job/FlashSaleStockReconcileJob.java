@@ -0,0 +1,29 @@
+package com.choi.springmall2.job;
+
+import com.choi.springmall2.service.FlashSaleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class FlashSaleStockReconcileJob implements Job {
+
+    private final FlashSaleService flashSaleService;
+
+    @Override
+    public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
+        try {
+            int synced = flashSaleService.reconcileStock();
+            log.debug("[Quartz] Flash sale stock reconciled. Synced: {}", synced);
+        } catch (Exception e) {
+            log.error("[Quartz] Flash sale stock reconcile failed.", e);
+        }
+    }
+}
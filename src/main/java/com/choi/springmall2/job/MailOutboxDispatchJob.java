@@ -0,0 +1,34 @@
+package com.choi.springmall2.job;
+
+import com.choi.springmall2.service.MailOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재시도 시각이 된 메일과, 재시작 등으로 즉시 발송되지 못한 메일을 주기적으로 발송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class MailOutboxDispatchJob implements Job {
+
+    private final MailOutboxService mailOutboxService;
+
+    @Override
+    public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
+        try {
+            int sent = mailOutboxService.dispatchPending();
+            if (sent > 0) {
+                log.info("[Quartz] Mail outbox dispatched. Sent: {}", sent);
+            }
+        } catch (Exception e) {
+            log.error("[Quartz] Mail outbox dispatch failed.", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.choi.springmall2.job;
+
+import com.choi.springmall2.service.MailOutboxCleanupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class MailOutboxPurgeJob implements Job {
+
+    private final MailOutboxCleanupService mailOutboxCleanupService;
+
+    @Override
+    public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
+        try {
+            int purged = mailOutboxCleanupService.purgeSentMails();
+            log.info("[Quartz] Sent mail outbox rows purged. Deleted: {}", purged);
+        } catch (Exception e) {
+            log.error("[Quartz] Mail outbox purge failed.", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.choi.springmall2.job;
+
+import com.choi.springmall2.service.OutboxEventService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class OutboxEventDispatchJob implements Job {
+
+    private final OutboxEventService outboxEventService;
+
+    @Override
+    public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
+        try {
+            int processed = outboxEventService.dispatchPending();
+            if (processed > 0) {
+                log.debug("[Quartz] Outbox events dispatched. Processed: {}", processed);
+            }
+        } catch (Exception e) {
+            log.error("[Quartz] Outbox event dispatch failed.", e);
+        }
+    }
+}
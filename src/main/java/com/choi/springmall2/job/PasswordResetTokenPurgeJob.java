@@ -0,0 +1,31 @@
+package com.choi.springmall2.job;
+
+import com.choi.springmall2.service.PasswordResetTokenCleanupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "password-reset.token-store", havingValue = "jpa") // Redis 저장소는 TTL 로 만료되므로 정리 작업이 필요 없음
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class PasswordResetTokenPurgeJob implements Job {
+
+    private final PasswordResetTokenCleanupService passwordResetTokenCleanupService;
+
+    @Override
+    public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
+        try {
+            int purged = passwordResetTokenCleanupService.purgeExpiredTokens();
+            log.info("[Quartz] Expired password reset tokens purged. Deleted: {}", purged);
+        } catch (Exception e) {
+            log.error("[Quartz] Password reset token purge failed.", e);
+        }
+    }
+}
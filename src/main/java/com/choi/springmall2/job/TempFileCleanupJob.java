@@ -1,5 +1,6 @@
 package com.choi.springmall2.job;
 
+import com.choi.springmall2.domain.vo.TempFileCleanupResultVo;
 import com.choi.springmall2.service.RedisFileKeyService;
 import com.choi.springmall2.service.S3Service;
 import lombok.RequiredArgsConstructor;
@@ -9,8 +10,6 @@ import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -21,7 +20,8 @@ public class TempFileCleanupJob implements Job {
     @Override
     public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
         log.info("🧹 [Quartz] Temp file cleanup job started...");
-        List<String> deletedKeys = s3Service.deleteTempFolderFiles();
-        log.info("🧹 [Quartz] Temp file cleanup job completed. Deleted keys: {}", deletedKeys);
+        TempFileCleanupResultVo result = s3Service.deleteTempFolderFiles();
+        log.info("🧹 [Quartz] Temp file cleanup job completed. Scanned: {}, Deleted: {}, Failed: {}, Elapsed: {}ms",
+                result.scanned(), result.deleted(), result.failed(), result.elapsed().toMillis());
     }
 }
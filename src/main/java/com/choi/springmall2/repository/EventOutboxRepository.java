@@ -0,0 +1,53 @@
+package com.choi.springmall2.repository;
+
+import com.choi.springmall2.domain.OutboxStatus;
+import com.choi.springmall2.domain.entity.EventOutbox;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EventOutboxRepository extends JpaRepository<EventOutbox, Long> {
+
+    // 처리 시각이 된 이벤트. idx_event_outbox_status_next_attempt 순서로 읽어 정렬 없이 LIMIT 만큼만 조회.
+    // 새 이벤트는 저장 시각이 처리 시각이므로 저장 순서대로, 재시도 이벤트는 재시도 시각 순서로 처리됨
+    @Query("SELECT e.id FROM EventOutbox e "
+            + "WHERE e.status = com.choi.springmall2.domain.OutboxStatus.PENDING AND e.nextAttemptAt <= :now "
+            + "ORDER BY e.nextAttemptAt, e.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Limit limit);
+
+    // 처리 선점. MailOutboxRepository.claim 과 같은 방식
+    @Modifying
+    @Query("UPDATE EventOutbox e SET e.claimToken = :token, e.nextAttemptAt = :leaseUntil "
+            + "WHERE e.id IN :ids AND e.status = com.choi.springmall2.domain.OutboxStatus.PENDING AND e.nextAttemptAt <= :now")
+    int claim(@Param("ids") List<Long> ids, @Param("token") String token,
+              @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    List<EventOutbox> findByClaimTokenOrderByIdAsc(String token);
+
+    // 처리 완료. payload 에는 비밀번호 초기화 토큰 같은 원문이 있을 수 있으므로 처리 후에는 지움.
+    // 선점이 만료되어 다른 실행이 다시 선점한 이벤트는 바꾸지 않음 (MailOutboxRepository.markSent 와 같은 방식)
+    @Modifying
+    @Query("UPDATE EventOutbox e SET e.status = com.choi.springmall2.domain.OutboxStatus.PROCESSED, e.processedAt = :now, "
+            + "e.attempts = e.attempts + 1, e.claimToken = null, e.lastError = null, e.payload = null, e.modifyAt = :now "
+            + "WHERE e.id IN :ids AND e.claimToken = :token")
+    int markProcessed(@Param("ids") List<Long> ids, @Param("token") String token, @Param("now") LocalDateTime now);
+
+    // 처리 실패. 재시도 시각 또는 FAILED 로 변경. 아직 선점하고 있는 경우에만 변경
+    @Modifying
+    @Query("UPDATE EventOutbox e SET e.status = :status, e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt, "
+            + "e.lastError = :lastError, e.claimToken = null, e.modifyAt = :now "
+            + "WHERE e.id = :id AND e.claimToken = :token")
+    int markFailed(@Param("id") Long id, @Param("token") String token, @Param("status") OutboxStatus status,
+                   @Param("attempts") int attempts, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("lastError") String lastError, @Param("now") LocalDateTime now);
+
+    // 보관 기간이 지난 처리 완료 이벤트 삭제. idx_event_outbox_status_processed_at 범위로 batch 크기만큼만 지움
+    @Modifying
+    @Query(value = "DELETE FROM event_outbox WHERE status = 'PROCESSED' AND processed_at < :before LIMIT :limit", nativeQuery = true)
+    int deleteProcessedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -0,0 +1,42 @@
+package com.choi.springmall2.repository;
+
+import com.choi.springmall2.domain.entity.MailOutbox;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    // 발송 시각이 된 메일. idx_mail_outbox_status_next_attempt 사용
+    @Query("SELECT m.id FROM MailOutbox m "
+            + "WHERE m.status = com.choi.springmall2.domain.MailStatus.PENDING AND m.nextAttemptAt <= :now "
+            + "ORDER BY m.nextAttemptAt")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Limit limit);
+
+    // 발송 선점. 다른 스레드가 먼저 선점한 메일은 next_attempt_at 이 미래로 바뀌어 제외됨.
+    // 선점한 채로 인스턴스가 죽으면 leaseUntil 이후 다시 발송 대상이 됨
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.claimToken = :token, m.nextAttemptAt = :leaseUntil "
+            + "WHERE m.id IN :ids AND m.status = com.choi.springmall2.domain.MailStatus.PENDING AND m.nextAttemptAt <= :now")
+    int claim(@Param("ids") List<Long> ids, @Param("token") String token,
+              @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    List<MailOutbox> findByClaimToken(String token);
+
+    // 발송 완료. 본문에는 비밀번호 초기화 링크 같은 원문이 있으므로 발송 후에는 지움
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = com.choi.springmall2.domain.MailStatus.SENT, m.sentAt = :now, "
+            + "m.attempts = m.attempts + 1, m.claimToken = null, m.lastError = null, m.body = null, m.modifyAt = :now "
+            + "WHERE m.id IN :ids AND m.claimToken = :token")
+    int markSent(@Param("ids") List<Long> ids, @Param("token") String token, @Param("now") LocalDateTime now);
+
+    // 보관 기간이 지난 발송 완료 메일 삭제. idx_mail_outbox_status_sent_at 범위로 batch 크기만큼만 지움
+    @Modifying
+    @Query(value = "DELETE FROM mail_outbox WHERE status = 'SENT' AND sent_at < :before LIMIT :limit", nativeQuery = true)
+    int deleteSentBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -3,13 +3,24 @@ package com.choi.springmall2.repository;
 import com.choi.springmall2.domain.entity.PasswordResetToken;
 import com.choi.springmall2.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface PasswordResetTokenRepository extends JpaRepository<PasswordResetToken, Integer> {
-    Optional<PasswordResetToken> findByToken(String token);
+    // uk_password_reset_token_token_hash 사용
+    Optional<PasswordResetToken> findByTokenHash(String tokenHash);
 
-    boolean existsByToken(String token);
+    // 조회 후 삭제하는 파생 쿼리와 달리 바로 실행되므로, 같은 트랜잭션의 새 토큰 INSERT 보다 먼저 반영됨
+    @Modifying
+    @Query("DELETE FROM PasswordResetToken t WHERE t.user = :user")
+    void deleteByUser(@Param("user") User user);
 
-    void deleteByUser(User user);
+    // idx_password_reset_token_expiry_date 사용. JPQL 은 DELETE 에 LIMIT 을 지원하지 않아 native query 로 batch 크기 제한
+    @Modifying
+    @Query(value = "DELETE FROM password_reset_token WHERE expiry_date < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
@@ -0,0 +1,16 @@
+package com.choi.springmall2.repository;
+
+import com.choi.springmall2.domain.entity.ProductImage;
+
+import java.util.List;
+
+public interface ProductImageBatchRepository {
+
+    /**
+     * 상품 이미지를 JDBC batch 로 일괄 저장.
+     * ProductImage 는 IDENTITY 전략이라 JPA save 로는 batch insert 가 되지 않으므로 JDBC 로 직접 저장함.
+     * 저장된 엔티티의 id 는 채워지지 않음.
+     * @param productImages 저장할 상품 이미지 목록
+     */
+    void batchInsert(List<ProductImage> productImages);
+}
@@ -0,0 +1,42 @@
+package com.choi.springmall2.repository;
+
+import com.choi.springmall2.domain.entity.ProductImage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ProductImageBatchRepositoryImpl implements ProductImageBatchRepository {
+
+    // MySQL 은 rewriteBatchedStatements=true 설정 시 batch 하나가 multi-row INSERT 한 번으로 전송됨
+    private static final int BATCH_SIZE = 100;
+
+    private static final String INSERT_SQL = "INSERT INTO product_image "
+            + "(product_id, image_key, image_name, type, seq, create_at, modify_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(List<ProductImage> productImages) {
+        if (productImages.isEmpty()) {
+            return;
+        }
+
+        // JDBC 로 저장하므로 JPA Auditing 이 동작하지 않음. 생성/수정 시간을 직접 세팅
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, productImages, BATCH_SIZE, (ps, productImage) -> {
+            ps.setInt(1, productImage.getProduct().getId());
+            ps.setString(2, productImage.getImageKey());
+            ps.setString(3, productImage.getImageName());
+            ps.setString(4, String.valueOf(productImage.getType().getCode()));
+            ps.setInt(5, productImage.getSeq());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+    }
+}
@@ -1,10 +1,16 @@
 package com.choi.springmall2.repository;
 
+import com.choi.springmall2.domain.ImageType;
 import com.choi.springmall2.domain.entity.ProductImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
-public interface ProductImageRepository extends JpaRepository<ProductImage, Integer> {
-    List<ProductImage> findByProductIdAndTypeOrderBySeqAsc(int id, String type);
+public interface ProductImageRepository extends JpaRepository<ProductImage, Integer>, ProductImageBatchRepository {
+    // 파생 쿼리는 product.id 조건을 위해 product 를 LEFT JOIN 하여 (product_id, type, seq) 인덱스를 쓰지 못하므로
+    // FK 컬럼으로 바로 조회
+    @Query("SELECT pi FROM ProductImage pi WHERE pi.product.id = :id AND pi.type = :type ORDER BY pi.seq ASC")
+    List<ProductImage> findByProductIdAndTypeOrderBySeqAsc(@Param("id") int id, @Param("type") ImageType type);
 }
@@ -0,0 +1,14 @@
+package com.choi.springmall2.repository;
+
+import com.choi.springmall2.domain.vo.FlashSaleOrderVo;
+
+import java.util.List;
+
+public interface ProductOrderBatchRepository {
+    /**
+     * 플래시 세일로 접수된 주문을 JDBC batch 로 일괄 저장.
+     * ProductOrder 는 IDENTITY 전략이라 JPA save 로는 batch insert 가 되지 않으므로 JDBC 로 직접 저장함.
+     * @param orders 저장할 주문 목록
+     */
+    void batchInsert(List<FlashSaleOrderVo> orders);
+}
@@ -0,0 +1,46 @@
+package com.choi.springmall2.repository;
+
+import com.choi.springmall2.domain.vo.FlashSaleOrderVo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ProductOrderBatchRepositoryImpl implements ProductOrderBatchRepository {
+
+    // MySQL 은 rewriteBatchedStatements=true 설정 시 batch 하나가 multi-row INSERT 한 번으로 전송됨
+    private static final int BATCH_SIZE = 100;
+
+    private static final String INSERT_SQL = "INSERT INTO product_order "
+            + "(product_id, user_id, quantity, order_date, phone_number, zip_code, address_line1, address_line2, "
+            + "idempotency_key, create_at, modify_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(List<FlashSaleOrderVo> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+
+        // JDBC 로 저장하므로 JPA Auditing 이 동작하지 않음. 생성/수정 시간을 직접 세팅
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, orders, BATCH_SIZE, (ps, order) -> {
+            ps.setInt(1, order.productId());
+            ps.setInt(2, order.userId());
+            ps.setInt(3, order.quantity());
+            ps.setTimestamp(4, new Timestamp(order.orderedAt())); // 접수 시각을 주문 시각으로 사용
+            ps.setString(5, order.phoneNumber());
+            ps.setString(6, order.zipCode());
+            ps.setString(7, order.addressLine1());
+            ps.setString(8, order.addressLine2());
+            ps.setString(9, order.idempotencyKey());
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        });
+    }
+}
@@ -0,0 +1,12 @@
+package com.choi.springmall2.repository;
+
+import com.choi.springmall2.domain.entity.ProductOrder;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ProductOrderRepository extends JpaRepository<ProductOrder, Integer>, ProductOrderBatchRepository {
+
+    // (user_id, idempotency_key) 유니크 인덱스로 조회
+    Optional<ProductOrder> findByUserIdAndIdempotencyKey(int userId, String idempotencyKey);
+}
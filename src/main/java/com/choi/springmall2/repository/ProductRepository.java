@@ -1,13 +1,74 @@
 package com.choi.springmall2.repository;
 
 import com.choi.springmall2.domain.entity.Product;
-import com.choi.springmall2.domain.entity.User;
+import com.choi.springmall2.domain.vo.ProductListItemVo;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<Product, Integer> {
-    Page<Product> findAll(Pageable pageable);
+    // 목록 조회용 projection. 썸네일 (seq = 0) 만 한 번의 LEFT JOIN 으로 함께 조회하고 내용 이미지는 읽지 않음
+    String LIST_ITEM_SELECT = "SELECT new com.choi.springmall2.domain.vo.ProductListItemVo("
+            + "p.id, p.title, p.description, p.price, p.stock, pi.imageKey, pi.imageName) "
+            + "FROM Product p LEFT JOIN ProductImage pi ON pi.product = p AND pi.type = com.choi.springmall2.domain.ImageType.THUMBNAIL AND pi.seq = 0";
+
+    @Query(value = LIST_ITEM_SELECT, countQuery = "SELECT COUNT(p) FROM Product p")
+    Page<ProductListItemVo> findListItems(Pageable pageable);
+
+    // 커서 기반 조회 : 첫 페이지
+    @Query(LIST_ITEM_SELECT + " ORDER BY p.id DESC")
+    List<ProductListItemVo> findListItemsOrderByIdDesc(Limit limit);
+
+    // 커서 기반 조회 : WHERE id < :cursor ORDER BY id DESC LIMIT :limit
+    @Query(LIST_ITEM_SELECT + " WHERE p.id < :cursor ORDER BY p.id DESC")
+    List<ProductListItemVo> findListItemsByIdLessThan(@Param("cursor") int cursor, Limit limit);
+
+    /**
+     * 재고가 충분할 때만 재고 차감. 조건 확인과 차감이 UPDATE 한 번으로 처리되어 동시 주문에도 재고가 음수가 되지 않음
+     * 상세 페이지의 조건부 요청이 바뀐 재고를 반영하도록 수정 시각도 함께 갱신.
+     * 플래시 세일 중인 상품은 Redis 재고가 기준이므로 차감하지 않음
+     * @return 차감된 행 수. 재고가 부족하거나 상품이 없거나 플래시 세일 중이면 0
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity, p.modifyAt = :now "
+            + "WHERE p.id = :id AND p.stock >= :quantity AND p.flashSale = false")
+    int decreaseStock(@Param("id") int id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+    // 플래시 세일 시작. 이미 시작된 상품이면 0
+    @Modifying
+    @Query("UPDATE Product p SET p.flashSale = true WHERE p.id = :id AND p.flashSale = false")
+    int startFlashSale(@Param("id") int id);
+
+    // 플래시 세일 중 Redis 남은 재고를 DB 에 반영 (정산)
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = :stock, p.modifyAt = :now WHERE p.id = :id AND p.flashSale = true")
+    int syncFlashSaleStock(@Param("id") int id, @Param("stock") int stock, @Param("now") LocalDateTime now);
+
+    // 플래시 세일 종료. 남은 재고를 DB 에 반영하고 일반 주문으로 되돌림
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = :stock, p.flashSale = false, p.modifyAt = :now WHERE p.id = :id AND p.flashSale = true")
+    int endFlashSale(@Param("id") int id, @Param("stock") int stock, @Param("now") LocalDateTime now);
+
+    // 플래시 세일 종료 후 저장하지 못한 세일 주문의 재고를 되돌림. 세일 중이면 Redis 재고가 기준이므로 0
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock + :quantity, p.modifyAt = :now WHERE p.id = :id AND p.flashSale = false")
+    int restoreStock(@Param("id") int id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+    @Query("SELECT p.stock FROM Product p WHERE p.id = :id")
+    Optional<Integer> findStockById(@Param("id") int id);
+
+    @Query("SELECT p.flashSale FROM Product p WHERE p.id = :id")
+    Optional<Boolean> findFlashSaleById(@Param("id") int id);
+
+    // 조건부 요청 (ETag / Last-Modified) 용 수정 시각만 PK 로 조회
+    @Query("SELECT p.modifyAt FROM Product p WHERE p.id = :id")
+    Optional<LocalDateTime> findModifyAtById(@Param("id") int id);
 }
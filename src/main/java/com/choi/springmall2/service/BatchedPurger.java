@@ -0,0 +1,67 @@
+package com.choi.springmall2.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 기준 시각 이전 행을 batch 단위로 삭제하는 정리 작업 공통 처리.
+ * 한 번의 큰 DELETE 대신 batch 마다 트랜잭션을 나눠 행 잠금이 batch 하나를 지우는 동안만 유지되도록 하고,
+ * 남은 양이 많으면 maxBatchesPerRun 만큼만 지운 뒤 다음 실행에서 이어서 처리함
+ */
+final class BatchedPurger {
+
+    // 기준 시각 이전 행을 최대 limit 개 삭제하고 삭제한 행 수를 반환. 보통 DELETE ... LIMIT native query
+    @FunctionalInterface
+    interface DeleteBatch {
+        int delete(LocalDateTime before, int limit);
+    }
+
+    private final DeleteBatch deleteBatch;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final DistributionSummary purgedSummary;
+
+    /**
+     * @param deleteBatch batch 하나를 삭제하는 쿼리
+     * @param metricName 1회 실행당 삭제한 행 수를 기록할 DistributionSummary 이름
+     * @param retention 보관 기간. 실행 시각에서 이만큼 이전이 삭제 기준 시각 (ZERO 이면 실행 시각)
+     */
+    BatchedPurger(DeleteBatch deleteBatch, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                  String metricName, Duration retention, int batchSize, int maxBatchesPerRun) {
+        this.deleteBatch = deleteBatch;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.purgedSummary = DistributionSummary.builder(metricName)
+                .baseUnit("rows")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 이번 실행에서 삭제한 행 수
+     */
+    int purge() {
+        LocalDateTime before = LocalDateTime.now().minus(retention); // 실행 중 새로 대상이 되는 행은 다음 실행에서 처리
+        int purged = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer deleted = transactionTemplate.execute(status -> deleteBatch.delete(before, batchSize));
+            purged += deleted == null ? 0 : deleted;
+            if (deleted == null || deleted < batchSize) {
+                break;
+            }
+        }
+
+        purgedSummary.record(purged);
+        return purged;
+    }
+}
@@ -1,8 +1,7 @@
 package com.choi.springmall2.service;
 
 import com.choi.springmall2.domain.CustomUser;
-import com.choi.springmall2.domain.entity.User;
-import com.choi.springmall2.repository.UserRepository;
+import com.choi.springmall2.domain.vo.CachedUserVo;
 import lombok.AllArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -13,20 +12,21 @@ import org.springframework.stereotype.Service;
 @AllArgsConstructor
 public class CustomUserDetailService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
 
-        User user = userRepository.findByEmail(email)
+        // 로그인마다 DB 를 조회하지 않도록 사용자 캐시 사용
+        CachedUserVo user = userCacheService.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
         return new CustomUser(
-                user.getId(),
-                user.getEmail(),
-                user.getNickname(),
-                user.getPassword(),
-                user.getRole().getAuthorities()
+                user.id(),
+                user.email(),
+                user.nickname(),
+                user.password(),
+                user.role().getAuthorities()
         );
     }
 }
\ No newline at end of file
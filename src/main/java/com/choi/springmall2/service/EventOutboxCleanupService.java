@@ -0,0 +1,36 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.repository.EventOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+/**
+ * 보관 기간이 지난 처리 완료 이벤트 정리. 처리 실패 (FAILED) 이벤트는 확인할 수 있도록 남김
+ */
+@Service
+public class EventOutboxCleanupService {
+
+    private final BatchedPurger purger;
+
+    public EventOutboxCleanupService(EventOutboxRepository eventOutboxRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${outbox.purge.retention-days:7}") long retentionDays,
+                                     @Value("${outbox.purge.batch-size:5000}") int batchSize,
+                                     @Value("${outbox.purge.max-batches-per-run:100}") int maxBatchesPerRun) {
+        this.purger = new BatchedPurger(eventOutboxRepository::deleteProcessedBefore, transactionManager, meterRegistry,
+                "outbox.purged", Duration.ofDays(retentionDays), batchSize, maxBatchesPerRun);
+    }
+
+    /**
+     * 보관 기간이 지난 처리 완료 이벤트를 batch 단위로 삭제
+     * @return 이번 실행에서 삭제한 행 수
+     */
+    public int purgeProcessedEvents() {
+        return purger.purge();
+    }
+}
@@ -0,0 +1,451 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.domain.FlashSaleReserveResult;
+import com.choi.springmall2.domain.dto.ProductOrderRequestDto;
+import com.choi.springmall2.domain.vo.FlashSaleOrderVo;
+import com.choi.springmall2.domain.vo.FlashSaleReservationVo;
+import com.choi.springmall2.error.exceptions.ProductDetailNotFoundException;
+import com.choi.springmall2.repository.ProductOrderRepository;
+import com.choi.springmall2.repository.ProductRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 플래시 세일 모드. 한 상품에 주문이 몰릴 때 DB 행 잠금 대신 Redis 카운터로 재고를 차감함.
+ * 재고 확인/차감, 주문 키 중복 확인, 큐 적재를 Lua 스크립트 한 번으로 처리하고,
+ * 큐에 쌓인 주문은 FlashSaleOrderDrainJob 이 batch 로 DB 에 저장, 남은 재고는 FlashSaleStockReconcileJob 이 DB 에 반영.
+ */
+@Service
+@Slf4j
+public class FlashSaleService {
+
+    // 플래시 세일 큐를 가진 상품 id 집합. 세일이 끝나도 큐가 빌 때까지 유지
+    static final String ACTIVE_PRODUCTS_KEY = "flashsale:products";
+
+    // KEYS[1] = 재고, KEYS[2] = 주문 키 hash, KEYS[3] = 주문 큐 / ARGV[1] = 수량, ARGV[2] = 주문 키, ARGV[3] = 주문 JSON
+    // 반환 : 1 접수, 0 재고 부족, -1 플래시 세일 아님, -2 중복 주문
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            local stock = redis.call('GET', KEYS[1])
+            if not stock then return -1 end
+            if redis.call('HEXISTS', KEYS[2], ARGV[2]) == 1 then return -2 end
+            local quantity = tonumber(ARGV[1])
+            if tonumber(stock) < quantity then return 0 end
+            redis.call('DECRBY', KEYS[1], quantity)
+            redis.call('HSET', KEYS[2], ARGV[2], ARGV[3])
+            redis.call('RPUSH', KEYS[3], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS[1] = 재고, KEYS[2] = 주문 키 hash / ARGV[1] = 주문 키 보관 시간 (초)
+    // 반환 : 남은 재고, 플래시 세일 중이 아니면 -1
+    private static final RedisScript<Long> CLOSE_SCRIPT = new DefaultRedisScript<>("""
+            local stock = redis.call('GET', KEYS[1])
+            if not stock then return -1 end
+            redis.call('DEL', KEYS[1])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return tonumber(stock)
+            """, Long.class);
+
+    // KEYS[1] = 재고, KEYS[2] = 주문 큐, KEYS[3] = 상품 id 집합 / ARGV[1] = 상품 id
+    // 세일이 끝났고 큐도 비었으면 집합에서 제거. 확인과 제거 사이에 주문이 적재되지 않도록 스크립트로 처리
+    private static final RedisScript<Long> RETIRE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 and redis.call('LLEN', KEYS[2]) == 0 then
+                return redis.call('SREM', KEYS[3], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS[1] = drain 잠금 / ARGV[1] = 잠금 값
+    // 자신이 잡은 잠금일 때만 해제. TTL 이 지나 다른 인스턴스가 새로 잡은 잠금은 지우지 않음
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS[1] = 재고, KEYS[2] = 주문 키 hash, KEYS[3] = dead-letter 목록
+    // ARGV[1] = 수량, ARGV[2] = 주문 키, ARGV[3] = 주문 JSON, ARGV[4] = 거절 표시, ARGV[5] = 주문 키 보관 시간 (초)
+    // 저장할 수 없는 주문을 dead-letter 로 옮기고 차감했던 재고를 되돌림. 주문 키는 거절 표시로 바꿔 같은 키로 다시 접수되지 않게 함
+    // 반환 : 1 Redis 재고 복구, 0 세일이 끝나 DB 재고로 복구 필요, -1 이미 거절 처리된 주문
+    private static final RedisScript<Long> REJECT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[2], ARGV[2]) == ARGV[4] then return -1 end
+            redis.call('HSET', KEYS[2], ARGV[2], ARGV[4])
+            redis.call('RPUSH', KEYS[3], ARGV[3])
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('INCRBY', KEYS[1], ARGV[1])
+                return 1
+            end
+            redis.call('EXPIRE', KEYS[2], ARGV[5])
+            return 0
+            """, Long.class);
+
+    // 주문 키 hash 에 주문 JSON 대신 저장하는 거절 표시
+    static final String REJECTED_ORDER = "rejected";
+
+    private static final Duration DRAIN_LOCK_TTL = Duration.ofSeconds(30);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProductRepository productRepository;
+    private final ProductOrderRepository productOrderRepository;
+    private final ProductDetailCacheService productDetailCacheService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int drainBatchSize;
+    private final int drainMaxBatchesPerRun;
+    private final long orderKeyRetentionSeconds;
+
+    private final Counter acceptedCounter;
+    private final Counter duplicateCounter;
+    private final Counter soldOutCounter;
+    private final Counter unavailableCounter;
+    private final Counter persistedCounter;
+    private final Counter reconciledCounter;
+    private final Counter unreadableCounter;
+    private final Counter collisionCounter;
+    private final Counter rejectedCounter;
+
+    public FlashSaleService(StringRedisTemplate redisTemplate,
+                            ObjectMapper objectMapper,
+                            ProductRepository productRepository,
+                            ProductOrderRepository productOrderRepository,
+                            ProductDetailCacheService productDetailCacheService,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${flash-sale.drain.batch-size:500}") int drainBatchSize,
+                            @Value("${flash-sale.drain.max-batches-per-run:20}") int drainMaxBatchesPerRun,
+                            @Value("${flash-sale.order-key.retention-hours:24}") long orderKeyRetentionHours) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.productRepository = productRepository;
+        this.productOrderRepository = productOrderRepository;
+        this.productDetailCacheService = productDetailCacheService;
+        this.transactionTemplate = transactionTemplate;
+        this.drainBatchSize = drainBatchSize;
+        this.drainMaxBatchesPerRun = drainMaxBatchesPerRun;
+        this.orderKeyRetentionSeconds = Duration.ofHours(orderKeyRetentionHours).toSeconds();
+
+        this.acceptedCounter = meterRegistry.counter("flashsale.order", "result", "accepted");
+        this.duplicateCounter = meterRegistry.counter("flashsale.order", "result", "duplicate");
+        this.soldOutCounter = meterRegistry.counter("flashsale.order", "result", "sold_out");
+        this.unavailableCounter = meterRegistry.counter("flashsale.order", "result", "unavailable");
+        this.persistedCounter = meterRegistry.counter("flashsale.drain.persisted");
+        this.reconciledCounter = meterRegistry.counter("flashsale.reconcile.synced");
+        this.unreadableCounter = meterRegistry.counter("flashsale.drain.dead_letter", "reason", "unreadable");
+        this.collisionCounter = meterRegistry.counter("flashsale.drain.dead_letter", "reason", "key_collision");
+        this.rejectedCounter = meterRegistry.counter("flashsale.drain.dead_letter", "reason", "rejected");
+    }
+
+    /**
+     * 플래시 세일 시작. DB 재고를 Redis 카운터로 옮기고, 이후 DB 재고 차감 (일반 주문) 은 막힘.
+     * 이미 시작된 상품이면 Redis 카운터가 없을 때만 다시 만듦
+     * @param productId 상품 id
+     * @throws ProductDetailNotFoundException 상품이 존재하지 않는 경우
+     */
+    @Transactional
+    public void openFlashSale(int productId) {
+        // 플래그를 먼저 바꿔 행 잠금을 잡은 뒤 재고를 읽음. 그 사이 일반 주문이 재고를 차감할 수 없음
+        productRepository.startFlashSale(productId);
+        int stock = productRepository.findStockById(productId)
+                .orElseThrow(() -> new ProductDetailNotFoundException("해당 상품이 존재하지 않습니다."));
+
+        // 커밋된 뒤에 Redis 카운터 생성. 이미 진행 중인 카운터는 덮어쓰지 않음
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                redisTemplate.opsForValue().setIfAbsent(stockKey(productId), String.valueOf(stock));
+                redisTemplate.opsForSet().add(ACTIVE_PRODUCTS_KEY, String.valueOf(productId));
+                log.info("플래시 세일 시작. productId={}, stock={}", productId, stock);
+            }
+        });
+    }
+
+    /**
+     * 플래시 세일 종료. Redis 카운터를 지우고 남은 재고를 DB 에 반영한 뒤 일반 주문으로 되돌림.
+     * 큐에 남은 주문은 종료 후에도 drainer 가 계속 저장함
+     * @param productId 상품 id
+     */
+    public void closeFlashSale(int productId) {
+        Long remaining = redisTemplate.execute(CLOSE_SCRIPT, List.of(stockKey(productId), orderKeysKey(productId)),
+                String.valueOf(orderKeyRetentionSeconds));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // Redis 카운터가 이미 없으면 마지막으로 정산된 DB 재고를 그대로 사용
+            int stock = remaining != null && remaining >= 0
+                    ? remaining.intValue()
+                    : productRepository.findStockById(productId).orElse(0);
+            productRepository.endFlashSale(productId, stock, LocalDateTime.now());
+            productDetailCacheService.evict(productId);
+            log.info("플래시 세일 종료. productId={}, remaining={}", productId, stock);
+        });
+    }
+
+    /**
+     * 플래시 세일 재고 차감 및 주문 접수. Redis 왕복 한 번으로 처리되며 DB 는 사용하지 않음
+     * @param requestDto 주문 정보
+     * @param userId 주문한 사용자 id
+     * @param idempotencyKey 주문 멱등성 키
+     * @return 접수 결과. 플래시 세일 중이 아니면 NOT_ACTIVE, Redis 를 사용할 수 없으면 UNAVAILABLE,
+     *         같은 주문 키로 접수된 주문이 다른 주문과 키가 겹쳐 저장되지 못했으면 REJECTED
+     */
+    public FlashSaleReservationVo reserve(ProductOrderRequestDto requestDto, int userId, String idempotencyKey) {
+        int productId = requestDto.getProductId();
+        FlashSaleOrderVo order = new FlashSaleOrderVo(productId, userId, requestDto.getQuantity(), idempotencyKey,
+                System.currentTimeMillis(), requestDto.getPhoneNumber(), requestDto.getZipCode(),
+                requestDto.getAddressLine1(), requestDto.getAddressLine2());
+
+        Long result;
+        try {
+            result = redisTemplate.execute(RESERVE_SCRIPT,
+                    List.of(stockKey(productId), orderKeysKey(productId), queueKey(productId)),
+                    String.valueOf(order.quantity()), orderKeyField(userId, idempotencyKey), objectMapper.writeValueAsString(order));
+        } catch (Exception e) {
+            // 세일 여부를 알 수 없음. 일반 주문으로 넘어가도 플래시 세일 상품은 DB 재고 차감이 막혀 있으므로 초과 판매되지 않음
+            log.warn("플래시 세일 재고 차감 실패. productId={}, {}", productId, e.getMessage());
+            unavailableCounter.increment();
+            return new FlashSaleReservationVo(FlashSaleReserveResult.UNAVAILABLE, null);
+        }
+
+        if (result == null) {
+            unavailableCounter.increment();
+            return new FlashSaleReservationVo(FlashSaleReserveResult.UNAVAILABLE, null);
+        }
+        if (result == -1) {
+            return new FlashSaleReservationVo(FlashSaleReserveResult.NOT_ACTIVE, null);
+        }
+        if (result == 0) {
+            soldOutCounter.increment();
+            return new FlashSaleReservationVo(FlashSaleReserveResult.SOLD_OUT, null);
+        }
+        if (result == -2) {
+            duplicateCounter.increment();
+            String existing = (String) redisTemplate.opsForHash().get(orderKeysKey(productId), orderKeyField(userId, idempotencyKey));
+            if (REJECTED_ORDER.equals(existing)) {
+                return new FlashSaleReservationVo(FlashSaleReserveResult.REJECTED, null);
+            }
+            return new FlashSaleReservationVo(FlashSaleReserveResult.DUPLICATE, existing == null ? order : readOrder(existing));
+        }
+        acceptedCounter.increment();
+        return new FlashSaleReservationVo(FlashSaleReserveResult.ACCEPTED, order);
+    }
+
+    /**
+     * 큐에 쌓인 플래시 세일 주문을 batch 로 DB 에 저장. 저장이 끝난 주문만 큐에서 제거하므로 중간에 실패해도 유실되지 않음.
+     * 읽을 수 없거나 저장할 수 없는 주문 (주문 키 중복, FK 위반) 은 dead-letter 목록으로 옮기고 나머지는 계속 저장
+     * @return 큐에서 처리한 주문 수
+     */
+    public int drainOrders() {
+        Set<String> productIds = redisTemplate.opsForSet().members(ACTIVE_PRODUCTS_KEY);
+        if (productIds == null || productIds.isEmpty()) {
+            return 0;
+        }
+
+        int drained = 0;
+        for (String productId : productIds) {
+            drained += drainProduct(Integer.parseInt(productId));
+        }
+        return drained;
+    }
+
+    private int drainProduct(int productId) {
+        // 인스턴스마다 drainer 가 돌기 때문에 상품별 잠금으로 같은 큐를 동시에 처리하지 않도록 함
+        String lockKey = "flashsale:{" + productId + "}:drain-lock";
+        String lockValue = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, lockValue, DRAIN_LOCK_TTL))) {
+            return 0;
+        }
+
+        int drained = 0;
+        try {
+            String queueKey = queueKey(productId);
+            for (int batch = 0; batch < drainMaxBatchesPerRun; batch++) {
+                List<String> payloads = redisTemplate.opsForList().range(queueKey, 0, drainBatchSize - 1);
+                if (payloads == null || payloads.isEmpty()) {
+                    redisTemplate.execute(RETIRE_SCRIPT, List.of(stockKey(productId), queueKey, ACTIVE_PRODUCTS_KEY),
+                            String.valueOf(productId));
+                    break;
+                }
+
+                persist(productId, payloads);
+                redisTemplate.opsForList().trim(queueKey, payloads.size(), -1); // 저장한 만큼만 큐에서 제거
+                drained += payloads.size();
+                persistedCounter.increment(payloads.size());
+
+                if (payloads.size() < drainBatchSize) {
+                    break;
+                }
+            }
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), lockValue);
+        }
+        return drained;
+    }
+
+    // batch 로 저장하고, 읽을 수 없는 주문이 있거나 제약 조건 위반이 나면 한 건씩 저장하여 문제가 있는 주문만 dead-letter 로 옮김.
+    // DB 연결 실패 등 일시적인 오류는 그대로 던져서 큐를 유지하고 다음 실행에서 다시 저장
+    private void persist(int productId, List<String> payloads) {
+        List<Optional<FlashSaleOrderVo>> orders = payloads.stream().map(this::tryReadOrder).toList();
+        if (orders.stream().allMatch(Optional::isPresent)) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        productOrderRepository.batchInsert(orders.stream().map(Optional::get).toList()));
+                return;
+            } catch (DataIntegrityViolationException e) {
+                log.warn("플래시 세일 주문 batch 저장 실패. 개별 저장으로 재시도. productId={}, size={}, {}",
+                        productId, payloads.size(), e.getMessage());
+            }
+        }
+
+        for (int i = 0; i < payloads.size(); i++) {
+            String payload = payloads.get(i);
+            if (orders.get(i).isEmpty()) {
+                redisTemplate.opsForList().rightPush(deadLetterKey(productId), payload);
+                unreadableCounter.increment();
+                log.error("읽을 수 없는 플래시 세일 주문. dead-letter 로 이동. productId={}, payload={}", productId, payload);
+                continue;
+            }
+
+            FlashSaleOrderVo order = orders.get(i).get();
+            try {
+                productOrderRepository.batchInsert(List.of(order));
+            } catch (DuplicateKeyException e) {
+                if (isAlreadyPersisted(order)) {
+                    // 이전 실행이 저장 후 큐를 정리하기 전에 중단된 경우
+                    log.info("이미 저장된 플래시 세일 주문. userId={}, idempotencyKey={}", order.userId(), order.idempotencyKey());
+                } else {
+                    reject(order, payload, collisionCounter);
+                }
+            } catch (DataIntegrityViolationException e) {
+                reject(order, payload, rejectedCounter);
+            }
+        }
+    }
+
+    // 같은 주문 키로 저장된 행이 이 세일 주문인지 확인. 다르면 일반 주문 등 다른 주문이 먼저 키를 사용한 것
+    private boolean isAlreadyPersisted(FlashSaleOrderVo order) {
+        LocalDateTime orderedAt = new Timestamp(order.orderedAt()).toLocalDateTime();
+        return productOrderRepository.findByUserIdAndIdempotencyKey(order.userId(), order.idempotencyKey())
+                .filter(existing -> existing.getProduct().getId() == order.productId()
+                        && existing.getQuantity() == order.quantity()
+                        // DB 에 따라 밀리초가 반올림되어 저장되므로 1초 이내면 같은 주문
+                        && Math.abs(Duration.between(existing.getOrder_date(), orderedAt).toMillis()) <= 1000)
+                .isPresent();
+    }
+
+    // 저장할 수 없는 주문의 재고를 되돌리고 dead-letter 로 옮김. 클라이언트는 접수 (202) 응답을 받았으므로 로그와 지표로 남기고,
+    // 같은 키로 다시 요청하면 REJECTED 로 응답
+    private void reject(FlashSaleOrderVo order, String payload, Counter counter) {
+        int productId = order.productId();
+        Long result = redisTemplate.execute(REJECT_SCRIPT,
+                List.of(stockKey(productId), orderKeysKey(productId), deadLetterKey(productId)),
+                String.valueOf(order.quantity()), orderKeyField(order.userId(), order.idempotencyKey()), payload,
+                REJECTED_ORDER, String.valueOf(orderKeyRetentionSeconds));
+        if (result == null || result < 0) {
+            return; // 이전 실행에서 이미 처리됨
+        }
+
+        counter.increment();
+        log.warn("저장할 수 없는 플래시 세일 주문. dead-letter 로 이동하고 재고 복구. productId={}, userId={}, idempotencyKey={}, quantity={}",
+                productId, order.userId(), order.idempotencyKey(), order.quantity());
+        if (result == 0) {
+            // 세일이 이미 끝났으면 DB 재고가 기준
+            Integer restored = transactionTemplate.execute(status ->
+                    productRepository.restoreStock(productId, order.quantity(), LocalDateTime.now()));
+            if (restored != null && restored > 0) {
+                productDetailCacheService.evict(productId);
+            } else {
+                log.error("플래시 세일 주문 재고 복구 실패. 수동 확인 필요. productId={}, quantity={}", productId, order.quantity());
+            }
+        }
+    }
+
+    /**
+     * 진행 중인 플래시 세일의 Redis 남은 재고를 DB 재고에 반영. 상세 페이지에 보이는 재고를 맞추기 위한 정산
+     * @return 정산한 상품 수
+     */
+    public int reconcileStock() {
+        Set<String> productIds = redisTemplate.opsForSet().members(ACTIVE_PRODUCTS_KEY);
+        if (productIds == null || productIds.isEmpty()) {
+            return 0;
+        }
+
+        int synced = 0;
+        for (String id : productIds) {
+            int productId = Integer.parseInt(id);
+            String stock = redisTemplate.opsForValue().get(stockKey(productId));
+            if (stock == null) { // 종료된 세일. 종료 시 이미 반영됨
+                continue;
+            }
+
+            Integer updated = transactionTemplate.execute(status ->
+                    productRepository.syncFlashSaleStock(productId, Integer.parseInt(stock), LocalDateTime.now()));
+            if (updated != null && updated > 0) {
+                productDetailCacheService.evict(productId);
+                synced++;
+            }
+        }
+        reconciledCounter.increment(synced);
+        return synced;
+    }
+
+    private FlashSaleOrderVo readOrder(String payload) {
+        try {
+            return objectMapper.readValue(payload, FlashSaleOrderVo.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("플래시 세일 주문을 읽을 수 없습니다. : " + payload, e);
+        }
+    }
+
+    private Optional<FlashSaleOrderVo> tryReadOrder(String payload) {
+        try {
+            return Optional.of(objectMapper.readValue(payload, FlashSaleOrderVo.class));
+        } catch (JsonProcessingException e) {
+            return Optional.empty();
+        }
+    }
+
+    // 한 상품의 키는 같은 hash tag 를 사용하여 Redis Cluster 에서도 주문 접수 스크립트가 한 노드에서 실행되도록 함
+    private static String stockKey(int productId) {
+        return "flashsale:{" + productId + "}:stock";
+    }
+
+    private static String orderKeysKey(int productId) {
+        return "flashsale:{" + productId + "}:keys";
+    }
+
+    private static String queueKey(int productId) {
+        return "flashsale:{" + productId + "}:queue";
+    }
+
+    private static String deadLetterKey(int productId) {
+        return "flashsale:{" + productId + "}:dead-letter";
+    }
+
+    private static String orderKeyField(int userId, String idempotencyKey) {
+        return userId + ":" + idempotencyKey;
+    }
+}
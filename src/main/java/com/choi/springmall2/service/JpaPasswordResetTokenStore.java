@@ -0,0 +1,65 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.domain.entity.PasswordResetToken;
+import com.choi.springmall2.domain.entity.User;
+import com.choi.springmall2.error.exceptions.ExpiredPasswordResetTokenException;
+import com.choi.springmall2.repository.PasswordResetTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * password_reset_token 테이블에 토큰을 저장하는 구현. Redis 를 사용할 수 없는 환경을 위한 fallback
+ */
+@Component
+@ConditionalOnProperty(name = "password-reset.token-store", havingValue = "jpa")
+@RequiredArgsConstructor
+public class JpaPasswordResetTokenStore implements PasswordResetTokenStore {
+
+    private final PasswordResetTokenRepository passwordResetTokenRepository;
+
+    @Override
+    @Transactional
+    public void save(User user, String tokenHash, Duration ttl) {
+        // 해당 사용자의 비밀번호 초기화 토큰이 존재한다면 기존 토큰을 삭제
+        passwordResetTokenRepository.deleteByUser(user);
+
+        PasswordResetToken passwordResetToken = new PasswordResetToken();
+        passwordResetToken.setUser(user);
+        passwordResetToken.setTokenHash(tokenHash);
+        passwordResetToken.setExpiryDate(LocalDateTime.now().plus(ttl));
+
+        passwordResetTokenRepository.saveAndFlush(passwordResetToken); // 제약 조건 위반을 이 트랜잭션 안에서 감지
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isValid(String tokenHash) {
+        return passwordResetTokenRepository.findByTokenHash(tokenHash)
+                .map(resetToken -> resetToken.getExpiryDate().isAfter(LocalDateTime.now()))
+                .orElse(false);
+    }
+
+    @Override
+    @Transactional
+    public Optional<Integer> consume(String tokenHash) {
+        Optional<PasswordResetToken> tokenOpt = passwordResetTokenRepository.findByTokenHash(tokenHash);
+        if (tokenOpt.isEmpty()) {
+            return Optional.empty();
+        }
+
+        PasswordResetToken resetToken = tokenOpt.get();
+        if (resetToken.getExpiryDate().isBefore(LocalDateTime.now())) {
+            throw new ExpiredPasswordResetTokenException("토큰이 만료되었습니다.");
+        }
+
+        // 토큰은 재사용 방지를 위해 삭제. 호출한 트랜잭션이 롤백되면 함께 복구됨
+        passwordResetTokenRepository.delete(resetToken);
+        return Optional.of(resetToken.getUser().getId());
+    }
+}
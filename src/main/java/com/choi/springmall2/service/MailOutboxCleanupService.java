@@ -0,0 +1,36 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+/**
+ * 보관 기간이 지난 발송 완료 메일 정리. 발송 실패 (FAILED) 메일은 확인할 수 있도록 남김
+ */
+@Service
+public class MailOutboxCleanupService {
+
+    private final BatchedPurger purger;
+
+    public MailOutboxCleanupService(MailOutboxRepository mailOutboxRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${mail.outbox.purge.retention-days:7}") long retentionDays,
+                                    @Value("${mail.outbox.purge.batch-size:5000}") int batchSize,
+                                    @Value("${mail.outbox.purge.max-batches-per-run:100}") int maxBatchesPerRun) {
+        this.purger = new BatchedPurger(mailOutboxRepository::deleteSentBefore, transactionManager, meterRegistry,
+                "mail.outbox.purged", Duration.ofDays(retentionDays), batchSize, maxBatchesPerRun);
+    }
+
+    /**
+     * 보관 기간이 지난 발송 완료 메일을 batch 단위로 삭제
+     * @return 이번 실행에서 삭제한 행 수
+     */
+    public int purgeSentMails() {
+        return purger.purge();
+    }
+}
@@ -0,0 +1,275 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.domain.MailStatus;
+import com.choi.springmall2.domain.entity.MailOutbox;
+import com.choi.springmall2.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Limit;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 메일 발송 outbox. 요청 스레드는 메일을 테이블에 저장만 하고, SMTP 발송은 mailExecutor 와 MailOutboxDispatchJob 이 처리.
+ * 발송 대상은 batch 로 선점하여 SMTP 연결 하나로 보내고, 실패한 메일은 지수 backoff 로 재시도
+ */
+@Service
+@Slf4j
+public class MailOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender javaMailSender;
+    private final TaskExecutor mailExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int maxAttempts;
+    private final Duration initialRetryDelay;
+    private final Duration maxRetryDelay;
+    private final Duration claimLease;
+
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+
+    // 저장될 때마다 발송 작업을 만들지 않도록, 아직 시작되지 않은 발송 작업이 있으면 새로 등록하지 않음
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean();
+
+    public MailOutboxService(MailOutboxRepository mailOutboxRepository,
+                             JavaMailSender javaMailSender,
+                             @Qualifier("mailExecutor") TaskExecutor mailExecutor,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${mail.outbox.batch-size:50}") int batchSize,
+                             @Value("${mail.outbox.max-batches-per-run:10}") int maxBatchesPerRun,
+                             @Value("${mail.outbox.max-attempts:5}") int maxAttempts,
+                             @Value("${mail.outbox.retry.initial-delay-seconds:30}") long initialRetryDelaySeconds,
+                             @Value("${mail.outbox.retry.max-delay-seconds:3600}") long maxRetryDelaySeconds,
+                             @Value("${mail.outbox.claim-lease-seconds:300}") long claimLeaseSeconds,
+                             @Value("${spring.mail.properties.mail.smtp.connectiontimeout:5000}") long smtpConnectionTimeoutMillis,
+                             @Value("${spring.mail.properties.mail.smtp.timeout:10000}") long smtpTimeoutMillis,
+                             @Value("${spring.mail.properties.mail.smtp.writetimeout:10000}") long smtpWriteTimeoutMillis) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.javaMailSender = javaMailSender;
+        this.mailExecutor = mailExecutor;
+        // 커밋 직후 (afterCommit) 같은 스레드에서 호출되어도 끝난 트랜잭션에 참여하지 않도록 항상 새 트랜잭션 사용
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.maxAttempts = maxAttempts;
+        this.initialRetryDelay = Duration.ofSeconds(initialRetryDelaySeconds);
+        this.maxRetryDelay = Duration.ofSeconds(maxRetryDelaySeconds);
+        // batch 하나를 보내는 동안 lease 가 끝나 다른 실행이 같은 메일을 다시 선점하지 않도록,
+        // 모든 메일이 SMTP timeout 까지 걸리는 경우보다 짧게 잡지 않음
+        Duration batchTimeout = Duration.ofMillis(smtpConnectionTimeoutMillis + batchSize * (smtpTimeoutMillis + smtpWriteTimeoutMillis));
+        Duration configuredLease = Duration.ofSeconds(claimLeaseSeconds);
+        this.claimLease = configuredLease.compareTo(batchTimeout) < 0 ? batchTimeout : configuredLease;
+
+        this.sentCounter = meterRegistry.counter("mail.outbox.sent");
+        this.retryCounter = meterRegistry.counter("mail.outbox.retry");
+        this.failedCounter = meterRegistry.counter("mail.outbox.failed");
+    }
+
+    /**
+     * 메일을 outbox 에 저장하고 커밋 후 비동기 발송 요청. SMTP 응답을 기다리지 않음.
+     * 트랜잭션 커밋 후 이벤트 리스너에서도 호출되므로 항상 새 트랜잭션에서 저장
+     * @param recipient 받는 사람
+     * @param subject 제목
+     * @param body 본문
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void enqueue(String recipient, String subject, String body) {
+        MailOutbox mail = new MailOutbox();
+        mail.setRecipient(recipient);
+        mail.setSubject(subject);
+        mail.setBody(body);
+        mail.setStatus(MailStatus.PENDING);
+        mail.setNextAttemptAt(LocalDateTime.now());
+        mailOutboxRepository.save(mail);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                requestDispatch();
+            }
+        });
+    }
+
+    private void requestDispatch() {
+        if (!dispatchScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            mailExecutor.execute(() -> {
+                dispatchScheduled.set(false); // 발송 중 저장된 메일은 다음 작업이 처리하도록 먼저 해제
+                try {
+                    dispatchPending();
+                } catch (Exception e) {
+                    log.error("메일 발송 실패", e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // 저장은 되었으므로 MailOutboxDispatchJob 이 발송
+            dispatchScheduled.set(false);
+            log.warn("메일 발송 작업 대기열이 가득 차 다음 주기에 발송합니다.");
+        }
+    }
+
+    /**
+     * 발송 시각이 된 메일을 batch 단위로 선점하여 발송
+     * @return 발송에 성공한 메일 수
+     */
+    public int dispatchPending() {
+        int sent = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<MailOutbox> claimed = claimBatch();
+            if (claimed.isEmpty()) {
+                break;
+            }
+
+            sent += send(claimed);
+
+            if (claimed.size() < batchSize) {
+                break;
+            }
+        }
+        return sent;
+    }
+
+    private List<MailOutbox> claimBatch() {
+        String token = UUID.randomUUID().toString();
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = mailOutboxRepository.findDueIds(now, Limit.of(batchSize));
+            if (ids.isEmpty() || mailOutboxRepository.claim(ids, token, now, now.plus(claimLease)) == 0) {
+                return List.<MailOutbox>of();
+            }
+            return mailOutboxRepository.findByClaimToken(token);
+        });
+    }
+
+    private int send(List<MailOutbox> claimed) {
+        SimpleMailMessage[] messages = claimed.stream().map(this::toMessage).toArray(SimpleMailMessage[]::new);
+
+        // JavaMailSenderImpl 은 한 번에 전달된 메일을 SMTP 연결 하나로 발송함
+        Map<Object, Exception> failedMessages;
+        try {
+            javaMailSender.send(messages);
+            failedMessages = Map.of();
+        } catch (MailSendException e) {
+            failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                failedMessages = allFailed(messages, e);
+            }
+        } catch (MailException e) {
+            failedMessages = allFailed(messages, e); // 인증 실패 등 연결 전에 실패한 경우
+        }
+
+        String token = claimed.get(0).getClaimToken();
+        List<Long> sentIds = new ArrayList<>();
+        List<MailOutbox> failed = new ArrayList<>();
+        for (int i = 0; i < claimed.size(); i++) {
+            Exception error = failedMessages.get(messages[i]);
+            if (error == null) {
+                sentIds.add(claimed.get(i).getId());
+            } else {
+                claimed.get(i).setLastError(truncate(error.getMessage()));
+                failed.add(claimed.get(i));
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 그래도 lease 가 지나 다른 실행이 다시 선점한 메일은 그 실행이 처리하도록 상태를 바꾸지 않음
+            Set<Long> stillClaimed = mailOutboxRepository.findByClaimToken(token).stream()
+                    .map(MailOutbox::getId)
+                    .collect(Collectors.toSet());
+            int marked = sentIds.isEmpty() ? 0 : mailOutboxRepository.markSent(sentIds, token, LocalDateTime.now());
+            if (marked < sentIds.size()) {
+                log.warn("발송 중 선점이 만료된 메일. 중복 발송될 수 있음. count={}", sentIds.size() - marked);
+            }
+            failed.stream().filter(mail -> stillClaimed.contains(mail.getId())).forEach(this::scheduleRetry);
+        });
+
+        sentCounter.increment(sentIds.size());
+        return sentIds.size();
+    }
+
+    private void scheduleRetry(MailOutbox mail) {
+        int attempts = mail.getAttempts() + 1;
+        mail.setAttempts(attempts);
+        mail.setClaimToken(null);
+        if (attempts >= maxAttempts) {
+            mail.setStatus(MailStatus.FAILED);
+            failedCounter.increment();
+            log.error("메일 발송 최종 실패. id={}, attempts={}, error={}", mail.getId(), attempts, mail.getLastError());
+        } else {
+            mail.setNextAttemptAt(LocalDateTime.now().plus(retryDelay(attempts)));
+            retryCounter.increment();
+            log.warn("메일 발송 실패, 재시도 예정. id={}, attempts={}, next={}", mail.getId(), attempts, mail.getNextAttemptAt());
+        }
+        mailOutboxRepository.save(mail);
+    }
+
+    Duration claimLease() {
+        return claimLease;
+    }
+
+    // 30초, 1분, 2분, ... 최대 maxRetryDelay
+    Duration retryDelay(int attempts) {
+        Duration delay = initialRetryDelay.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+
+    private SimpleMailMessage toMessage(MailOutbox mail) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(mail.getRecipient());
+        message.setSubject(mail.getSubject());
+        message.setText(mail.getBody());
+        return message;
+    }
+
+    private static Map<Object, Exception> allFailed(SimpleMailMessage[] messages, Exception e) {
+        Map<Object, Exception> failed = new IdentityHashMap<>();
+        for (SimpleMailMessage message : messages) {
+            failed.put(message, e);
+        }
+        return failed;
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
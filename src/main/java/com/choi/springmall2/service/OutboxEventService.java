@@ -0,0 +1,228 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.domain.OutboxStatus;
+import com.choi.springmall2.domain.entity.EventOutbox;
+import com.choi.springmall2.event.OutboxEventHandler;
+import com.choi.springmall2.repository.EventOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 도메인 이벤트 outbox. 이벤트는 호출한 트랜잭션 안에서 event_outbox 에 저장되고,
+ * OutboxEventDispatchJob 이 batch 단위로 꺼내 이벤트 타입별 OutboxEventHandler 에 전달함.
+ * 한 번에 처리하는 양을 제한하므로 이벤트가 몰리면 테이블에 쌓였다가 순서대로 처리됨
+ */
+@Service
+@Slf4j
+public class OutboxEventService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final EventOutboxRepository eventOutboxRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, OutboxEventHandler<?>> handlers = new HashMap<>();
+
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int maxAttempts;
+    private final Duration initialRetryDelay;
+    private final Duration maxRetryDelay;
+    private final Duration claimLease;
+
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+    private final Timer lagTimer;
+
+    public OutboxEventService(EventOutboxRepository eventOutboxRepository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              List<OutboxEventHandler<?>> handlers,
+                              @Value("${outbox.dispatch.batch-size:100}") int batchSize,
+                              @Value("${outbox.dispatch.max-batches-per-run:10}") int maxBatchesPerRun,
+                              @Value("${outbox.dispatch.max-attempts:10}") int maxAttempts,
+                              @Value("${outbox.dispatch.retry.initial-delay-seconds:10}") long initialRetryDelaySeconds,
+                              @Value("${outbox.dispatch.retry.max-delay-seconds:600}") long maxRetryDelaySeconds,
+                              @Value("${outbox.dispatch.claim-lease-seconds:300}") long claimLeaseSeconds) {
+        this.eventOutboxRepository = eventOutboxRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        for (OutboxEventHandler<?> handler : handlers) {
+            OutboxEventHandler<?> previous = this.handlers.put(typeName(handler.eventType()), handler);
+            if (previous != null) {
+                throw new IllegalStateException("이벤트 handler 가 중복되었습니다. : " + handler.eventType().getName());
+            }
+        }
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.maxAttempts = maxAttempts;
+        this.initialRetryDelay = Duration.ofSeconds(initialRetryDelaySeconds);
+        this.maxRetryDelay = Duration.ofSeconds(maxRetryDelaySeconds);
+        this.claimLease = Duration.ofSeconds(claimLeaseSeconds);
+
+        this.retryCounter = meterRegistry.counter("outbox.dispatch.retry");
+        this.failedCounter = meterRegistry.counter("outbox.dispatch.failed");
+        this.lagTimer = Timer.builder("outbox.dispatch.lag") // 저장부터 처리 완료까지 걸린 시간
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트를 outbox 에 저장. 호출한 트랜잭션이 커밋되어야 이벤트도 저장되고, 롤백되면 함께 취소됨
+     * @param event 이벤트 (JSON 으로 직렬화 가능해야 함)
+     * @throws org.springframework.transaction.IllegalTransactionStateException 트랜잭션 밖에서 호출한 경우
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(Object event) {
+        EventOutbox outbox = new EventOutbox();
+        outbox.setEventType(typeName(event.getClass()));
+        outbox.setPayload(writePayload(event));
+        outbox.setStatus(OutboxStatus.PENDING);
+        outbox.setNextAttemptAt(LocalDateTime.now());
+        eventOutboxRepository.save(outbox);
+    }
+
+    /**
+     * 처리 시각이 된 이벤트를 batch 단위로 선점하여 handler 에 전달
+     * @return 처리에 성공한 이벤트 수
+     */
+    public int dispatchPending() {
+        int processed = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<EventOutbox> claimed = claimBatch();
+            if (claimed.isEmpty()) {
+                break;
+            }
+
+            processed += dispatch(claimed);
+
+            if (claimed.size() < batchSize) {
+                break;
+            }
+        }
+        return processed;
+    }
+
+    private List<EventOutbox> claimBatch() {
+        String token = UUID.randomUUID().toString();
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = eventOutboxRepository.findDueIds(now, Limit.of(batchSize));
+            if (ids.isEmpty() || eventOutboxRepository.claim(ids, token, now, now.plus(claimLease)) == 0) {
+                return List.<EventOutbox>of();
+            }
+            return eventOutboxRepository.findByClaimTokenOrderByIdAsc(token);
+        });
+    }
+
+    private int dispatch(List<EventOutbox> claimed) {
+        List<Long> processedIds = new ArrayList<>();
+        List<EventOutbox> failed = new ArrayList<>();
+
+        // handler 는 각자 필요한 트랜잭션을 사용. 하나가 실패해도 나머지 이벤트는 계속 처리
+        for (EventOutbox outbox : claimed) {
+            try {
+                handle(outbox);
+                processedIds.add(outbox.getId());
+            } catch (Exception e) {
+                log.warn("이벤트 처리 실패. id={}, type={}, {}", outbox.getId(), outbox.getEventType(), e.getMessage());
+                outbox.setLastError(truncate(e.toString()));
+                failed.add(outbox);
+            }
+        }
+
+        // 처리 중 lease 가 지나 다른 실행이 다시 선점한 이벤트는 그 실행이 처리하도록 상태를 바꾸지 않음
+        String token = claimed.get(0).getClaimToken();
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            int marked = processedIds.isEmpty() ? 0 : eventOutboxRepository.markProcessed(processedIds, token, now);
+            if (marked < processedIds.size()) {
+                log.warn("처리 중 선점이 만료된 이벤트. 중복 처리될 수 있음. count={}", processedIds.size() - marked);
+            }
+            failed.forEach(outbox -> scheduleRetry(outbox, token, now));
+        });
+
+        for (EventOutbox outbox : claimed) {
+            if (processedIds.contains(outbox.getId())) {
+                meterRegistry.counter("outbox.dispatch.processed", "type", outbox.getEventType()).increment();
+                lagTimer.record(Duration.between(outbox.getCreateAt(), now));
+            }
+        }
+        return processedIds.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void handle(EventOutbox outbox) throws JsonProcessingException {
+        OutboxEventHandler<T> handler = (OutboxEventHandler<T>) handlers.get(outbox.getEventType());
+        if (handler == null) {
+            throw new IllegalStateException("이벤트 handler 가 없습니다. : " + outbox.getEventType());
+        }
+        handler.handle(objectMapper.readValue(outbox.getPayload(), handler.eventType()));
+    }
+
+    private void scheduleRetry(EventOutbox outbox, String token, LocalDateTime now) {
+        int attempts = outbox.getAttempts() + 1;
+        // handler 가 없는 이벤트는 재시도해도 처리할 수 없음
+        boolean giveUp = attempts >= maxAttempts || !handlers.containsKey(outbox.getEventType());
+        OutboxStatus status = giveUp ? OutboxStatus.FAILED : OutboxStatus.PENDING;
+        LocalDateTime nextAttemptAt = giveUp ? outbox.getNextAttemptAt() : now.plus(retryDelay(attempts));
+        if (eventOutboxRepository.markFailed(outbox.getId(), token, status, attempts, nextAttemptAt, outbox.getLastError(), now) == 0) {
+            return; // 다른 실행이 다시 선점함
+        }
+
+        if (giveUp) {
+            failedCounter.increment();
+            log.error("이벤트 처리 최종 실패. id={}, type={}, attempts={}, error={}",
+                    outbox.getId(), outbox.getEventType(), attempts, outbox.getLastError());
+        } else {
+            retryCounter.increment();
+        }
+    }
+
+    // 10초, 20초, 40초, ... 최대 maxRetryDelay
+    Duration retryDelay(int attempts) {
+        Duration delay = initialRetryDelay.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+
+    private String writePayload(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("이벤트를 JSON 으로 변환할 수 없습니다. : " + event.getClass().getName(), e);
+        }
+    }
+
+    // 패키지 이동에 영향받지 않도록 클래스 이름만 사용
+    private static String typeName(Class<?> eventType) {
+        return eventType.getSimpleName();
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
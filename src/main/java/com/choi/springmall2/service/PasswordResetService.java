@@ -1,70 +1,104 @@
 package com.choi.springmall2.service;
 
-import com.choi.springmall2.domain.entity.PasswordResetToken;
 import com.choi.springmall2.domain.entity.User;
 import com.choi.springmall2.error.exceptions.ExpiredPasswordResetTokenException;
 import com.choi.springmall2.error.exceptions.InvalidPasswordResetTokenException;
 import com.choi.springmall2.error.exceptions.UserNotFoundException;
 import com.choi.springmall2.event.PasswordResetMailEvent;
-import com.choi.springmall2.repository.PasswordResetTokenRepository;
 import com.choi.springmall2.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
-import java.time.LocalDateTime;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
 import java.util.Optional;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class PasswordResetService {
 
+    private static final int TOKEN_BYTES = 32; // 256 bit. 충돌 확률이 무시할 수 있을 만큼 작음
+    private static final int MAX_TOKEN_ATTEMPTS = 3;
+    private static final Duration TOKEN_TTL = Duration.ofHours(1);
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
     private final UserRepository userRepository;
-    private final PasswordResetTokenRepository passwordResetTokenRepository;
+    private final PasswordResetTokenStore passwordResetTokenStore;
+    private final UserCacheService userCacheService;
 
     private final PasswordEncoder passwordEncoder;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final OutboxEventService outboxEventService;
+    private final TransactionTemplate transactionTemplate;
 
     /**
-     * 사용자 비밀번호 초기화 후, 이벤트 리스너를 통해 토큰을 포함한 링크를 사용자에게 메일로 전송
+     * 사용자 비밀번호 초기화 후, outbox 이벤트를 통해 토큰을 포함한 링크를 사용자에게 메일로 전송.
+     * 토큰 중복은 저장소(유니크 인덱스 또는 Redis SET NX)가 막고, 제약 조건 위반 시에만 새 토큰으로 다시 시도
      * @param email 사용자 이메일
      * @throws UserNotFoundException 사용자 이메일로 사용자를 찾을 수 없을 경우
      */
-    @Transactional
     public void sendMailToRequestPasswordReset(String email) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> issueToken(email));
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // 토큰 해시 충돌 또는 같은 사용자의 동시 요청. 트랜잭션 전체가 롤백되었으므로 처음부터 다시 실행
+                if (attempt >= MAX_TOKEN_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("비밀번호 초기화 토큰 저장 실패, 재시도. attempt={}", attempt);
+            }
+        }
+    }
+
+    private void issueToken(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
 
-        String token = generateUniqueToken();
+        String token = generateToken();
 
-        // 해당 사용자의 비밀번호 초기화 토큰이 존재한다면 기존 토큰을 삭제
-        passwordResetTokenRepository.deleteByUser(user);
+        // 사용자의 이전 토큰은 저장소에서 무효화됨
+        passwordResetTokenStore.save(user, hashToken(token), TOKEN_TTL);
 
-        // 메일 전송 성공 후 DB에 저장
-        PasswordResetToken passwordResetToken = new PasswordResetToken();
-        passwordResetToken.setUser(user);
-        passwordResetToken.setToken(token);
-        passwordResetToken.setExpiryDate(LocalDateTime.now().plusHours(1));
-
-        passwordResetTokenRepository.save(passwordResetToken);
+        // 토큰과 같은 트랜잭션으로 메일 발송 이벤트 저장. 커밋 후 OutboxEventDispatchJob 이 메일 발송
+        outboxEventService.publish(new PasswordResetMailEvent(user.getEmail(), token));
+    }
 
-        // 비밀번호 초기화 토큰 테이블 저장 후, 메일 발송 이벤트 발행
-        applicationEventPublisher.publishEvent(new PasswordResetMailEvent(user.getEmail(), token));
+    /**
+     * 비밀번호 초기화 토큰 생성. 저장소 조회 없이 SecureRandom 256 bit 로 생성하고 중복은 저장 시점에 확인
+     * @return 비밀번호 초기화 토큰 (URL 에 그대로 사용할 수 있는 Base64)
+     */
+    public String generateToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        SECURE_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
 
     /**
-     * 비밀번호 초기화 unique 토큰 생성
-     * @return 비밀번호 초기화 토큰
+     * 토큰 원문의 SHA-256 해시. 토큰 저장소에는 해시만 저장함.
+     * 원문은 메일 발송 전까지 event_outbox / mail_outbox 에 남고 처리/발송에 성공하면 지워짐.
+     * 최종 실패한 행에는 남지만 토큰은 TOKEN_TTL 이 지나면 사용할 수 없음
+     * @param token 비밀번호 초기화 토큰
+     * @return hex 64자
      */
-    public String generateUniqueToken() {
-        String token = UUID.randomUUID().toString();
-        while (passwordResetTokenRepository.existsByToken(token)) {
-            token = UUID.randomUUID().toString();
+    static String hashToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // 모든 JVM 이 SHA-256 을 지원함
         }
-        return token;
     }
 
     /**
@@ -73,39 +107,31 @@ public class PasswordResetService {
      * @return 토큰 유효성 여부
      */
     public boolean isValidToken(String token) {
-        Optional<PasswordResetToken> tokenOpt = passwordResetTokenRepository.findByToken(token);
-        if (tokenOpt.isEmpty()) {
+        if (token == null) {
             return false;
         }
-
-        PasswordResetToken resetToken = tokenOpt.get();
-        return resetToken.getExpiryDate().isAfter(LocalDateTime.now());
+        return passwordResetTokenStore.isValid(hashToken(token));
     }
 
     /**
-     * 신규 비밀번호로 사용자 비밀번호 초기화
+     * 신규 비밀번호로 사용자 비밀번호 초기화. 토큰 확인과 삭제를 한 번에 처리하므로 미리 isValidToken 을 호출할 필요 없음
      * @param token 비밀번호 초기화 토큰
      * @param newPassword 신규 비밀번호
-     * @throws InvalidPasswordResetTokenException 유효하지 않은 토큰일 경우
+     * @throws InvalidPasswordResetTokenException 유효하지 않거나 이미 사용된 토큰일 경우
      * @throws ExpiredPasswordResetTokenException 만료된 토큰일 경우
      */
     @Transactional
     public void updatePasswordWithToken(String token, String newPassword) {
-        PasswordResetToken resetToken = passwordResetTokenRepository.findByToken(token)
+        // 토큰은 재사용 방지를 위해 조회와 동시에 삭제
+        User user = Optional.ofNullable(token)
+                .flatMap(t -> passwordResetTokenStore.consume(hashToken(t)))
+                .flatMap(userRepository::findById)
                 .orElseThrow(() -> new InvalidPasswordResetTokenException("유효하지 않은 토큰입니다."));
 
-        if (resetToken.getExpiryDate().isBefore(LocalDateTime.now())) {
-            throw new ExpiredPasswordResetTokenException("토큰이 만료되었습니다.");
-        }
-
-        User user = resetToken.getUser();
-
         // 비밀번호 암호화
         String encodedPassword = passwordEncoder.encode(newPassword);
         user.setPassword(encodedPassword);
         userRepository.save(user); // @Transactional 이므로 생략해도됨 (변경감지)
-
-        // 토큰은 재사용 방지를 위해 삭제
-        passwordResetTokenRepository.delete(resetToken);
+        userCacheService.evict(user.getId()); // 이전 비밀번호로 로그인되지 않도록 캐시 무효화
     }
 }
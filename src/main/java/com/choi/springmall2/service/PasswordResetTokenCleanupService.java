@@ -0,0 +1,38 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.repository.PasswordResetTokenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+/**
+ * 만료된 비밀번호 초기화 토큰 정리. Redis 저장소는 TTL 로 만료되므로 JPA 저장소를 사용할 때만 등록
+ */
+@Service
+@ConditionalOnProperty(name = "password-reset.token-store", havingValue = "jpa")
+public class PasswordResetTokenCleanupService {
+
+    private final BatchedPurger purger;
+
+    public PasswordResetTokenCleanupService(PasswordResetTokenRepository passwordResetTokenRepository,
+                                            PlatformTransactionManager transactionManager,
+                                            MeterRegistry meterRegistry,
+                                            @Value("${password-reset.purge.batch-size:5000}") int batchSize,
+                                            @Value("${password-reset.purge.max-batches-per-run:100}") int maxBatchesPerRun) {
+        // 만료 시각이 실행 시각 이전인 토큰 삭제
+        this.purger = new BatchedPurger(passwordResetTokenRepository::deleteExpired, transactionManager, meterRegistry,
+                "password-reset.token.purged", Duration.ZERO, batchSize, maxBatchesPerRun);
+    }
+
+    /**
+     * 만료된 토큰을 batch 단위로 삭제
+     * @return 이번 실행에서 삭제한 행 수
+     */
+    public int purgeExpiredTokens() {
+        return purger.purge();
+    }
+}
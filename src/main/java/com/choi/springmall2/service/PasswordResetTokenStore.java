@@ -0,0 +1,38 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.domain.entity.User;
+import com.choi.springmall2.error.exceptions.ExpiredPasswordResetTokenException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 비밀번호 초기화 토큰 저장소. password-reset.token-store 속성으로 Redis(redis) 또는 DB(jpa) 구현을 선택.
+ * 토큰 원문은 저장하지 않고 SHA-256 해시만 키로 사용
+ */
+public interface PasswordResetTokenStore {
+
+    /**
+     * 토큰 저장. 사용자당 토큰은 하나만 유효하므로 이전 토큰은 무효화
+     * @param user 토큰을 발급받는 사용자
+     * @param tokenHash 토큰 해시
+     * @param ttl 토큰 유효 시간
+     * @throws org.springframework.dao.DataIntegrityViolationException 같은 해시의 토큰이 이미 존재할 경우
+     */
+    void save(User user, String tokenHash, Duration ttl);
+
+    /**
+     * 토큰 유효성 확인. 토큰을 소비하지 않음
+     * @param tokenHash 토큰 해시
+     * @return 존재하고 만료되지 않았으면 true
+     */
+    boolean isValid(String tokenHash);
+
+    /**
+     * 토큰을 조회하면서 삭제하여 한 번만 사용할 수 있도록 함
+     * @param tokenHash 토큰 해시
+     * @return 토큰 소유자 id, 토큰이 없으면 empty
+     * @throws ExpiredPasswordResetTokenException 만료된 토큰이 남아있는 경우 (만료 시 키가 사라지는 Redis 에서는 empty)
+     */
+    Optional<Integer> consume(String tokenHash);
+}
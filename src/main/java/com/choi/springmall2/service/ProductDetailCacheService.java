@@ -0,0 +1,199 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.domain.dto.ProductDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * 상품 상세 ProductDto 2단 캐시.
+ * 1단 : 인스턴스 로컬 LRU (최대 개수 + TTL 제한), 2단 : Redis (TTL 제한).
+ * 다른 인스턴스의 로컬 캐시는 직접 지울 수 없으므로 로컬 TTL 을 짧게 두어 stale 기간을 제한함.
+ * ProductDto 는 변경 가능한 객체이므로 로컬 캐시에는 복사본을 저장하고, 조회할 때도 복사본을 반환함
+ */
+@Service
+@Slf4j
+public class ProductDetailCacheService {
+
+    private static final String REDIS_KEY_PREFIX = "product:detail:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final int localMaxSize;
+    private final long localTtlMillis;
+    private final Duration redisTtl;
+
+    // accessOrder = true 인 LinkedHashMap 으로 LRU 구현. 동시 접근은 synchronized 로 보호
+    private final LinkedHashMap<Integer, LocalEntry> localCache;
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public ProductDetailCacheService(StringRedisTemplate redisTemplate,
+                                     ObjectMapper objectMapper,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${cache.product.local.max-size:1000}") int localMaxSize,
+                                     @Value("${cache.product.local.ttl-seconds:30}") long localTtlSeconds,
+                                     @Value("${cache.product.redis.ttl-seconds:600}") long redisTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.localMaxSize = localMaxSize;
+        this.localTtlMillis = Duration.ofSeconds(localTtlSeconds).toMillis();
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+
+        this.localCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, LocalEntry> eldest) {
+                boolean evict = size() > ProductDetailCacheService.this.localMaxSize;
+                if (evict) {
+                    evictionCounter.increment();
+                }
+                return evict;
+            }
+        };
+
+        this.localHitCounter = meterRegistry.counter("cache.product.detail.hit", "tier", "local");
+        this.redisHitCounter = meterRegistry.counter("cache.product.detail.hit", "tier", "redis");
+        this.missCounter = meterRegistry.counter("cache.product.detail.miss");
+        this.evictionCounter = meterRegistry.counter("cache.product.detail.eviction");
+        Gauge.builder("cache.product.detail.local.size", this, ProductDetailCacheService::localSize)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에서 상품 상세를 조회하고, 없으면 loader 로 조회한 뒤 두 캐시에 모두 저장
+     * @param productId 상품 id
+     * @param loader 캐시 미스 시 DB 에서 상품 상세를 조립하는 함수
+     * @return 상품 상세 Dto
+     */
+    public ProductDto get(int productId, IntFunction<ProductDto> loader) {
+        ProductDto cached = getLocal(productId);
+        if (cached != null) {
+            localHitCounter.increment();
+            return cached;
+        }
+
+        cached = getRedis(productId);
+        if (cached != null) {
+            redisHitCounter.increment();
+            putLocal(productId, cached);
+            return cached;
+        }
+
+        missCounter.increment();
+        ProductDto loaded = loader.apply(productId);
+        putRedis(productId, loaded);
+        putLocal(productId, loaded);
+        return loaded;
+    }
+
+    /**
+     * 상품 상세 캐시 무효화. 트랜잭션 안에서 호출되면 커밋 이후 한 번 더 지워서
+     * 커밋 전에 다른 요청이 이전 값을 다시 캐시에 올리는 경우를 방지
+     * @param productId 상품 id
+     */
+    public void evict(int productId) {
+        evictNow(productId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(productId);
+                }
+            });
+        }
+    }
+
+    private void evictNow(int productId) {
+        synchronized (localCache) {
+            localCache.remove(productId);
+        }
+        try {
+            redisTemplate.delete(REDIS_KEY_PREFIX + productId);
+        } catch (Exception e) {
+            log.warn("상품 상세 Redis 캐시 삭제 실패. productId={}, {}", productId, e.getMessage());
+        }
+    }
+
+    private ProductDto getLocal(int productId) {
+        synchronized (localCache) {
+            LocalEntry entry = localCache.get(productId);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expireAt() < System.currentTimeMillis()) {
+                localCache.remove(productId);
+                evictionCounter.increment();
+                return null;
+            }
+            return copyOf(entry.productDto());
+        }
+    }
+
+    private void putLocal(int productId, ProductDto productDto) {
+        synchronized (localCache) {
+            localCache.put(productId, new LocalEntry(copyOf(productDto), System.currentTimeMillis() + localTtlMillis));
+        }
+    }
+
+    // 호출한 쪽에서 값을 바꿔도 다른 요청이 받는 캐시 값에 영향이 없도록 복사. FileVo 는 record 라 공유해도 됨
+    private ProductDto copyOf(ProductDto productDto) {
+        if (productDto == null) {
+            return null;
+        }
+        ProductDto copy = new ProductDto();
+        copy.setId(productDto.getId());
+        copy.setTitle(productDto.getTitle());
+        copy.setDescription(productDto.getDescription());
+        copy.setPrice(productDto.getPrice());
+        copy.setStock(productDto.getStock());
+        copy.setThumbnailImage(productDto.getThumbnailImage());
+        copy.setContentImages(productDto.getContentImages() == null ? null : List.copyOf(productDto.getContentImages()));
+        return copy;
+    }
+
+    // Redis 장애 시에도 상품 조회는 가능해야 하므로 예외를 던지지 않고 캐시 미스로 처리
+    private ProductDto getRedis(int productId) {
+        try {
+            String json = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + productId);
+            return json == null ? null : objectMapper.readValue(json, ProductDto.class);
+        } catch (Exception e) {
+            log.warn("상품 상세 Redis 캐시 조회 실패. productId={}, {}", productId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRedis(int productId, ProductDto productDto) {
+        try {
+            redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + productId, objectMapper.writeValueAsString(productDto), redisTtl);
+        } catch (Exception e) {
+            log.warn("상품 상세 Redis 캐시 저장 실패. productId={}, {}", productId, e.getMessage());
+        }
+    }
+
+    private int localSize() {
+        synchronized (localCache) {
+            return localCache.size();
+        }
+    }
+
+    private record LocalEntry(ProductDto productDto, long expireAt) {
+    }
+}
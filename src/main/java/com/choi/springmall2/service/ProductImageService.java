@@ -1,5 +1,6 @@
 package com.choi.springmall2.service;
 
+import com.choi.springmall2.domain.ImageType;
 import com.choi.springmall2.domain.dto.ProductDto;
 import com.choi.springmall2.domain.entity.Product;
 import com.choi.springmall2.domain.entity.ProductImage;
@@ -26,20 +27,23 @@ public class ProductImageService {
         // 썸네일 이미지 처리 (순서대로 추가)
         addProductImage(productDto.getThumbnailImage().fileKey()
                 , productDto.getThumbnailImage().fileName()
-                , product, "thumbnail", 0, productImages);
+                , product, ImageType.THUMBNAIL, 0, productImages);
 
         // 상품 내용 이미지 처리 (순서대로 추가)
         List<FileVo> contentImages = productDto.getContentImages();
         for (int i = 0; i < contentImages.size(); i++) {
             addProductImage(contentImages.get(i).fileKey()
                     , contentImages.get(i).fileName()
-                    , product, "content", i + 1, productImages);
+                    , product, ImageType.CONTENT, i + 1, productImages);
         }
 
+        // 이미지 수만큼 INSERT 를 보내지 않도록 한 번에 batch 저장
+        productImageRepository.batchInsert(productImages);
+
         return productImages;
     }
 
-    private void addProductImage(String imageKey, String imageName, Product product, String type, int seq, List<ProductImage> productImages) {
+    private void addProductImage(String imageKey, String imageName, Product product, ImageType type, int seq, List<ProductImage> productImages) {
         ProductImage productImage = new ProductImage();
         productImage.setProduct(product);
         productImage.setImageKey(imageKey);
@@ -47,17 +51,13 @@ public class ProductImageService {
         productImage.setType(type);
         productImage.setSeq(seq);
 
-        // 이미지 저장
-        ProductImage savedImage = productImageRepository.save(productImage);
-
-        // 저장된 이미지를 리스트에 추가
-        productImages.add(savedImage);
+        productImages.add(productImage);
     }
 
     public FileVo getThumbnailImage(int productId) {
         // ProductImage 를 조회한 뒤에 FileVo에 매핑한 뒤 반환.
         List<ProductImage> productImages = productImageRepository
-                .findByProductIdAndTypeOrderBySeqAsc(productId, "thumbnail");
+                .findByProductIdAndTypeOrderBySeqAsc(productId, ImageType.THUMBNAIL);
         if (!productImages.isEmpty()) {
             return new FileVo(productImages.get(0).getImageName(), productImages.get(0).getImageKey());
         }
@@ -68,7 +68,7 @@ public class ProductImageService {
     public List<FileVo> getContentImages(int productId) {
         // ProductImage 를 조회한 뒤에 FileVo에 매핑한 뒤 반환.
         List<ProductImage> productImages = productImageRepository
-                .findByProductIdAndTypeOrderBySeqAsc(productId, "content");
+                .findByProductIdAndTypeOrderBySeqAsc(productId, ImageType.CONTENT);
         if (!productImages.isEmpty()) {
             List<FileVo> fileVoList = new ArrayList<>();
             for (ProductImage productImage : productImages) {
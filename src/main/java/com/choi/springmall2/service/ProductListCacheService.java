@@ -0,0 +1,158 @@
+package com.choi.springmall2.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 상품 목록 페이지의 렌더링된 상품 그리드 HTML 캐시.
+ * key 는 page + size 이고, 각 항목은 렌더링 당시의 카탈로그 버전을 함께 저장함.
+ * 카탈로그 버전은 모든 인스턴스가 공유하도록 Redis 에 두고 상품 등록 커밋 후 증가시키므로, 이전 버전 HTML 은 다시 제공되지 않음.
+ */
+@Service
+@Slf4j
+public class ProductListCacheService {
+
+    private static final String CATALOG_VERSION_KEY = "product:catalog:version";
+
+    private final StringRedisTemplate redisTemplate;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    // accessOrder = true 인 LinkedHashMap 으로 LRU 구현. 동시 접근은 synchronized 로 보호
+    private final LinkedHashMap<String, Entry> cache;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter bypassCounter;
+
+    public ProductListCacheService(StringRedisTemplate redisTemplate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${cache.product.list.max-size:200}") int maxSize,
+                                   @Value("${cache.product.list.ttl-seconds:300}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.maxSize = maxSize;
+        this.ttlMillis = Duration.ofSeconds(ttlSeconds).toMillis();
+
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > ProductListCacheService.this.maxSize;
+            }
+        };
+
+        this.hitCounter = meterRegistry.counter("cache.product.list.hit");
+        this.missCounter = meterRegistry.counter("cache.product.list.miss");
+        this.bypassCounter = meterRegistry.counter("cache.product.list.bypass");
+        Gauge.builder("cache.product.list.size", this, ProductListCacheService::size).register(meterRegistry);
+    }
+
+    /**
+     * 현재 카탈로그 버전의 상품 그리드 HTML 을 반환하고, 없으면 renderer 로 렌더링하여 캐시에 저장
+     * 카탈로그 버전을 확인할 수 없으면 (Redis 장애) 캐시를 사용하지 않고 매번 렌더링
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @param renderer 캐시 미스 시 상품 목록을 조회하여 그리드 HTML 을 렌더링하는 함수
+     * @return 상품 그리드 HTML
+     */
+    public String getProductGrid(int page, int size, Supplier<String> renderer) {
+        Long version = getCatalogVersion();
+        if (version == null) {
+            bypassCounter.increment();
+            return renderer.get();
+        }
+
+        String key = page + ":" + size;
+        synchronized (cache) {
+            Entry entry = cache.get(key);
+            if (entry != null && entry.version() == version && entry.expireAt() >= System.currentTimeMillis()) {
+                hitCounter.increment();
+                return entry.html();
+            }
+        }
+
+        missCounter.increment();
+        String html = renderer.get();
+        synchronized (cache) {
+            cache.put(key, new Entry(version, html, System.currentTimeMillis() + ttlMillis));
+        }
+        return html;
+    }
+
+    /**
+     * 카탈로그 버전 증가. 트랜잭션 안에서 호출되면 커밋 이후에 증가시켜서
+     * 커밋 전에 다른 요청이 이전 목록을 새 버전으로 캐시하는 경우를 방지
+     */
+    public void bumpCatalogVersion() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpNow();
+                }
+            });
+        } else {
+            bumpNow();
+        }
+    }
+
+    private void bumpNow() {
+        synchronized (cache) {
+            cache.clear();
+        }
+        try {
+            // 키가 없을 때 INCR 하면 1 부터 다시 시작하므로 먼저 시작값을 설정
+            initCatalogVersion();
+            redisTemplate.opsForValue().increment(CATALOG_VERSION_KEY);
+        } catch (Exception e) {
+            // 다른 인스턴스는 TTL 이 지나야 반영됨
+            log.error("상품 카탈로그 버전 증가 실패. {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 카탈로그 버전 조회. 상품이 등록될 때마다 증가하므로 목록 페이지의 ETag 로도 사용
+     * 키가 없으면 (Redis flush, eviction) 현재 시각으로 초기화하여 이전에 발급된 버전으로 되돌아가지 않도록 함
+     * Redis 장애 시에도 상품 목록은 조회 가능해야 하므로 예외를 던지지 않고 null 반환
+     * @return 카탈로그 버전. 조회 실패 시 null
+     */
+    public Long getCatalogVersion() {
+        try {
+            String version = redisTemplate.opsForValue().get(CATALOG_VERSION_KEY);
+            if (version == null) {
+                initCatalogVersion();
+                version = redisTemplate.opsForValue().get(CATALOG_VERSION_KEY);
+            }
+            return Long.parseLong(version);
+        } catch (Exception e) {
+            log.warn("상품 카탈로그 버전 조회 실패. {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 키가 없을 때만 현재 시각 (ms) 을 시작값으로 설정 (SETNX). 이전 버전은 그동안의 상품 등록 수만큼만 증가했으므로
+    // 시작값이 이전에 사용된 어떤 버전보다도 큼
+    private void initCatalogVersion() {
+        redisTemplate.opsForValue().setIfAbsent(CATALOG_VERSION_KEY, String.valueOf(System.currentTimeMillis()));
+    }
+
+    private int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private record Entry(long version, String html, long expireAt) {
+    }
+}
@@ -0,0 +1,144 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.domain.dto.ProductOrderRequestDto;
+import com.choi.springmall2.domain.dto.ProductOrderResponseDto;
+import com.choi.springmall2.domain.entity.ProductOrder;
+import com.choi.springmall2.domain.vo.FlashSaleOrderVo;
+import com.choi.springmall2.domain.vo.FlashSaleReservationVo;
+import com.choi.springmall2.error.exceptions.FlashSaleUnavailableException;
+import com.choi.springmall2.error.exceptions.InvalidOrderException;
+import com.choi.springmall2.error.exceptions.OutOfStockException;
+import com.choi.springmall2.error.exceptions.ProductDetailNotFoundException;
+import com.choi.springmall2.repository.ProductOrderRepository;
+import com.choi.springmall2.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductOrderService {
+
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 64;
+
+    private final ProductOrderRepository productOrderRepository;
+    private final ProductRepository productRepository;
+    private final UserService userService;
+    private final ProductDetailCacheService productDetailCacheService;
+    private final FlashSaleService flashSaleService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 상품 주문. 재고는 조건부 UPDATE 로 원자적으로 차감하고, 같은 멱등성 키로 다시 요청하면 기존 주문을 반환.
+     * 플래시 세일 중인 상품은 Redis 재고로 접수만 하고 pending 상태로 반환 (DB 저장은 비동기)
+     * @param requestDto 주문 정보
+     * @param userId 주문한 사용자 id
+     * @param idempotencyKey 클라이언트가 주문마다 생성하는 멱등성 키
+     * @return 생성되었거나 이미 존재하는 주문, 또는 플래시 세일로 접수된 주문
+     * @throws InvalidOrderException 주문 수량이나 멱등성 키가 잘못되었거나, 같은 키로 다른 주문을 요청한 경우
+     * @throws ProductDetailNotFoundException 상품이 존재하지 않는 경우
+     * @throws OutOfStockException 재고가 부족한 경우
+     * @throws FlashSaleUnavailableException 플래시 세일 중인 상품인데 Redis 를 사용할 수 없는 경우 (재시도 가능)
+     */
+    public ProductOrderResponseDto placeOrder(ProductOrderRequestDto requestDto, int userId, String idempotencyKey) {
+        validate(requestDto, idempotencyKey);
+
+        // 플래시 세일 중인 상품은 DB 를 거치지 않고 Redis 에서 처리
+        FlashSaleReservationVo reservation = flashSaleService.reserve(requestDto, userId, idempotencyKey);
+        switch (reservation.result()) {
+            case ACCEPTED:
+                return ProductOrderResponseDto.pending(reservation.order());
+            case DUPLICATE:
+                return toReplayResponse(reservation.order(), requestDto);
+            case SOLD_OUT:
+                throw new OutOfStockException("재고가 부족합니다.");
+            case REJECTED:
+                throw new InvalidOrderException("이미 사용된 주문 키입니다.");
+            case NOT_ACTIVE:
+            case UNAVAILABLE: // 일반 상품은 그대로 주문. 세일 상품이면 DB 재고 차감이 막혀 있으므로 아래에서 재시도 요청
+            default:
+                break;
+        }
+
+        // 재시도 요청은 재고를 건드리지 않고 기존 주문 반환
+        Optional<ProductOrder> existing = productOrderRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey);
+        if (existing.isPresent()) {
+            return toReplayResponse(existing.get(), requestDto);
+        }
+
+        try {
+            return transactionTemplate.execute(status -> reserveAndSave(requestDto, userId, idempotencyKey));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키로 동시에 들어온 요청. 유니크 인덱스 위반으로 재고 차감까지 롤백되었으므로 먼저 커밋된 주문을 반환
+            log.info("중복 주문 요청. userId={}, idempotencyKey={}", userId, idempotencyKey);
+            ProductOrder productOrder = productOrderRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+                    .orElseThrow(() -> e);
+            return toReplayResponse(productOrder, requestDto);
+        }
+    }
+
+    private ProductOrderResponseDto reserveAndSave(ProductOrderRequestDto requestDto, int userId, String idempotencyKey) {
+        int productId = requestDto.getProductId();
+        int quantity = requestDto.getQuantity();
+
+        // 재고 확인과 차감을 한 번에 처리. 상품 행 잠금은 트랜잭션이 끝날 때까지만 유지됨
+        if (productRepository.decreaseStock(productId, quantity, LocalDateTime.now()) == 0) {
+            boolean flashSale = productRepository.findFlashSaleById(productId)
+                    .orElseThrow(() -> new ProductDetailNotFoundException("해당 상품이 존재하지 않습니다."));
+            if (flashSale) {
+                // 세일 재고는 Redis 에 있으므로 품절이 아님. Redis 장애 또는 세일 시작 직후라 Redis 카운터가 아직 없는 경우
+                throw new FlashSaleUnavailableException("일시적으로 주문을 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+            }
+            throw new OutOfStockException("재고가 부족합니다.");
+        }
+
+        ProductOrder productOrder = new ProductOrder();
+        productOrder.setProduct(productRepository.getReferenceById(productId)); // FK 만 필요하므로 조회하지 않음
+        productOrder.setUser(userService.getUserReference(userId));
+        productOrder.setQuantity(quantity);
+        productOrder.setOrder_date(LocalDateTime.now());
+        productOrder.setPhoneNumber(requestDto.getPhoneNumber());
+        productOrder.setZipCode(requestDto.getZipCode());
+        productOrder.setAddressLine1(requestDto.getAddressLine1());
+        productOrder.setAddressLine2(requestDto.getAddressLine2());
+        productOrder.setIdempotencyKey(idempotencyKey);
+
+        // 커밋 전에 flush 하여 멱등성 키 중복을 이 트랜잭션 안에서 감지
+        productOrder = productOrderRepository.saveAndFlush(productOrder);
+        productDetailCacheService.evict(productId); // 상세 페이지에 재고가 노출되므로 무효화
+
+        return ProductOrderResponseDto.from(productOrder);
+    }
+
+    private void validate(ProductOrderRequestDto requestDto, String idempotencyKey) {
+        if (requestDto.getQuantity() <= 0) {
+            throw new InvalidOrderException("주문 수량은 1개 이상이어야 합니다.");
+        }
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new InvalidOrderException("주문 키가 올바르지 않습니다.");
+        }
+    }
+
+    // 같은 키로 다른 상품이나 수량을 요청하면 클라이언트 오류로 처리
+    private ProductOrderResponseDto toReplayResponse(ProductOrder productOrder, ProductOrderRequestDto requestDto) {
+        checkSameRequest(productOrder.getProduct().getId(), productOrder.getQuantity(), requestDto);
+        return ProductOrderResponseDto.from(productOrder);
+    }
+
+    private ProductOrderResponseDto toReplayResponse(FlashSaleOrderVo order, ProductOrderRequestDto requestDto) {
+        checkSameRequest(order.productId(), order.quantity(), requestDto);
+        return ProductOrderResponseDto.pending(order);
+    }
+
+    private void checkSameRequest(int productId, int quantity, ProductOrderRequestDto requestDto) {
+        if (productId != requestDto.getProductId() || quantity != requestDto.getQuantity()) {
+            throw new InvalidOrderException("이미 사용된 주문 키입니다.");
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.choi.springmall2.service;
 
 import com.choi.springmall2.domain.CustomUser;
+import com.choi.springmall2.domain.dto.ProductCursorPageDto;
 import com.choi.springmall2.domain.dto.ProductDto;
 import com.choi.springmall2.domain.entity.Product;
 import com.choi.springmall2.domain.entity.ProductImage;
 import com.choi.springmall2.domain.entity.User;
 import com.choi.springmall2.domain.vo.FileVo;
+import com.choi.springmall2.domain.vo.ProductListItemVo;
+import com.choi.springmall2.error.exceptions.InvalidCursorException;
 import com.choi.springmall2.error.exceptions.ProductDetailNotFoundException;
 import com.choi.springmall2.repository.ProductRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -14,10 +17,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,12 +31,26 @@ public class ProductService {
     private final ProductRepository productRepository;
     private final ProductImageService productImageService;
     private final UserService userService;
+    private final ProductDetailCacheService productDetailCacheService;
+    private final ProductListCacheService productListCacheService;
+
+    private static final String CURSOR_PREFIX = "product:";
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * 페이지 크기를 1 ~ MAX_PAGE_SIZE 로 제한. 0 이하는 Limit/PageRequest 에서 예외가 나고, 너무 크면 한 번에 조회하는 양이 무제한이 됨
+     * @param size 요청한 페이지 크기
+     * @return 제한된 페이지 크기
+     */
+    public static int clampPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
 
     @Transactional
     public ProductDto saveProduct(ProductDto productDto, CustomUser customUser) {
         // 사용자 정보 가져오기
         int userId = customUser.getId();
-        User user = userService.getUserById(userId);
+        User user = userService.getUserReference(userId); // FK 만 필요하므로 사용자 엔티티는 조회하지 않음
 
         // 상품 정보 저장
         Product product = new Product();
@@ -42,6 +61,8 @@ public class ProductService {
         product.setSeller(user);
 
         product = productRepository.save(product);  // 상품 저장 후 반환된 product (id 자동 생성됨)
+        productDetailCacheService.evict(product.getId()); // 상품 정보가 바뀌었으므로 상세 캐시 무효화
+        productListCacheService.bumpCatalogVersion(); // 목록 그리드 캐시는 커밋 후 버전 증가로 무효화
 
         // 상품 이미지 저장
         List<ProductImage> productImages = productImageService.saveProductImages(productDto, product);  // 상품 이미지 저장
@@ -68,34 +89,60 @@ public class ProductService {
 
     public Page<ProductDto> getProductsPage(int page, int size) {
         // 상품 페이지를 조회하기 위한 Pageable 객체 생성
-        Pageable pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "id"));
-        Page<Product> productPage = productRepository.findAll(pageable);
+        Pageable pageable = PageRequest.of(Math.max(page, 1) - 1, clampPageSize(size), Sort.by(Sort.Direction.DESC, "id"));
+        Page<ProductListItemVo> productPage = productRepository.findListItems(pageable);
 
         // Dto 로 변환
+        List<ProductDto> productDtoList = toProductDtoList(productPage.getContent());
 
-        List<Product> productList = productPage.getContent();
-        List<ProductDto> productDtoList = new ArrayList<>();
-        for (Product product : productList) {
-            FileVo thumbnailImage = productImageService.getThumbnailImage(product.getId());
-            List<FileVo> contentImages = productImageService.getContentImages(product.getId());
-
-            ProductDto productDto = new ProductDto();
-            productDto.setId(product.getId());
-            productDto.setTitle(product.getTitle());
-            productDto.setDescription(product.getDescription());
-            productDto.setPrice(product.getPrice());
-            productDto.setStock(product.getStock());
-            productDto.setThumbnailImage(thumbnailImage);
-            productDto.setContentImages(contentImages);
+        // Page 형태로 변환하여 반환
+        return new PageImpl<>(productDtoList, pageable, productPage.getTotalElements());
+    }
 
-            productDtoList.add(productDto);
+    /**
+     * 커서(keyset) 기반 상품 목록 조회. OFFSET 스캔 없이 id 인덱스만 타므로 깊은 페이지도 조회 비용이 일정함
+     * @param cursor 이전 조회 결과의 nextCursor. null 또는 빈 값이면 첫 페이지
+     * @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE 로 제한)
+     * @param withCount 전체 개수 조회 여부. false 면 COUNT 쿼리를 실행하지 않음
+     * @return 상품 목록과 다음 커서
+     * @throws InvalidCursorException 커서 형식이 잘못된 경우
+     */
+    public ProductCursorPageDto getProductsByCursor(String cursor, int size, boolean withCount) {
+        size = clampPageSize(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Limit limit = Limit.of(size + 1);
+        List<ProductListItemVo> products = (cursor == null || cursor.isBlank())
+                ? productRepository.findListItemsOrderByIdDesc(limit)
+                : productRepository.findListItemsByIdLessThan(decodeCursor(cursor), limit);
+
+        boolean hasNext = products.size() > size;
+        if (hasNext) {
+            products = products.subList(0, size);
         }
 
-        // Page 형태로 변환하여 반환
-        return new PageImpl<>(productDtoList, pageable, productPage.getTotalElements());
+        String nextCursor = hasNext ? encodeCursor(products.get(products.size() - 1).id()) : null;
+        Long totalElements = withCount ? productRepository.count() : null;
+
+        return new ProductCursorPageDto(toProductDtoList(products), nextCursor, hasNext, totalElements);
+    }
+
+    /**
+     * 상품 수정 시각 조회. 상세 페이지의 조건부 요청 (ETag / Last-Modified) 처리에 사용
+     * @param productId 상품 id
+     * @return 상품 수정 시각
+     * @throws ProductDetailNotFoundException 상품이 존재하지 않는 경우
+     */
+    public LocalDateTime getProductModifyAt(int productId) {
+        return productRepository.findModifyAtById(productId)
+                .orElseThrow(() -> new ProductDetailNotFoundException("해당 상품이 존재하지 않습니다."));
     }
 
     public ProductDto getProductDetail(int productId) {
+        // 로컬 캐시 -> Redis 캐시 -> DB 순으로 조회
+        return productDetailCacheService.get(productId, this::loadProductDetail);
+    }
+
+    private ProductDto loadProductDetail(int productId) {
         // 상품 상세정보를 조회하기 위하여 상품 ID로 상품을 조회
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ProductDetailNotFoundException("해당 상품이 존재하지 않습니다."));
@@ -114,4 +161,40 @@ public class ProductService {
 
         return productDto;
     }
+
+    // 상품 목록을 Dto 로 변환. 목록에서는 썸네일만 노출하므로 내용 이미지는 상세 조회에서만 채움
+    private List<ProductDto> toProductDtoList(List<ProductListItemVo> productList) {
+        List<ProductDto> productDtoList = new ArrayList<>();
+        for (ProductListItemVo product : productList) {
+            ProductDto productDto = new ProductDto();
+            productDto.setId(product.id());
+            productDto.setTitle(product.title());
+            productDto.setDescription(product.description());
+            productDto.setPrice(product.price());
+            productDto.setStock(product.stock());
+            productDto.setThumbnailImage(product.thumbnailImage());
+            productDto.setContentImages(Collections.emptyList());
+
+            productDtoList.add(productDto);
+        }
+        return productDtoList;
+    }
+
+    // 커서는 클라이언트가 내용을 해석하지 않도록 Base64 로 감싼 불투명 토큰으로 전달
+    private String encodeCursor(int productId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + productId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private int decodeCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new InvalidCursorException("잘못된 커서입니다.");
+            }
+            return Integer.parseInt(decoded.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) { // Base64 디코딩 실패, 숫자 변환 실패 모두 포함
+            throw new InvalidCursorException("잘못된 커서입니다.");
+        }
+    }
 }
@@ -6,6 +6,9 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -35,4 +38,27 @@ public class RedisFileKeyService {
     public boolean exists(String fileKey) {
         return Boolean.TRUE.equals(redisTemplate.hasKey(fileKey));
     }
+
+    /**
+     * 여러 키 중 Redis 에 존재하는 키만 반환. MGET 한 번으로 조회하므로 키 수와 관계없이 왕복 1회
+     * @param fileKeys 확인할 파일 key 목록
+     * @return Redis 에 존재하는 파일 key 집합
+     */
+    public Set<String> findExistingKeys(List<String> fileKeys) {
+        Set<String> existingKeys = new HashSet<>();
+        if (fileKeys.isEmpty()) {
+            return existingKeys;
+        }
+
+        List<String> values = redisTemplate.opsForValue().multiGet(fileKeys);
+        if (values == null) { // 파이프라인/트랜잭션 안에서 호출된 경우에만 null
+            throw new IllegalStateException("Redis MGET 결과를 가져올 수 없습니다.");
+        }
+        for (int i = 0; i < fileKeys.size(); i++) {
+            if (values.get(i) != null) {
+                existingKeys.add(fileKeys.get(i));
+            }
+        }
+        return existingKeys;
+    }
 }
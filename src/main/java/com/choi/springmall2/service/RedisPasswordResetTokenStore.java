@@ -0,0 +1,108 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.domain.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 에 토큰을 저장하는 구현 (기본값). 만료는 키 TTL 로 처리하므로 만료된 토큰이 쌓이지 않고,
+ * 소비는 GETDEL 한 번으로 조회와 삭제를 원자적으로 처리.
+ * Redis 변경은 DB 트랜잭션에 포함되지 않으므로, 트랜잭션 안에서 호출되면 롤백 시 되돌리거나 커밋 후에 반영함
+ */
+@Component
+@ConditionalOnProperty(name = "password-reset.token-store", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class RedisPasswordResetTokenStore implements PasswordResetTokenStore {
+
+    private static final String TOKEN_KEY_PREFIX = "password-reset:token:"; // 토큰 해시 -> 사용자 id
+    private static final String USER_KEY_PREFIX = "password-reset:user:"; // 사용자 id -> 마지막으로 발급한 토큰 해시
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void save(User user, String tokenHash, Duration ttl) {
+        // 새 토큰은 메일 발송 이벤트가 커밋되기 전까지 아무도 모르므로 바로 저장하여 중복을 이 트랜잭션 안에서 감지
+        String tokenKey = tokenKey(tokenHash);
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(tokenKey, String.valueOf(user.getId()), ttl))) {
+            throw new DuplicateKeyException("이미 존재하는 비밀번호 초기화 토큰입니다.");
+        }
+
+        // 이전 토큰 (이미 메일로 발송됨) 무효화는 커밋 후에 처리. 롤백되면 이전 토큰은 유지하고 새 토큰만 삭제
+        onCompletion(() -> replaceUserToken(user.getId(), tokenHash, ttl), () -> redisTemplate.delete(tokenKey));
+    }
+
+    // 사용자당 토큰은 하나만 유효하도록 이전 토큰 삭제. 키마다 단일 명령만 사용하므로 클러스터에서도 동작
+    private void replaceUserToken(int userId, String tokenHash, Duration ttl) {
+        ValueOperations<String, String> ops = redisTemplate.opsForValue();
+        String userKey = USER_KEY_PREFIX + userId;
+        String previousHash = ops.getAndSet(userKey, tokenHash);
+        redisTemplate.expire(userKey, ttl);
+        if (previousHash != null && !previousHash.equals(tokenHash)) {
+            redisTemplate.delete(tokenKey(previousHash));
+        }
+    }
+
+    @Override
+    public boolean isValid(String tokenHash) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(tokenKey(tokenHash)));
+    }
+
+    @Override
+    public Optional<Integer> consume(String tokenHash) {
+        String tokenKey = tokenKey(tokenHash);
+        Long ttlMillis = redisTemplate.getExpire(tokenKey, TimeUnit.MILLISECONDS); // 롤백 시 남은 시간으로 되돌리기 위해 조회
+
+        // 같은 토큰으로 동시에 요청해도 한 요청만 값을 받음. 만료된 토큰은 키가 없으므로 empty
+        String userId = redisTemplate.opsForValue().getAndDelete(tokenKey);
+        if (userId == null) {
+            return Optional.empty();
+        }
+
+        // 비밀번호 변경이 롤백되면 토큰을 다시 사용할 수 있도록 복구
+        onCompletion(() -> { }, () -> {
+            if (ttlMillis != null && ttlMillis > 0) {
+                redisTemplate.opsForValue().setIfAbsent(tokenKey, userId, Duration.ofMillis(ttlMillis));
+            }
+        });
+        return Optional.of(Integer.valueOf(userId));
+    }
+
+    // 트랜잭션 안이면 커밋 후 onCommit, 롤백 후 onRollback 실행. 트랜잭션 밖이면 바로 onCommit 실행
+    private void onCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        onCommit.run();
+                    } else if (status == STATUS_ROLLED_BACK) {
+                        onRollback.run();
+                    }
+                } catch (Exception e) {
+                    // 반영하지 못한 변경은 토큰 TTL 이 지나면 정리됨
+                    log.error("비밀번호 초기화 토큰 Redis 반영 실패. status={}, {}", status, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private String tokenKey(String tokenHash) {
+        return TOKEN_KEY_PREFIX + tokenHash;
+    }
+}
@@ -1,9 +1,14 @@
 package com.choi.springmall2.service;
 
+import com.choi.springmall2.domain.vo.FileMoveResultVo;
+import com.choi.springmall2.domain.vo.TempFileCleanupResultVo;
 import com.choi.springmall2.error.exceptions.PreSignedUrlCreationException;
 import com.choi.springmall2.error.exceptions.S3FileOperationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -14,6 +19,9 @@ import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignReques
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Service
 @RequiredArgsConstructor
@@ -29,9 +37,15 @@ public class S3Service {
     @Value("${presigned.url.expiration}")
     private long duration;
 
+    // ListObjectsV2 페이지 크기이자 DeleteObjects 최대 요청 수
+    private static final int CLEANUP_BATCH_SIZE = 1000;
+
     private final S3Presigner s3Presigner;
     private final S3Client s3Client;
     private final RedisFileKeyService redisFileKeyService;
+    @Qualifier("s3MoveExecutor")
+    private final Executor s3MoveExecutor;
+    private final MeterRegistry meterRegistry;
 
     public String createPreSignedUrl(String path) {
         try {
@@ -94,43 +108,123 @@ public class S3Service {
         redisFileKeyService.deleteTempFileKey(fileKey); // Redis 에서 임시 파일 키 삭제
     }
 
-    // 임시 폴더에 있는 파일 삭제
-    public List<String> deleteTempFolderFiles() {
-        try {
-            String directoryPath = "temp/";
+    /**
+     * 여러 임시 파일을 병렬로 실제 경로로 이동. 하나가 실패해도 나머지 파일 이동은 계속 진행됨
+     * @param fileKeys 이동할 파일 key 목록
+     * @return 파일별 이동 결과 (요청한 순서와 동일)
+     */
+    public List<FileMoveResultVo> moveFromTempAll(List<String> fileKeys) {
+        List<CompletableFuture<FileMoveResultVo>> futures = new ArrayList<>();
+        for (String fileKey : fileKeys) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    moveFromTemp(fileKey);
+                    return FileMoveResultVo.success(fileKey);
+                } catch (Exception e) {
+                    log.error("임시 파일 이동 실패. fileKey={}, {}", fileKey, e.getMessage());
+                    return FileMoveResultVo.failure(fileKey, e.getMessage());
+                }
+            }, s3MoveExecutor));
+        }
 
-            // 객체 목록을 조회
+        // 모든 이동이 끝날 때까지 대기. 전체 소요 시간은 가장 느린 이동 하나에 가까움
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * 임시 폴더에서 Redis 에 키가 없는(등록되지 않은) 파일을 삭제.
+     * 목록은 continuation token 을 따라 끝까지 조회하고, 1000개 단위로 Redis 존재 여부를 한 번에 확인한 뒤
+     * DeleteObjects 한 번으로 삭제함. 메모리에는 한 batch 만 유지
+     * @return 조회/삭제/실패 건수와 소요 시간
+     */
+    public TempFileCleanupResultVo deleteTempFolderFiles() {
+        long startNanos = System.nanoTime();
+        CleanupProgress progress = new CleanupProgress(meterRegistry);
+
+        try {
+            // 객체 목록을 조회. paginator 가 continuation token 을 따라 다음 페이지를 이어서 조회함
             ListObjectsV2Request listObjects = ListObjectsV2Request.builder()
                     .bucket(bucket)
-                    .prefix(directoryPath) // 임시 폴더 지정
+                    .prefix(tempProductFilePath) // 임시 폴더 지정
+                    .maxKeys(CLEANUP_BATCH_SIZE)
                     .build();
 
-            ListObjectsV2Response listResponse = s3Client.listObjectsV2(listObjects);
-
-            // 삭제된 객체 목록
-            List<String> deletedKeys = new ArrayList<>();
-
-            // 각 객체를 삭제
-            for (S3Object s3Object : listResponse.contents()) {
-
-                String key = s3Object.key().substring(s3Object.key().lastIndexOf("/") + 1);
-
-                if (!redisFileKeyService.exists(key)) { // Redis key 에 없을 경우 삭제
-                    DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
-                            .bucket(bucket)
-                            .key(s3Object.key())
-                            .build();
-                    s3Client.deleteObject(deleteRequest);
-
-                    deletedKeys.add(key);
+            List<S3Object> batch = new ArrayList<>(CLEANUP_BATCH_SIZE);
+            for (S3Object s3Object : s3Client.listObjectsV2Paginator(listObjects).contents()) {
+                batch.add(s3Object);
+                if (batch.size() == CLEANUP_BATCH_SIZE) {
+                    deleteUnregisteredTempFiles(batch, progress);
+                    log.info("임시 파일 정리 진행 중. scanned={}, deleted={}, failed={}",
+                            progress.scanned, progress.deleted, progress.failed);
+                    batch.clear();
                 }
             }
+            if (!batch.isEmpty()) { // 마지막 batch 처리
+                deleteUnregisteredTempFiles(batch, progress);
+            }
 
-            return deletedKeys;
+            return new TempFileCleanupResultVo(progress.scanned, progress.deleted, progress.failed,
+                    Duration.ofNanos(System.nanoTime() - startNanos));
         } catch (S3Exception e) {
             throw new S3FileOperationException("파일 삭제 실패: " + e.getMessage());
         } catch (Exception e) {
             throw new S3FileOperationException("파일 삭제 중 예상치 못한 오류 발생: " + e.getMessage());
         }
     }
+
+    // 한 batch(최대 1000개) 안에서 Redis 에 키가 없는 파일만 DeleteObjects 로 삭제
+    private void deleteUnregisteredTempFiles(List<S3Object> batch, CleanupProgress progress) {
+        List<String> fileKeys = batch.stream()
+                .map(s3Object -> s3Object.key().substring(s3Object.key().lastIndexOf("/") + 1))
+                .toList();
+        Set<String> registeredKeys = redisFileKeyService.findExistingKeys(fileKeys);
+
+        List<ObjectIdentifier> toDelete = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (!registeredKeys.contains(fileKeys.get(i))) { // Redis key 에 없을 경우 삭제
+                toDelete.add(ObjectIdentifier.builder().key(batch.get(i).key()).build());
+            }
+        }
+
+        int failed = 0;
+        if (!toDelete.isEmpty()) {
+            DeleteObjectsRequest deleteRequest = DeleteObjectsRequest.builder()
+                    .bucket(bucket)
+                    .delete(Delete.builder().objects(toDelete).quiet(true).build()) // quiet : 실패한 객체만 응답에 포함
+                    .build();
+            DeleteObjectsResponse deleteResponse = s3Client.deleteObjects(deleteRequest);
+
+            for (S3Error error : deleteResponse.errors()) {
+                log.warn("임시 파일 삭제 실패. key={}, code={}, message={}", error.key(), error.code(), error.message());
+            }
+            failed = deleteResponse.errors().size();
+        }
+
+        progress.add(batch.size(), toDelete.size() - failed, failed);
+    }
+
+    // 임시 파일 정리 진행 상황. 누적 건수와 함께 메트릭도 batch 단위로 갱신
+    private static class CleanupProgress {
+        private final Counter scannedCounter;
+        private final Counter deletedCounter;
+        private final Counter failedCounter;
+        private long scanned;
+        private long deleted;
+        private long failed;
+
+        CleanupProgress(MeterRegistry meterRegistry) {
+            this.scannedCounter = meterRegistry.counter("s3.temp.cleanup.objects", "result", "scanned");
+            this.deletedCounter = meterRegistry.counter("s3.temp.cleanup.objects", "result", "deleted");
+            this.failedCounter = meterRegistry.counter("s3.temp.cleanup.objects", "result", "failed");
+        }
+
+        void add(int scanned, int deleted, int failed) {
+            this.scanned += scanned;
+            this.deleted += deleted;
+            this.failed += failed;
+            scannedCounter.increment(scanned);
+            deletedCounter.increment(deleted);
+            failedCounter.increment(failed);
+        }
+    }
 }
@@ -0,0 +1,238 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.domain.vo.CachedUserVo;
+import com.choi.springmall2.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자 조회 캐시. id 와 email 두 key 로 같은 스냅샷을 조회함.
+ * 비밀번호 해시가 포함되므로 Redis 에는 두지 않고 인스턴스 로컬 LRU (최대 개수 + TTL 제한) 로만 관리.
+ * 사용자별 버전은 모든 인스턴스가 공유하도록 Redis 에 두고 변경 커밋 후 증가시킴. 조회 시 캐시된 버전과 다르면 DB 에서 다시 읽으므로
+ * 비밀번호 변경 후 다른 인스턴스에서도 이전 비밀번호로 로그인되지 않음. 버전을 확인할 수 없으면 (Redis 장애) 캐시를 사용하지 않음.
+ */
+@Service
+@Slf4j
+public class UserCacheService {
+
+    private static final String VERSION_KEY_PREFIX = "user:version:";
+    // 로컬 TTL 보다 충분히 길어야 함. 키가 만료되어 버전이 처음부터 다시 시작될 때 같은 버전의 항목이 남아있지 않도록
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    // accessOrder = true 인 LinkedHashMap 으로 LRU 구현. 두 map 모두 byId 를 lock 으로 사용
+    private final LinkedHashMap<Integer, Entry> byId;
+    private final Map<String, Integer> idByEmail = new HashMap<>();
+
+    private final Counter idHitCounter;
+    private final Counter emailHitCounter;
+    private final Counter idMissCounter;
+    private final Counter emailMissCounter;
+    private final Counter evictionCounter;
+    private final Counter bypassCounter;
+
+    public UserCacheService(UserRepository userRepository,
+                            StringRedisTemplate redisTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${cache.user.max-size:10000}") int maxSize,
+                            @Value("${cache.user.ttl-seconds:60}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.maxSize = maxSize;
+        this.ttlMillis = Duration.ofSeconds(ttlSeconds).toMillis();
+
+        this.byId = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+                boolean evict = size() > UserCacheService.this.maxSize;
+                if (evict) {
+                    idByEmail.remove(eldest.getValue().user().email());
+                    evictionCounter.increment();
+                }
+                return evict;
+            }
+        };
+
+        this.idHitCounter = meterRegistry.counter("cache.user.hit", "key", "id");
+        this.emailHitCounter = meterRegistry.counter("cache.user.hit", "key", "email");
+        this.idMissCounter = meterRegistry.counter("cache.user.miss", "key", "id");
+        this.emailMissCounter = meterRegistry.counter("cache.user.miss", "key", "email");
+        this.evictionCounter = meterRegistry.counter("cache.user.eviction");
+        this.bypassCounter = meterRegistry.counter("cache.user.bypass");
+        Gauge.builder("cache.user.size", this, UserCacheService::size).register(meterRegistry);
+    }
+
+    /**
+     * id 로 사용자 조회. 캐시에 없거나 버전이 바뀌었으면 DB 에서 조회하여 캐시에 저장
+     * @param id 사용자 id
+     * @return 사용자 스냅샷. 존재하지 않으면 empty (존재하지 않는 결과는 캐시하지 않음)
+     */
+    public Optional<CachedUserVo> findById(int id) {
+        String version = getVersion(id);
+        if (version == null) {
+            bypassCounter.increment();
+            return userRepository.findById(id).map(CachedUserVo::from);
+        }
+
+        CachedUserVo cached;
+        synchronized (byId) {
+            cached = getValid(id, version);
+        }
+        if (cached != null) {
+            idHitCounter.increment();
+            return Optional.of(cached);
+        }
+
+        idMissCounter.increment();
+        return load(id, version);
+    }
+
+    /**
+     * email 로 사용자 조회. 캐시에 없거나 버전이 바뀌었으면 DB 에서 조회하여 캐시에 저장
+     * @param email 사용자 email
+     * @return 사용자 스냅샷. 존재하지 않으면 empty (존재하지 않는 결과는 캐시하지 않음)
+     */
+    public Optional<CachedUserVo> findByEmail(String email) {
+        Integer id;
+        synchronized (byId) {
+            id = idByEmail.get(email);
+        }
+        if (id != null) {
+            String version = getVersion(id);
+            CachedUserVo cached = null;
+            if (version != null) {
+                synchronized (byId) {
+                    cached = getValid(id, version);
+                }
+            }
+            if (cached != null && cached.email().equals(email)) {
+                emailHitCounter.increment();
+                return Optional.of(cached);
+            }
+        }
+
+        emailMissCounter.increment();
+        Optional<CachedUserVo> user = userRepository.findByEmail(email).map(CachedUserVo::from);
+        if (user.isEmpty()) {
+            return user;
+        }
+
+        // id 는 조회 후에야 알 수 있으므로 버전은 조회 뒤에 읽고, 다시 조회하지 않고 조회한 값을 그대로 캐시.
+        // 조회와 버전 읽기 사이에 변경 커밋과 버전 증가가 모두 끝나는 경우에만 이전 값이 남으며, 최대 TTL 동안 유지됨
+        String version = getVersion(user.get().id());
+        if (version == null) {
+            bypassCounter.increment();
+            return user;
+        }
+        return Optional.of(put(user.get(), version));
+    }
+
+    /**
+     * 사용자 캐시 무효화. 로컬 캐시는 바로 지우고, 트랜잭션 안에서 호출되면 커밋 이후에 버전을 증가시켜
+     * 모든 인스턴스의 캐시를 무효화함. 커밋 전에 증가시키면 다른 요청이 이전 값을 새 버전으로 캐시할 수 있음
+     * @param id 사용자 id
+     */
+    public void evict(int id) {
+        evictLocal(id);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpVersion(id);
+                }
+            });
+        } else {
+            bumpVersion(id);
+        }
+    }
+
+    private void bumpVersion(int id) {
+        evictLocal(id);
+        try {
+            String key = VERSION_KEY_PREFIX + id;
+            redisTemplate.opsForValue().increment(key);
+            redisTemplate.expire(key, VERSION_TTL);
+        } catch (Exception e) {
+            // 다른 인스턴스는 로컬 TTL 이 지나야 반영됨
+            log.error("사용자 캐시 버전 증가 실패. userId={}, {}", id, e.getMessage());
+        }
+    }
+
+    // 사용자 버전 조회. 키가 없으면 "0". 조회 실패 시 null
+    private String getVersion(int id) {
+        try {
+            String version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + id);
+            return version == null ? "0" : version;
+        } catch (Exception e) {
+            log.warn("사용자 캐시 버전 조회 실패. userId={}, {}", id, e.getMessage());
+            return null;
+        }
+    }
+
+    // 버전을 먼저 읽은 뒤 조회한 값만 그 버전으로 캐시. 그 사이에 버전이 바뀌면 다음 조회에서 다시 읽음
+    private Optional<CachedUserVo> load(int id, String version) {
+        return userRepository.findById(id).map(CachedUserVo::from).map(user -> put(user, version));
+    }
+
+    private void evictLocal(int id) {
+        synchronized (byId) {
+            Entry removed = byId.remove(id);
+            if (removed != null) {
+                idByEmail.remove(removed.user().email());
+            }
+        }
+    }
+
+    // byId lock 을 잡은 상태에서 호출
+    private CachedUserVo getValid(int id, String version) {
+        Entry entry = byId.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expireAt() < System.currentTimeMillis() || !entry.version().equals(version)) {
+            byId.remove(id);
+            idByEmail.remove(entry.user().email());
+            evictionCounter.increment();
+            return null;
+        }
+        return entry.user();
+    }
+
+    private CachedUserVo put(CachedUserVo user, String version) {
+        synchronized (byId) {
+            Entry previous = byId.put(user.id(), new Entry(user, version, System.currentTimeMillis() + ttlMillis));
+            if (previous != null && !previous.user().email().equals(user.email())) {
+                idByEmail.remove(previous.user().email());
+            }
+            idByEmail.put(user.email(), user.id());
+        }
+        return user;
+    }
+
+    private int size() {
+        synchronized (byId) {
+            return byId.size();
+        }
+    }
+
+    private record Entry(CachedUserVo user, String version, long expireAt) {
+    }
+}
@@ -7,6 +7,7 @@ import com.choi.springmall2.domain.dto.UserProfileResponseDto;
 import com.choi.springmall2.domain.dto.UserProfileUpdateDto;
 import com.choi.springmall2.domain.dto.UserRegisterDto;
 import com.choi.springmall2.domain.entity.User;
+import com.choi.springmall2.domain.vo.CachedUserVo;
 import com.choi.springmall2.error.exceptions.UserNotFoundException;
 import com.choi.springmall2.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +24,7 @@ import org.springframework.stereotype.Service;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
 
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
@@ -82,19 +84,32 @@ public class UserService {
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
     }
 
+    /**
+     * 연관관계 설정용 사용자 참조 반환. 존재 여부는 사용자 캐시로 확인하고 엔티티는 조회하지 않음
+     * @param id 사용자 id
+     * @return User 프록시
+     * @throws UserNotFoundException HttpStatus.NOT_FOUND 코드와 JSON 응답을 반환함
+     */
+    public User getUserReference(int id) {
+        userCacheService.findById(id)
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+        return userRepository.getReferenceById(id);
+    }
+
     /**
      * 사용자 프로필 Dto 반환
      * @param userId 사용자 id
      * @return userProfileResponseDto 사용자 정보 Dto
      */
     public UserProfileResponseDto getUserProfileDto(int userId) {
-        User user = getUserById(userId);
+        CachedUserVo user = userCacheService.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
 
         UserProfileResponseDto userProfileResponseDto = new UserProfileResponseDto();
-        userProfileResponseDto.setEmail(user.getEmail());
-        userProfileResponseDto.setNickname(user.getNickname());
-        userProfileResponseDto.setRole(user.getRole());
-        userProfileResponseDto.setCreateAt(user.getCreateAt());
+        userProfileResponseDto.setEmail(user.email());
+        userProfileResponseDto.setNickname(user.nickname());
+        userProfileResponseDto.setRole(user.role());
+        userProfileResponseDto.setCreateAt(user.createAt());
 
         return userProfileResponseDto;
     }
@@ -108,6 +123,7 @@ public class UserService {
         User user = getUserById(userId);
         user.setNickname(userProfileUpdateDto.getNickname());
         userRepository.save(user);
+        userCacheService.evict(userId);
     }
 
 }
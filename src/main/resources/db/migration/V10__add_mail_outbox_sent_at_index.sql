@@ -0,0 +1,3 @@
+-- 발송 완료 메일 정리 : DELETE ... WHERE status = 'SENT' AND sent_at < ? LIMIT ?
+-- 보관 기간이 지난 행만 범위로 찾아 batch 마다 테이블 전체를 스캔하지 않도록 함
+CREATE INDEX idx_mail_outbox_status_sent_at ON mail_outbox (status, sent_at);
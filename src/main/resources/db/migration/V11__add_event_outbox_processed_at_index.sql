@@ -0,0 +1,3 @@
+-- 처리 완료 이벤트 정리 : DELETE ... WHERE status = 'PROCESSED' AND processed_at < ? LIMIT ?
+-- 보관 기간이 지난 행만 범위로 찾아 batch 마다 테이블 전체를 스캔하지 않도록 함
+CREATE INDEX idx_event_outbox_status_processed_at ON event_outbox (status, processed_at);
@@ -0,0 +1,6 @@
+-- 발송/처리가 끝난 outbox 행은 본문과 payload 를 지움 (비밀번호 초기화 링크 등 원문이 남지 않도록)
+ALTER TABLE mail_outbox MODIFY body TEXT NULL;
+ALTER TABLE event_outbox MODIFY payload TEXT NULL;
+
+UPDATE mail_outbox SET body = NULL WHERE status = 'SENT';
+UPDATE event_outbox SET payload = NULL WHERE status = 'PROCESSED';
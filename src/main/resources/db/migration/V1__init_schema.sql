@@ -0,0 +1,81 @@
+-- 초기 스키마. 엔티티 매핑 (Hibernate MySQLDialect) 기준이며 H2 (MySQL 호환 모드) 에서도 그대로 실행됨
+-- 기존 운영 DB 는 baseline-on-migrate 로 이 버전을 건너뜀
+
+CREATE TABLE user (
+    id        INTEGER NOT NULL AUTO_INCREMENT,
+    create_at DATETIME(6) NOT NULL,
+    modify_at DATETIME(6),
+    email     VARCHAR(255),
+    nickname  VARCHAR(255),
+    password  VARCHAR(255),
+    role      ENUM ('ROLE_ADMIN', 'ROLE_BUYER', 'ROLE_SELLER'),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE delivery_address (
+    id             INTEGER NOT NULL AUTO_INCREMENT,
+    is_default     BIT NOT NULL,
+    user_id        INTEGER NOT NULL,
+    create_at      DATETIME(6) NOT NULL,
+    modify_at      DATETIME(6),
+    address_line1  VARCHAR(255),
+    address_line2  VARCHAR(255),
+    phone_number   VARCHAR(255),
+    recipient_name VARCHAR(255),
+    zip_code       VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_delivery_address_user FOREIGN KEY (user_id) REFERENCES user (id)
+);
+
+CREATE TABLE password_reset_token (
+    id          INTEGER NOT NULL AUTO_INCREMENT,
+    user_id     INTEGER,
+    expiry_date DATETIME(6),
+    token       VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_password_reset_token_user UNIQUE (user_id),
+    CONSTRAINT fk_password_reset_token_user FOREIGN KEY (user_id) REFERENCES user (id)
+);
+
+CREATE TABLE product (
+    id          INTEGER NOT NULL AUTO_INCREMENT,
+    price       FLOAT(53),
+    seller_id   INTEGER NOT NULL,
+    stock       INTEGER,
+    create_at   DATETIME(6) NOT NULL,
+    modify_at   DATETIME(6),
+    description VARCHAR(255),
+    title       VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_product_seller FOREIGN KEY (seller_id) REFERENCES user (id)
+);
+
+CREATE TABLE product_image (
+    id         INTEGER NOT NULL AUTO_INCREMENT,
+    product_id INTEGER,
+    seq        INTEGER NOT NULL,
+    create_at  DATETIME(6) NOT NULL,
+    modify_at  DATETIME(6),
+    type       VARCHAR(20) NOT NULL,
+    image_key  VARCHAR(255) NOT NULL,
+    image_name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_product_image_product FOREIGN KEY (product_id) REFERENCES product (id)
+);
+
+CREATE TABLE product_order (
+    id            INTEGER NOT NULL AUTO_INCREMENT,
+    product_id    INTEGER NOT NULL,
+    quantity      INTEGER NOT NULL,
+    user_id       INTEGER NOT NULL,
+    create_at     DATETIME(6) NOT NULL,
+    modify_at     DATETIME(6),
+    order_date    DATETIME(6),
+    address_line1 VARCHAR(255),
+    address_line2 VARCHAR(255),
+    phone_number  VARCHAR(255),
+    zip_code      VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_product_order_product FOREIGN KEY (product_id) REFERENCES product (id),
+    CONSTRAINT fk_product_order_user FOREIGN KEY (user_id) REFERENCES user (id)
+);
@@ -0,0 +1,10 @@
+-- 자주 실행되는 조회용 인덱스. QueryPlanTest 가 아래 인덱스를 타는지 검증함
+
+-- 상품 이미지 : WHERE product_id = ? AND type = ? ORDER BY seq (상세 조회, 목록의 썸네일 join)
+CREATE INDEX idx_product_image_product_type_seq ON product_image (product_id, type, seq);
+
+-- 사용자 : WHERE email = ? (로그인, 이메일 중복 확인, 사용자 캐시 miss)
+CREATE INDEX idx_user_email ON user (email);
+
+-- 비밀번호 재설정 토큰 : WHERE token = ?
+CREATE INDEX idx_password_reset_token_token ON password_reset_token (token);
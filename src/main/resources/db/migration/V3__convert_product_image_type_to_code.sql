@@ -0,0 +1,7 @@
+-- 상품 이미지 종류를 문자열 ('thumbnail' / 'content') 에서 한 글자 코드 (ImageType) 로 변환
+-- 알 수 없는 값이 남아 있으면 컬럼 변경이 실패하므로 잘못된 데이터가 조용히 남지 않음
+
+UPDATE product_image SET type = 'T' WHERE type = 'thumbnail';
+UPDATE product_image SET type = 'C' WHERE type = 'content';
+
+ALTER TABLE product_image MODIFY type CHAR(1) NOT NULL;
@@ -0,0 +1,5 @@
+-- 주문 멱등성 키. 같은 사용자가 같은 키로 다시 요청하면 새 주문을 만들지 않고 기존 주문을 반환
+
+ALTER TABLE product_order ADD COLUMN idempotency_key VARCHAR(64);
+
+CREATE UNIQUE INDEX uk_product_order_user_idempotency_key ON product_order (user_id, idempotency_key);
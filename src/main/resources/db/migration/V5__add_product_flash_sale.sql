@@ -0,0 +1,3 @@
+-- 플래시 세일 모드. 켜져 있는 동안 재고는 Redis 카운터가 관리하고 DB 재고는 정산 작업으로만 갱신됨
+
+ALTER TABLE product ADD COLUMN flash_sale BIT NOT NULL DEFAULT FALSE;
@@ -0,0 +1,21 @@
+-- 발송할 메일을 먼저 저장하고 별도 스레드가 SMTP 로 발송. 재시작해도 미발송 메일이 유실되지 않음
+
+CREATE TABLE mail_outbox (
+    id              BIGINT NOT NULL AUTO_INCREMENT,
+    create_at       DATETIME(6) NOT NULL,
+    modify_at       DATETIME(6),
+    recipient       VARCHAR(255) NOT NULL,
+    subject         VARCHAR(255) NOT NULL,
+    body            TEXT NOT NULL,
+    status          VARCHAR(16) NOT NULL,
+    attempts        INTEGER NOT NULL,
+    next_attempt_at DATETIME(6) NOT NULL,
+    claim_token     VARCHAR(36),
+    last_error      VARCHAR(500),
+    sent_at         DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+-- 발송 대상 조회 (status = 'PENDING' AND next_attempt_at <= now)
+CREATE INDEX idx_mail_outbox_status_next_attempt ON mail_outbox (status, next_attempt_at);
+CREATE INDEX idx_mail_outbox_claim_token ON mail_outbox (claim_token);
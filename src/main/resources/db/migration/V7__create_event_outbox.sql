@@ -0,0 +1,20 @@
+-- 도메인 이벤트 outbox. 이벤트를 비즈니스 데이터와 같은 트랜잭션으로 저장하여 커밋 후 프로세스가 죽어도 유실되지 않음
+
+CREATE TABLE event_outbox (
+    id              BIGINT NOT NULL AUTO_INCREMENT,
+    create_at       DATETIME(6) NOT NULL,
+    modify_at       DATETIME(6),
+    event_type      VARCHAR(100) NOT NULL,
+    payload         TEXT NOT NULL,
+    status          VARCHAR(16) NOT NULL,
+    attempts        INTEGER NOT NULL,
+    next_attempt_at DATETIME(6) NOT NULL,
+    claim_token     VARCHAR(36),
+    last_error      VARCHAR(500),
+    processed_at    DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+-- 처리 대상 조회 (status = 'PENDING' AND next_attempt_at <= now)
+CREATE INDEX idx_event_outbox_status_next_attempt ON event_outbox (status, next_attempt_at);
+CREATE INDEX idx_event_outbox_claim_token ON event_outbox (claim_token);
@@ -0,0 +1,10 @@
+-- 비밀번호 재설정 토큰은 원문 대신 SHA-256 해시 (hex 64자) 만 저장. 유니크 인덱스로 중복을 막고 조회에도 사용
+-- 기존 토큰은 해시를 알 수 없어 삭제 (유효 시간 1시간. 재설정 메일을 다시 요청하면 됨)
+
+DELETE FROM password_reset_token;
+
+DROP INDEX idx_password_reset_token_token ON password_reset_token;
+ALTER TABLE password_reset_token DROP COLUMN token;
+
+ALTER TABLE password_reset_token ADD COLUMN token_hash VARCHAR(64) NOT NULL;
+CREATE UNIQUE INDEX uk_password_reset_token_token_hash ON password_reset_token (token_hash);
@@ -0,0 +1,3 @@
+-- 만료 토큰 정리 : DELETE ... WHERE expiry_date < ? LIMIT ?
+-- 인덱스가 없으면 batch 마다 테이블 전체를 스캔하며 잠금을 잡으므로, 만료된 행만 범위로 찾도록 함
+CREATE INDEX idx_password_reset_token_expiry_date ON password_reset_token (expiry_date);
@@ -0,0 +1,159 @@
+package com.choi.springmall2.config;
+
+import com.choi.springmall2.domain.CustomUser;
+import com.choi.springmall2.domain.TokenFailureReason;
+import com.choi.springmall2.domain.vo.TokenValidationResultVo;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationCacheTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private MeterRegistry meterRegistry;
+    private SecretKey key;
+
+    @BeforeEach
+    void setUp() {
+        key = Jwts.SIG.HS256.key().build();
+        jwtTokenProvider = spy(new JwtTokenProvider());
+        jwtTokenProvider.setJwtSecretKey(Encoders.BASE64.encode(key.getEncoded()));
+        jwtTokenProvider.init();
+
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증하고 이후에는 Authentication 재사용")
+    void verify_cached() {
+        // given
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(jwtTokenProvider, meterRegistry, 100);
+        String token = jwtTokenProvider.createAccessToken(authentication(1));
+
+        // when
+        TokenValidationResultVo first = cache.verify(token);
+        TokenValidationResultVo second = cache.verify(token);
+
+        // then
+        assertSame(first, second);
+        assertEquals("user1@test.com", second.authentication().getName());
+        verify(jwtTokenProvider, times(1)).verify(token);
+        assertEquals(1.0, meterRegistry.get("jwt.auth.cache").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("jwt.auth.cache").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰은 캐시하지 않고 실패 사유 반환")
+    void verify_invalid() {
+        // given
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(jwtTokenProvider, meterRegistry, 100);
+
+        // when & then
+        assertEquals(TokenFailureReason.MALFORMED, cache.verify("invalid.token.here").failureReason());
+        assertEquals(TokenFailureReason.MALFORMED, cache.verify("invalid.token.here").failureReason());
+        verify(jwtTokenProvider, times(2)).verify("invalid.token.here");
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰도 exp 가 지나면 다시 검증하여 EXPIRED 반환")
+    void verify_expiredAfterCached() throws Exception {
+        // given : 1초 뒤 만료되는 토큰
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(jwtTokenProvider, meterRegistry, 100);
+        String token = Jwts.builder()
+                .subject("1")
+                .claim("email", "user1@test.com")
+                .claim("nickname", "user1")
+                .claim("roles", List.of("ROLE_BUYER"))
+                .expiration(new Date(System.currentTimeMillis() + 1000))
+                .signWith(key)
+                .compact();
+        assertTrue(cache.verify(token).isValid());
+
+        // when
+        Thread.sleep(1100);
+
+        // then
+        assertEquals(TokenFailureReason.EXPIRED, cache.verify(token).failureReason());
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 새 토큰은 캐시하지 않음")
+    void verify_bounded() {
+        // given
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(jwtTokenProvider, meterRegistry, 1);
+        String token1 = jwtTokenProvider.createAccessToken(authentication(1));
+        String token2 = jwtTokenProvider.createAccessToken(authentication(2));
+
+        // when
+        cache.verify(token1);
+        cache.verify(token2);
+        cache.verify(token2);
+
+        // then
+        assertEquals(1.0, meterRegistry.get("jwt.auth.cache.size").gauge().value());
+        verify(jwtTokenProvider, times(1)).verify(token1);
+        verify(jwtTokenProvider, times(2)).verify(token2);
+    }
+
+    @Test
+    @DisplayName("가득 찬 상태에서 새 토큰이 몰려도 만료 항목 정리는 주기마다 한 번만 수행")
+    void verify_purgeRateLimited() {
+        // given
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(jwtTokenProvider, meterRegistry, 1);
+        cache.verify(jwtTokenProvider.createAccessToken(authentication(1)));
+
+        // when : 캐시할 수 없는 새 토큰 50개
+        for (int i = 2; i < 52; i++) {
+            cache.verify(jwtTokenProvider.createAccessToken(authentication(i)));
+        }
+
+        // then
+        assertEquals(1.0, meterRegistry.get("jwt.auth.cache.purge").counter().count());
+        assertEquals(1.0, meterRegistry.get("jwt.auth.cache.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("가득 찬 상태에서 정리 주기가 지나면 만료된 항목을 지우고 새 토큰 캐시")
+    void verify_purgeExpiredWhenFull() throws Exception {
+        // given : 1초 뒤 만료되는 토큰으로 가득 참
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(jwtTokenProvider, meterRegistry, 1);
+        String shortLived = Jwts.builder()
+                .subject("1")
+                .claim("email", "user1@test.com")
+                .claim("nickname", "user1")
+                .claim("roles", List.of("ROLE_BUYER"))
+                .expiration(new Date(System.currentTimeMillis() + 1000))
+                .signWith(key)
+                .compact();
+        cache.verify(shortLived);
+        Thread.sleep(Math.max(1100, JwtAuthenticationCache.PURGE_INTERVAL_MILLIS + 100));
+        String token = jwtTokenProvider.createAccessToken(authentication(2));
+
+        // when
+        cache.verify(token);
+        cache.verify(token);
+
+        // then
+        verify(jwtTokenProvider, times(1)).verify(token);
+    }
+
+    private Authentication authentication(int id) {
+        CustomUser user = new CustomUser(id, "user" + id + "@test.com", "user" + id, "",
+                List.of(new SimpleGrantedAuthority("ROLE_BUYER")));
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+}
@@ -1,5 +1,8 @@
 package com.choi.springmall2.config;
 
+import com.choi.springmall2.domain.TokenFailureReason;
+import com.choi.springmall2.domain.vo.TokenValidationResultVo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,19 +11,24 @@ import org.junit.jupiter.api.Test;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.servlet.handler.HandlerMappingIntrospector;
 
 import static org.mockito.Mockito.*;
 
 class JwtAuthenticationFilterTest {
 
     private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationCache jwtAuthenticationCache;
     private JwtAuthenticationFilter filter;
     private FilterChain filterChain;
 
     @BeforeEach
     void setUp() {
         jwtTokenProvider = mock(JwtTokenProvider.class);
-        filter = new JwtAuthenticationFilter(jwtTokenProvider);
+        jwtAuthenticationCache = mock(JwtAuthenticationCache.class);
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, jwtAuthenticationCache,
+                new RefreshTokenRotator(jwtTokenProvider, new SimpleMeterRegistry(), 3000),
+                SecurityConfig.anonymousApiMatcher(new HandlerMappingIntrospector()));
         filterChain = mock(FilterChain.class);
     }
 
@@ -35,14 +43,14 @@ class JwtAuthenticationFilterTest {
         request.setCookies(new Cookie(JwtTokenProvider.ACCESS_TOKEN_COOKIE_NAME, validAccessToken));
         MockHttpServletResponse response = new MockHttpServletResponse();
 
-        when(jwtTokenProvider.validateToken(validAccessToken)).thenReturn(true);
-        when(jwtTokenProvider.getAuthentication(validAccessToken)).thenReturn(auth);
+        when(jwtAuthenticationCache.verify(validAccessToken)).thenReturn(TokenValidationResultVo.valid(auth, Long.MAX_VALUE));
 
         // when
         filter.doFilterInternal(request, response, filterChain);
 
         // then
-        verify(jwtTokenProvider).getAuthentication(validAccessToken);
+        verify(jwtAuthenticationCache).verify(validAccessToken);
+        verify(jwtTokenProvider, never()).createAccessToken(any());
         verify(filterChain).doFilter(request, response);
     }
 
@@ -50,22 +58,19 @@ class JwtAuthenticationFilterTest {
     @DisplayName("AccessToken 이 만료된 경우, RefreshToken 으로 AccessToken 재발급")
     void accessToken_expired_refreshToken_reissued() throws Exception {
         // given
-        String expiredAccessToken = "expired";
         String validRefreshToken = "refresh";
         String newAccessToken = "newAccess";
         String newRefreshToken = "newRefresh";
         Authentication auth = mock(Authentication.class);
 
         MockHttpServletRequest request = new MockHttpServletRequest();
+        // 액세스 토큰 쿠키의 maxAge 가 토큰 유효기간과 같으므로, 만료되면 브라우저는 리프레시 토큰만 전송
         request.setCookies(
-                new Cookie(JwtTokenProvider.ACCESS_TOKEN_COOKIE_NAME, expiredAccessToken),
                 new Cookie(JwtTokenProvider.REFRESH_TOKEN_COOKIE_NAME, validRefreshToken)
         );
         MockHttpServletResponse response = new MockHttpServletResponse();
 
-        when(jwtTokenProvider.validateToken(expiredAccessToken)).thenReturn(false);
-        when(jwtTokenProvider.validateToken(validRefreshToken)).thenReturn(true);
-        when(jwtTokenProvider.getAuthentication(validRefreshToken)).thenReturn(auth);
+        when(jwtTokenProvider.verify(validRefreshToken)).thenReturn(TokenValidationResultVo.valid(auth, Long.MAX_VALUE));
         when(jwtTokenProvider.createAccessToken(auth)).thenReturn(newAccessToken);
         when(jwtTokenProvider.createRefreshToken(auth)).thenReturn(newRefreshToken);
 
@@ -97,19 +102,15 @@ class JwtAuthenticationFilterTest {
     @DisplayName("AccessToken 이 만료되고 RefreshToken 이 만료된 경우, 에러 처리")
     void accessToken_expired_refreshToken_expired() throws Exception {
         // given
-        String expiredAccessToken = "expired";
         String expiredRefreshToken = "expiredRefresh";
 
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.setCookies(
-                new Cookie(JwtTokenProvider.ACCESS_TOKEN_COOKIE_NAME, expiredAccessToken),
                 new Cookie(JwtTokenProvider.REFRESH_TOKEN_COOKIE_NAME, expiredRefreshToken)
         );
         MockHttpServletResponse response = spy(new MockHttpServletResponse());
 
-        when(jwtTokenProvider.validateToken(expiredAccessToken)).thenReturn(false);
-        when(jwtTokenProvider.validateToken(expiredRefreshToken)).thenReturn(true);
-        when(jwtTokenProvider.getAuthentication(expiredRefreshToken)).thenThrow(new RuntimeException("Token expired"));
+        when(jwtTokenProvider.verify(expiredRefreshToken)).thenReturn(TokenValidationResultVo.failure(TokenFailureReason.EXPIRED));
 
         // when
         filter.doFilterInternal(request, response, filterChain);
@@ -118,5 +119,74 @@ class JwtAuthenticationFilterTest {
         // 필터 체인 진행되지 않고 커스텀 에러로 포워딩 됨
         verify(filterChain, never()).doFilter(any(), any());
         assert response.getStatus() == 401;
+        verify(jwtTokenProvider, never()).createAccessToken(any());
+    }
+
+    @Test
+    @DisplayName("만료된 AccessToken 이 함께 전송된 경우에도 RefreshToken 으로 재발급")
+    void accessToken_expiredCookieSent_refreshToken_reissued() throws Exception {
+        // given
+        String expiredAccessToken = "expiredAccess";
+        String validRefreshToken = "refresh";
+        Authentication auth = mock(Authentication.class);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(
+                new Cookie(JwtTokenProvider.ACCESS_TOKEN_COOKIE_NAME, expiredAccessToken),
+                new Cookie(JwtTokenProvider.REFRESH_TOKEN_COOKIE_NAME, validRefreshToken)
+        );
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(jwtAuthenticationCache.verify(expiredAccessToken)).thenReturn(TokenValidationResultVo.failure(TokenFailureReason.EXPIRED));
+        when(jwtTokenProvider.verify(validRefreshToken)).thenReturn(TokenValidationResultVo.valid(auth, Long.MAX_VALUE));
+        when(jwtTokenProvider.createAccessToken(auth)).thenReturn("newAccess");
+        when(jwtTokenProvider.createRefreshToken(auth)).thenReturn("newRefresh");
+
+        // when
+        filter.doFilterInternal(request, response, filterChain);
+
+        // then
+        assert response.getCookie(JwtTokenProvider.ACCESS_TOKEN_COOKIE_NAME).getValue().equals("newAccess");
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("AccessToken 이 유효하지 않은 경우, 에러 처리")
+    void accessToken_invalid() throws Exception {
+        // given
+        String invalidAccessToken = "invalid";
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(JwtTokenProvider.ACCESS_TOKEN_COOKIE_NAME, invalidAccessToken));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(jwtAuthenticationCache.verify(invalidAccessToken)).thenReturn(TokenValidationResultVo.failure(TokenFailureReason.INVALID_SIGNATURE));
+
+        // when
+        filter.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(filterChain, never()).doFilter(any(), any());
+        assert response.getStatus() == 401;
+    }
+
+    @Test
+    @DisplayName("익명 API 요청은 토큰을 검증하지 않고 통과")
+    void anonymousApi_skipped() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/login");
+        request.setServletPath("/api/login");
+        request.setCookies(
+                new Cookie(JwtTokenProvider.ACCESS_TOKEN_COOKIE_NAME, "expiredAccess"),
+                new Cookie(JwtTokenProvider.REFRESH_TOKEN_COOKIE_NAME, "refresh")
+        );
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, filterChain);
+
+        // then
+        verifyNoInteractions(jwtAuthenticationCache, jwtTokenProvider);
+        verify(filterChain).doFilter(request, response);
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,8 @@
 package com.choi.springmall2.config;
 
 import com.choi.springmall2.domain.CustomUser;
+import com.choi.springmall2.domain.TokenFailureReason;
+import com.choi.springmall2.domain.vo.TokenValidationResultVo;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
@@ -12,6 +14,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import javax.crypto.SecretKey;
+import java.util.Date;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -20,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.*;
 class JwtTokenProviderTest {
 
     private JwtTokenProvider jwtTokenProvider;
+    private SecretKey key;
 
     // 각 테스트 메서드 실행 전에 호출
     @BeforeEach
@@ -27,7 +31,7 @@ class JwtTokenProviderTest {
         jwtTokenProvider = new JwtTokenProvider();
 
         // JWT 비밀키 생성
-        SecretKey key = Jwts.SIG.HS256.key().build();
+        key = Jwts.SIG.HS256.key().build();
         String base64Key = Encoders.BASE64.encode(key.getEncoded());
         System.out.println("Generated key: " + base64Key);
         jwtTokenProvider.setJwtSecretKey(base64Key);
@@ -116,4 +120,118 @@ class JwtTokenProviderTest {
         assertEquals("test@example.com", claims.get("email"));
         assertTrue(claims.get("roles", List.class).contains("ROLE_USER"));
     }
-}
\ No newline at end of file
+
+    // 단일 파싱 검증
+    @Test
+    @DisplayName("verify - 유효한 토큰이면 인증 정보와 만료 시각 반환")
+    void verify_valid() {
+        // given
+        CustomUser user = new CustomUser(1, "test@example.com", "testnickname", "password", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        String token = jwtTokenProvider.createAccessToken(new UsernamePasswordAuthenticationToken(user, null));
+
+        // when
+        TokenValidationResultVo result = jwtTokenProvider.verify(token);
+
+        // then
+        assertTrue(result.isValid());
+        assertEquals("test@example.com", result.authentication().getName());
+        assertTrue(result.expiresAt() > System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("verify - 만료된 토큰은 예외 없이 EXPIRED 반환")
+    void verify_expired() {
+        // given
+        String token = Jwts.builder()
+                .subject("1")
+                .claim("email", "test@example.com")
+                .claim("nickname", "testnickname")
+                .claim("roles", List.of("ROLE_USER"))
+                .expiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(key)
+                .compact();
+
+        // when
+        TokenValidationResultVo result = jwtTokenProvider.verify(token);
+
+        // then
+        assertFalse(result.isValid());
+        assertEquals(TokenFailureReason.EXPIRED, result.failureReason());
+        assertNull(result.authentication());
+    }
+
+    @Test
+    @DisplayName("verify - nbf/iat 가 지난 토큰은 현재 시각 기준으로 정상 검증")
+    void verify_notBeforeInPast() {
+        // given
+        Date now = new Date();
+        String token = Jwts.builder()
+                .subject("1")
+                .claim("email", "test@example.com")
+                .claim("nickname", "testnickname")
+                .claim("roles", List.of("ROLE_USER"))
+                .issuedAt(now)
+                .notBefore(new Date(now.getTime() - 1000))
+                .expiration(new Date(now.getTime() + 60_000))
+                .signWith(key)
+                .compact();
+
+        // when & then
+        assertTrue(jwtTokenProvider.verify(token).isValid());
+    }
+
+    @Test
+    @DisplayName("verify - nbf 가 아직 지나지 않은 토큰은 거부")
+    void verify_notBeforeInFuture() {
+        // given
+        Date now = new Date();
+        String token = Jwts.builder()
+                .subject("1")
+                .claim("email", "test@example.com")
+                .claim("roles", List.of("ROLE_USER"))
+                .notBefore(new Date(now.getTime() + 60_000))
+                .expiration(new Date(now.getTime() + 120_000))
+                .signWith(key)
+                .compact();
+
+        // when & then
+        assertEquals(TokenFailureReason.MALFORMED, jwtTokenProvider.verify(token).failureReason());
+    }
+
+    @Test
+    @DisplayName("verify - 권한 클레임 형식이 다르면 MALFORMED 반환")
+    void verify_invalidRoles() {
+        // given
+        String token = Jwts.builder()
+                .subject("1")
+                .claim("email", "test@example.com")
+                .claim("roles", List.of(1, 2))
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key)
+                .compact();
+
+        // when & then
+        assertEquals(TokenFailureReason.MALFORMED, jwtTokenProvider.verify(token).failureReason());
+    }
+
+    @Test
+    @DisplayName("verify - 다른 키로 서명된 토큰은 INVALID_SIGNATURE 반환")
+    void verify_invalidSignature() {
+        // given
+        String token = Jwts.builder()
+                .subject("1")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Jwts.SIG.HS256.key().build())
+                .compact();
+
+        // when & then
+        assertEquals(TokenFailureReason.INVALID_SIGNATURE, jwtTokenProvider.verify(token).failureReason());
+    }
+
+    @Test
+    @DisplayName("verify - 형식이 잘못된 토큰은 MALFORMED 반환")
+    void verify_malformed() {
+        assertEquals(TokenFailureReason.MALFORMED, jwtTokenProvider.verify("invalid.token.here").failureReason());
+        assertEquals(TokenFailureReason.MALFORMED, jwtTokenProvider.verify("").failureReason());
+    }
+}
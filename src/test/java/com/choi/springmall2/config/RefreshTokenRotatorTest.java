@@ -0,0 +1,112 @@
+package com.choi.springmall2.config;
+
+import com.choi.springmall2.domain.vo.TokenPairVo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenRotatorTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private MeterRegistry meterRegistry;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = mock(JwtTokenProvider.class);
+        meterRegistry = new SimpleMeterRegistry();
+        authentication = mock(Authentication.class);
+        when(jwtTokenProvider.createRefreshToken(authentication)).thenReturn("newRefresh");
+    }
+
+    @Test
+    @DisplayName("같은 리프레시 토큰으로 동시에 재발급하면 토큰 쌍을 한 번만 발급하여 공유")
+    void rotate_concurrent_singleFlight() throws Exception {
+        // given : 서명에 시간이 걸리는 상황
+        RefreshTokenRotator rotator = new RefreshTokenRotator(jwtTokenProvider, meterRegistry, 3000);
+        when(jwtTokenProvider.createAccessToken(authentication)).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return "newAccess";
+        });
+        int requestCount = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<TokenPairVo>> futures = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return rotator.rotate("refresh", authentication);
+            }));
+        }
+        start.countDown();
+        List<TokenPairVo> results = new ArrayList<>();
+        for (Future<TokenPairVo> future : futures) {
+            results.add(future.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // then
+        verify(jwtTokenProvider, times(1)).createAccessToken(authentication);
+        verify(jwtTokenProvider, times(1)).createRefreshToken(authentication);
+        assertTrue(results.stream().allMatch(tokens -> tokens.equals(new TokenPairVo("newAccess", "newRefresh"))));
+        assertEquals(1.0, meterRegistry.get("jwt.refresh.rotation").tag("result", "minted").counter().count());
+        assertEquals(requestCount - 1, meterRegistry.get("jwt.refresh.rotation").tag("result", "shared").counter().count());
+    }
+
+    @Test
+    @DisplayName("다른 리프레시 토큰은 각각 발급")
+    void rotate_differentTokens() {
+        // given
+        RefreshTokenRotator rotator = new RefreshTokenRotator(jwtTokenProvider, meterRegistry, 3000);
+        when(jwtTokenProvider.createAccessToken(authentication)).thenReturn("newAccess");
+
+        // when
+        rotator.rotate("refresh1", authentication);
+        rotator.rotate("refresh2", authentication);
+
+        // then
+        verify(jwtTokenProvider, times(2)).createAccessToken(authentication);
+    }
+
+    @Test
+    @DisplayName("window 가 지나면 같은 리프레시 토큰이라도 새로 발급")
+    void rotate_afterWindow() throws Exception {
+        // given
+        RefreshTokenRotator rotator = new RefreshTokenRotator(jwtTokenProvider, meterRegistry, 50);
+        when(jwtTokenProvider.createAccessToken(authentication)).thenReturn("newAccess");
+
+        // when
+        rotator.rotate("refresh", authentication);
+        Thread.sleep(100);
+        rotator.rotate("refresh", authentication);
+
+        // then
+        verify(jwtTokenProvider, times(2)).createAccessToken(authentication);
+    }
+
+    @Test
+    @DisplayName("발급에 실패하면 다음 요청이 다시 발급 시도")
+    void rotate_failure_notShared() {
+        // given
+        RefreshTokenRotator rotator = new RefreshTokenRotator(jwtTokenProvider, meterRegistry, 3000);
+        when(jwtTokenProvider.createAccessToken(authentication))
+                .thenThrow(new IllegalStateException("서명 실패"))
+                .thenReturn("newAccess");
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> rotator.rotate("refresh", authentication));
+        assertEquals("newAccess", rotator.rotate("refresh", authentication).accessToken());
+    }
+}
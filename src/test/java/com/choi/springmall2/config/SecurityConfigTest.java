@@ -0,0 +1,93 @@
+package com.choi.springmall2.config;
+
+import com.choi.springmall2.controller.HomeController;
+import com.choi.springmall2.domain.TokenFailureReason;
+import com.choi.springmall2.domain.vo.TokenValidationResultVo;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(HomeController.class)
+@Import(SecurityConfig.class)
+class SecurityConfigTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
+    @MockitoBean
+    private RefreshTokenRotator refreshTokenRotator;
+
+    @Test
+    @DisplayName("정적 리소스 요청은 JWT 필터를 거치지 않음")
+    void staticResource_bypassesJwtFilter() throws Exception {
+        // given
+        Cookie accessCookie = new Cookie(JwtTokenProvider.ACCESS_TOKEN_COOKIE_NAME, "access");
+
+        // when & then
+        mockMvc.perform(get("/favicon.ico").cookie(accessCookie))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/images/icons8-no-image-100.png").cookie(accessCookie))
+                .andExpect(status().isOk());
+
+        verifyNoInteractions(jwtAuthenticationCache, jwtTokenProvider, refreshTokenRotator);
+    }
+
+    @Test
+    @DisplayName("공개 페이지는 navbar 표시를 위해 JWT 필터를 거침")
+    void publicPage_usesJwtFilter() throws Exception {
+        // given
+        given(jwtAuthenticationCache.verify("access"))
+                .willReturn(TokenValidationResultVo.failure(TokenFailureReason.EXPIRED));
+
+        // when & then
+        mockMvc.perform(get("/").cookie(new Cookie(JwtTokenProvider.ACCESS_TOKEN_COOKIE_NAME, "access")))
+                .andExpect(status().isOk());
+
+        verify(jwtAuthenticationCache).verify("access");
+    }
+
+    @Test
+    @DisplayName("익명 API 는 인증 없이 허용되고 JWT 필터를 거치지 않음")
+    void anonymousApi_permittedWithoutJwtFilter() throws Exception {
+        // WebMvcTest 에는 해당 controller 가 없으므로 인가를 통과하면 404
+        mockMvc.perform(post("/api/check-email-exists").cookie(new Cookie(JwtTokenProvider.ACCESS_TOKEN_COOKIE_NAME, "access")))
+                .andExpect(status().isNotFound());
+
+        verifyNoInteractions(jwtAuthenticationCache, jwtTokenProvider, refreshTokenRotator);
+    }
+
+    @Test
+    @DisplayName("Actuator metrics 는 일반 사용자에게 노출되지 않음")
+    @WithMockUser(username = "buyer@example.com", roles = "BUYER")
+    void actuatorMetrics_forbiddenForNonAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Actuator metrics 는 관리자만 접근 가능")
+    @WithMockUser(username = "admin@example.com", roles = "ADMIN")
+    void actuatorMetrics_allowedForAdmin() throws Exception {
+        // WebMvcTest 에는 actuator endpoint 가 등록되지 않으므로 인가를 통과하면 404
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isNotFound());
+    }
+}
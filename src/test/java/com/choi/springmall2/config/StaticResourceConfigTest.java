@@ -0,0 +1,41 @@
+package com.choi.springmall2.config;
+
+import com.choi.springmall2.controller.HomeController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = HomeController.class, properties = "spring.web.resources.chain.enabled=true")
+@AutoConfigureMockMvc(addFilters = false) // 시큐리티 필터 제거
+@Import(StaticResourceConfig.class)
+class StaticResourceConfigTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ResourceUrlProvider resourceUrlProvider;
+
+    @Test
+    @DisplayName("js 는 내용 해시 URL 로 변환되고 immutable 캐시 헤더와 함께 제공")
+    void js_contentHashedAndImmutable() throws Exception {
+        // when
+        String versionedUrl = resourceUrlProvider.getForLookupPath("/js/product/list.js");
+
+        // then
+        assertTrue(versionedUrl.matches("/js/product/list-[0-9a-f]{32}\\.js"), versionedUrl);
+        mockMvc.perform(get(versionedUrl))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"));
+    }
+}
@@ -0,0 +1,50 @@
+package com.choi.springmall2.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafProperties;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.IContext;
+import org.thymeleaf.exceptions.TemplateProcessingException;
+
+import java.io.Writer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TemplateWarmupRunnerTest {
+
+    @Test
+    @DisplayName("templates 아래의 모든 템플릿 이름을 ViewResolver 이름으로 변환")
+    void findTemplateNames() throws Exception {
+        // given
+        TemplateWarmupRunner runner = new TemplateWarmupRunner(mock(ITemplateEngine.class), new ThymeleafProperties());
+
+        // when
+        List<String> templateNames = runner.findTemplateNames();
+
+        // then
+        assertTrue(templateNames.contains("index"));
+        assertTrue(templateNames.contains("product/list"));
+        assertTrue(templateNames.contains("fragments/navbar"));
+    }
+
+    @Test
+    @DisplayName("렌더링 실패한 템플릿이 있어도 나머지 템플릿 예열을 계속 진행")
+    void run_ignoresRenderFailure() throws Exception {
+        // given
+        ITemplateEngine templateEngine = mock(ITemplateEngine.class);
+        doThrow(new TemplateProcessingException("모델 없음"))
+                .when(templateEngine).process(eq("product/list"), any(IContext.class), any(Writer.class));
+        TemplateWarmupRunner runner = new TemplateWarmupRunner(templateEngine, new ThymeleafProperties());
+        int templateCount = runner.findTemplateNames().size();
+
+        // when & then
+        assertDoesNotThrow(() -> runner.run(null));
+        verify(templateEngine, times(templateCount)).process(anyString(), any(IContext.class), any(Writer.class));
+    }
+}
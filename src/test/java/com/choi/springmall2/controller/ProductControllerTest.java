@@ -1,17 +1,24 @@
 package com.choi.springmall2.controller;
 
 import com.choi.springmall2.domain.CustomUser;
+import com.choi.springmall2.domain.dto.ProductCursorPageDto;
 import com.choi.springmall2.domain.dto.ProductDto;
+import com.choi.springmall2.domain.vo.FileMoveResultVo;
+import com.choi.springmall2.error.exceptions.InvalidCursorException;
 import com.choi.springmall2.error.exceptions.ProductDetailNotFoundException;
+import com.choi.springmall2.service.ProductListCacheService;
 import com.choi.springmall2.service.ProductService;
 import com.choi.springmall2.service.RedisFileKeyService;
 import com.choi.springmall2.service.S3Service;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -19,11 +26,15 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -46,6 +57,16 @@ class ProductControllerTest {
     @MockitoBean
     private RedisFileKeyService redisFileKeyService;
 
+    @MockitoBean
+    private ProductListCacheService productListCacheService;
+
+    @BeforeEach
+    void setUp() {
+        // 목록 캐시는 항상 미스로 동작하도록 하여 renderer 를 그대로 호출
+        when(productListCacheService.getProductGrid(anyInt(), anyInt(), any())).thenAnswer(invocation ->
+                invocation.<Supplier<String>>getArgument(2).get());
+    }
+
     @Test
     @DisplayName("상품 등록 페이지가 정상적으로 렌더링되는지 확인")
     void registerProduct() throws Exception {
@@ -141,6 +162,37 @@ class ProductControllerTest {
                 .andExpect(content().string("상품 등록 실패"));
     }
 
+    @Test
+    @WithMockUser(username = "test@example.com", roles = "SELLER")
+    @DisplayName("상품 등록 처리 API - 임시 파일 이동 일부 실패")
+    void registerProductSubmit_MoveFailure() throws Exception {
+        // given
+        CustomUser customUser = new CustomUser(1, "test@example.com", "tester", "encodedPassword", List.of());
+        TestingAuthenticationToken auth = new TestingAuthenticationToken(customUser, null);
+        auth.setAuthenticated(true);
+        SecurityContextHolder.getContext().setAuthentication(auth);
+
+        when(productService.saveProduct(any(ProductDto.class), eq(customUser))).thenReturn(new ProductDto());
+        when(s3Service.moveFromTempAll(List.of("thumb.jpg", "content1.jpg"))).thenReturn(List.of(
+                FileMoveResultVo.success("thumb.jpg"),
+                FileMoveResultVo.failure("content1.jpg", "NoSuchKey")
+        ));
+
+        // when
+        ResultActions result = mockMvc.perform(post("/registerProduct")
+                .contentType("application/json")
+                .content("{\"title\": \"Test Product\", "
+                        + "\"thumbnailImage\": {\"fileName\": \"thumb\", \"fileKey\": \"thumb.jpg\"}, "
+                        + "\"contentImages\": [{\"fileName\": \"content1\", \"fileKey\": \"content1.jpg\"}]}")
+                .principal(auth)
+        );
+
+        // then
+        result.andExpect(status().isInternalServerError())
+                .andExpect(content().string("상품 등록 실패"));
+        verify(s3Service, times(1)).moveFromTempAll(List.of("thumb.jpg", "content1.jpg"));
+    }
+
     @Test
     @DisplayName("PreSigned URL 생성 요청 처리 API 테스트")
     void getURL() throws Exception {
@@ -210,10 +262,12 @@ class ProductControllerTest {
         int page = 1;
         int size = 10;
 
-        // Mock 상품 목록 페이지
-        Page<ProductDto> mockProductPage = mock(Page.class);
-        given(mockProductPage.getTotalPages()).willReturn(5);
-        given(productService.getProductsPage(page, size)).willReturn(mockProductPage);
+        // 상품 목록 페이지
+        ProductDto productDto = new ProductDto();
+        productDto.setId(7);
+        productDto.setTitle("테스트 상품");
+        Page<ProductDto> productPage = new PageImpl<>(List.of(productDto), PageRequest.of(0, size), 41);
+        given(productService.getProductsPage(page, size)).willReturn(productPage);
 
         // when
         ResultActions result = mockMvc.perform(get(url)
@@ -225,14 +279,51 @@ class ProductControllerTest {
         // then
         result.andExpect(status().isOk()) // 정상 상태 코드 확인
                 .andExpect(view().name("product/list")) // 반환되는 뷰 이름 확인
-                .andExpect(model().attributeExists("productPage")) // 모델에 productPage가 있는지 확인
-                .andExpect(model().attribute("currentPage", page)) // currentPage가 1인지 확인
-                .andExpect(model().attribute("totalPages", 5)); // totalPages가 5인지 확인
+                .andExpect(model().attributeExists("productGridHtml")) // 렌더링된 상품 그리드가 모델에 있는지 확인
+                .andExpect(content().string(containsString("테스트 상품")))
+                .andExpect(content().string(containsString("href=\"/product/7\"")))
+                .andExpect(content().string(containsString("page=5&amp;size=9"))); // 마지막 페이지(5) 링크
 
         // 서비스 메서드 호출 확인
         verify(productService, times(1)).getProductsPage(page, size);
     }
 
+    @Test
+    @DisplayName("커서 기반 상품 목록 조회 정상 처리")
+    void getProductList_Cursor() throws Exception {
+        // given
+        ProductCursorPageDto cursorPage = new ProductCursorPageDto(List.of(), "next-cursor", true, null);
+        given(productService.getProductsByCursor("", 9, false)).willReturn(cursorPage);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/product/list")
+                .param("cursor", "")
+                .param("size", "9"));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(view().name("product/list"))
+                .andExpect(model().attribute("productCursorPage", cursorPage))
+                .andExpect(content().string(containsString("cursor=next-cursor")));
+
+        verify(productService, never()).getProductsPage(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("커서 기반 상품 목록 조회 실패 - 잘못된 커서")
+    void getProductList_InvalidCursor() throws Exception {
+        // given
+        given(productService.getProductsByCursor("invalid", 10, false))
+                .willThrow(new InvalidCursorException("잘못된 커서입니다."));
+
+        // when
+        ResultActions result = mockMvc.perform(get("/product/list").param("cursor", "invalid"));
+
+        // then
+        result.andExpect(status().isBadRequest())
+                .andExpect(view().name("error/error"));
+    }
+
     @Test
     @DisplayName("상품 상세 조회 성공")
     void getProductDetail_Success() throws Exception {
@@ -283,4 +374,110 @@ class ProductControllerTest {
         ;
     }
 
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("상품 목록 조회 - 캐시된 상품 그리드가 있으면 상품을 조회하지 않음")
+    void getProductList_CachedGrid() throws Exception {
+        // given
+        willReturn("<div id=\"cached-grid\">캐시된 상품</div>")
+                .given(productListCacheService).getProductGrid(eq(1), eq(10), any());
+
+        // when
+        ResultActions result = mockMvc.perform(get("/product/list"));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(content().string(containsString("<div id=\"cached-grid\">캐시된 상품</div>")));
+        verify(productService, never()).getProductsPage(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("상품 상세 조회 - ETag / Last-Modified 헤더 포함")
+    void getProductDetail_ConditionalHeaders() throws Exception {
+        // given
+        LocalDateTime modifyAt = LocalDateTime.of(2025, 5, 1, 12, 0, 0);
+        long lastModified = modifyAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        given(productService.getProductModifyAt(1)).willReturn(modifyAt);
+        ProductDto productDto = new ProductDto();
+        productDto.setId(1);
+        given(productService.getProductDetail(1)).willReturn(productDto);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/product/1"));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"product-1-" + lastModified + "-anonymous\""))
+                .andExpect(header().dateValue("Last-Modified", lastModified))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(header().string("Vary", "Cookie"));
+    }
+
+    @Test
+    @DisplayName("상품 상세 조회 - 변경되지 않은 경우 상세 조회 없이 304")
+    void getProductDetail_NotModified() throws Exception {
+        // given
+        LocalDateTime modifyAt = LocalDateTime.of(2025, 5, 1, 12, 0, 0);
+        long lastModified = modifyAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        given(productService.getProductModifyAt(1)).willReturn(modifyAt);
+
+        // when & then : ETag 일치
+        mockMvc.perform(get("/product/1").header("If-None-Match", "W/\"product-1-" + lastModified + "-anonymous\""))
+                .andExpect(status().isNotModified());
+        // when & then : 수정 시각 이후로 캐시된 경우
+        mockMvc.perform(get("/product/1").header("If-Modified-Since", lastModified + 1000))
+                .andExpect(status().isNotModified());
+
+        verify(productService, never()).getProductDetail(anyInt());
+    }
+
+    @Test
+    @DisplayName("상품 상세 조회 - 다른 사용자의 ETag 로는 304 를 반환하지 않음")
+    void getProductDetail_EtagPerViewer() throws Exception {
+        // given
+        LocalDateTime modifyAt = LocalDateTime.of(2025, 5, 1, 12, 0, 0);
+        long lastModified = modifyAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        given(productService.getProductModifyAt(1)).willReturn(modifyAt);
+        ProductDto productDto = new ProductDto();
+        productDto.setId(1);
+        given(productService.getProductDetail(1)).willReturn(productDto);
+
+        CustomUser customUser = new CustomUser(5, "test@example.com", "tester", "encodedPassword", List.of());
+        TestingAuthenticationToken auth = new TestingAuthenticationToken(customUser, null);
+        auth.setAuthenticated(true);
+        SecurityContextHolder.getContext().setAuthentication(auth);
+
+        try {
+            // when & then : 비로그인 상태에서 받은 ETag
+            mockMvc.perform(get("/product/1").header("If-None-Match", "W/\"product-1-" + lastModified + "-anonymous\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "W/\"product-1-" + lastModified + "-u5\""));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 카탈로그 버전이 같으면 조회/렌더링 없이 304")
+    void getProductList_NotModified() throws Exception {
+        // given
+        given(productListCacheService.getCatalogVersion()).willReturn(3L);
+        willReturn("<div>grid</div>").given(productListCacheService).getProductGrid(anyInt(), anyInt(), any());
+
+        // when
+        String etag = mockMvc.perform(get("/product/list").param("page", "2").param("size", "9"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // then
+        mockMvc.perform(get("/product/list").param("page", "2").param("size", "9").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        verify(productListCacheService, times(1)).getProductGrid(eq(2), eq(9), any());
+
+        // 상품 등록으로 버전이 바뀌면 다시 렌더링
+        given(productListCacheService.getCatalogVersion()).willReturn(4L);
+        mockMvc.perform(get("/product/list").param("page", "2").param("size", "9").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+        verify(productListCacheService, times(2)).getProductGrid(eq(2), eq(9), any());
+    }
+}
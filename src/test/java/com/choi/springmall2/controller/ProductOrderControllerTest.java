@@ -0,0 +1,148 @@
+package com.choi.springmall2.controller;
+
+import com.choi.springmall2.domain.CustomUser;
+import com.choi.springmall2.domain.dto.ProductOrderResponseDto;
+import com.choi.springmall2.error.exceptions.FlashSaleUnavailableException;
+import com.choi.springmall2.error.exceptions.OutOfStockException;
+import com.choi.springmall2.service.FlashSaleService;
+import com.choi.springmall2.service.ProductOrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ProductOrderController.class)
+@AutoConfigureMockMvc(addFilters = false) // 시큐리티 필터 제거
+class ProductOrderControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    private ProductOrderService productOrderService;
+
+    @MockitoBean
+    private FlashSaleService flashSaleService;
+
+    @BeforeEach
+    void setUp() {
+        CustomUser customUser = new CustomUser(1, "test@example.com", "tester", "encodedPassword", List.of());
+        TestingAuthenticationToken auth = new TestingAuthenticationToken(customUser, null);
+        auth.setAuthenticated(true);
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("상품 주문 API - 성공")
+    void placeOrder() throws Exception {
+        // given
+        given(productOrderService.placeOrder(any(), eq(1), eq("key-1")))
+                .willReturn(new ProductOrderResponseDto(100, 10, 2, LocalDateTime.of(2025, 5, 1, 12, 0), false));
+
+        // when & then
+        mockMvc.perform(post("/api/order")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productId\": 10, \"quantity\": 2}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderId").value(100))
+                .andExpect(jsonPath("$.productId").value(10));
+    }
+
+    @Test
+    @DisplayName("상품 주문 API - 플래시 세일로 접수되면 202")
+    void placeOrder_flashSaleAccepted() throws Exception {
+        // given
+        given(productOrderService.placeOrder(any(), eq(1), eq("key-1")))
+                .willReturn(new ProductOrderResponseDto(null, 10, 2, LocalDateTime.of(2025, 5, 1, 12, 0), true));
+
+        // when & then
+        mockMvc.perform(post("/api/order")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productId\": 10, \"quantity\": 2}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.pending").value(true))
+                .andExpect(jsonPath("$.orderId").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("상품 주문 API - 재고 부족 시 409")
+    void placeOrder_outOfStock() throws Exception {
+        // given
+        given(productOrderService.placeOrder(any(), eq(1), eq("key-1"))).willThrow(new OutOfStockException("재고가 부족합니다."));
+
+        // when & then
+        mockMvc.perform(post("/api/order")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productId\": 10, \"quantity\": 2}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("재고가 부족합니다."));
+    }
+
+    @Test
+    @DisplayName("상품 주문 API - 플래시 세일 주문 일시 불가 시 503 과 Retry-After")
+    void placeOrder_flashSaleUnavailable() throws Exception {
+        // given
+        given(productOrderService.placeOrder(any(), eq(1), eq("key-1")))
+                .willThrow(new FlashSaleUnavailableException("일시적으로 주문을 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."));
+
+        // when & then
+        mockMvc.perform(post("/api/order")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productId\": 10, \"quantity\": 2}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    @DisplayName("상품 주문 API - 주문 키 헤더 누락")
+    void placeOrder_missingIdempotencyKey() throws Exception {
+        // when & then
+        mockMvc.perform(post("/api/order")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productId\": 10, \"quantity\": 2}"))
+                .andExpect(status().isBadRequest());
+
+        verify(productOrderService, never()).placeOrder(any(), any(Integer.class), any());
+    }
+
+    @Test
+    @DisplayName("플래시 세일 시작/종료 API")
+    void openAndCloseFlashSale() throws Exception {
+        // when & then
+        mockMvc.perform(post("/api/admin/flash-sale/10/open"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(post("/api/admin/flash-sale/10/close"))
+                .andExpect(status().isNoContent());
+
+        verify(flashSaleService).openFlashSale(10);
+        verify(flashSaleService).closeFlashSale(10);
+    }
+}
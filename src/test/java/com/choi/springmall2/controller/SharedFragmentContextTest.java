@@ -0,0 +1,57 @@
+package com.choi.springmall2.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.web.IWebRequest;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SharedFragmentContextTest {
+
+    @Test
+    @DisplayName("공유 fragment 컨텍스트에는 처음 요청한 사용자의 세션, 파라미터, 속성, locale 이 포함되지 않음")
+    void create_requestIndependent() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/product/list");
+        request.setContextPath("/shop");
+        request.getSession().setAttribute("user", "tester");
+        request.setParameter("page", "3");
+        request.setAttribute("_csrf", "token");
+        request.addHeader("Accept-Language", "en-US");
+        request.addPreferredLocale(Locale.US);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        WebContext context = SharedFragmentContext.create(request, response);
+
+        // then
+        IWebRequest webRequest = context.getExchange().getRequest();
+        assertEquals(Locale.KOREA, context.getLocale());
+        assertEquals("/shop", webRequest.getApplicationPath());
+        assertNull(webRequest.getParameterValue("page"));
+        assertNull(webRequest.getHeaderValue("Accept-Language"));
+        assertNull(context.getExchange().getAttributeValue("_csrf"));
+        assertFalse(context.getExchange().getSession().exists());
+        assertEquals("/shop/product/1", context.getExchange().transformURL("/shop/product/1"));
+    }
+
+    @Test
+    @DisplayName("렌더링 중 설정한 속성은 원래 요청에 남지 않음")
+    void create_attributesIsolated() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/product/list");
+        WebContext context = SharedFragmentContext.create(request, new MockHttpServletResponse());
+
+        // when
+        context.getExchange().setAttributeValue("fragment", "value");
+
+        // then
+        assertEquals("value", context.getExchange().getAttributeValue("fragment"));
+        assertNull(request.getAttribute("fragment"));
+    }
+}
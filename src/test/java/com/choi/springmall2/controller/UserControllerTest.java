@@ -3,6 +3,7 @@ package com.choi.springmall2.controller;
 import com.choi.springmall2.config.JwtTokenProvider;
 import com.choi.springmall2.domain.CustomUser;
 import com.choi.springmall2.domain.dto.*;
+import com.choi.springmall2.error.exceptions.InvalidPasswordResetTokenException;
 import com.choi.springmall2.service.PasswordResetService;
 import com.choi.springmall2.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -355,7 +356,8 @@ class UserControllerTest {
         String token = "test-token";
         String newPassword = "new-password";
 
-        given(passwordResetService.isValidToken(token)).willReturn(false);
+        doThrow(new InvalidPasswordResetTokenException("유효하지 않은 토큰입니다."))
+                .when(passwordResetService).updatePasswordWithToken(token, newPassword);
 
         // when
         ResultActions result = mockMvc.perform(post(url)
@@ -377,8 +379,6 @@ class UserControllerTest {
         String token = "test-token";
         String newPassword = "new-password";
 
-        given(passwordResetService.isValidToken(token)).willReturn(true);
-
         doThrow(new RuntimeException("비밀번호 수정 중 오류 발생"))
                 .when(passwordResetService).updatePasswordWithToken(token, newPassword);
 
@@ -402,8 +402,6 @@ class UserControllerTest {
         String token = "test-token";
         String newPassword = "new-password";
 
-        given(passwordResetService.isValidToken(token)).willReturn(true);
-
         willDoNothing().given(passwordResetService).updatePasswordWithToken(token, newPassword);
 
         // when
@@ -416,6 +414,7 @@ class UserControllerTest {
         result.andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("비밀번호가 성공적으로 변경되었습니다."))
         ;
+        verify(passwordResetService, never()).isValidToken(any()); // 토큰 확인은 updatePasswordWithToken 에서 한 번만
     }
 
     @Test
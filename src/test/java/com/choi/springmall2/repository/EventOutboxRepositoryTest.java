@@ -0,0 +1,58 @@
+package com.choi.springmall2.repository;
+
+import com.choi.springmall2.config.JpaConfig;
+import com.choi.springmall2.domain.OutboxStatus;
+import com.choi.springmall2.domain.entity.EventOutbox;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+class EventOutboxRepositoryTest {
+
+    @Autowired
+    private EventOutboxRepository eventOutboxRepository;
+
+    @Test
+    @DisplayName("기준 시각 이전에 처리 완료된 이벤트만 limit 개씩 삭제")
+    void deleteProcessedBefore() {
+        // given
+        LocalDateTime before = LocalDateTime.now().minusDays(7);
+        save(OutboxStatus.PROCESSED, before.minusDays(1));
+        save(OutboxStatus.PROCESSED, before.minusDays(1));
+        save(OutboxStatus.PROCESSED, before.minusDays(1));
+        save(OutboxStatus.PROCESSED, before.plusDays(1)); // 보관 기간 내
+        save(OutboxStatus.FAILED, null);
+        save(OutboxStatus.PENDING, null);
+
+        // when & then
+        assertEquals(2, eventOutboxRepository.deleteProcessedBefore(before, 2));
+        assertEquals(1, eventOutboxRepository.deleteProcessedBefore(before, 2));
+        Map<OutboxStatus, Long> remaining = eventOutboxRepository.findAll().stream()
+                .collect(Collectors.groupingBy(EventOutbox::getStatus, Collectors.counting()));
+        assertEquals(Map.of(OutboxStatus.PROCESSED, 1L, OutboxStatus.FAILED, 1L, OutboxStatus.PENDING, 1L), remaining);
+    }
+
+    private void save(OutboxStatus status, LocalDateTime processedAt) {
+        EventOutbox outbox = new EventOutbox();
+        outbox.setEventType("PurgeTestEvent");
+        outbox.setPayload("{}");
+        outbox.setStatus(status);
+        outbox.setNextAttemptAt(LocalDateTime.now());
+        outbox.setProcessedAt(processedAt);
+        eventOutboxRepository.saveAndFlush(outbox);
+    }
+}
@@ -0,0 +1,39 @@
+package com.choi.springmall2.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * V3 마이그레이션이 기존 문자열 이미지 종류를 코드로 변환하는지 확인. 다른 테스트와 분리된 H2 DB 를 사용
+ */
+class ImageTypeMigrationTest {
+
+    @Test
+    @DisplayName("기존 'thumbnail' / 'content' 값은 'T' / 'C' 코드로 변환됨")
+    void convertExistingRows() {
+        // given : V2 까지 적용된 DB 에 문자열로 저장된 이미지
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:image-type-migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        Flyway.configure().dataSource(dataSource).target("2").load().migrate();
+        jdbcTemplate.update("INSERT INTO user (id, email, create_at) VALUES (1, 'seller@test.com', CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO product (id, title, seller_id, create_at) VALUES (1, 'product', 1, CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO product_image (product_id, type, seq, image_key, image_name, create_at) "
+                + "VALUES (1, 'thumbnail', 0, 'key0', 'name0', CURRENT_TIMESTAMP), "
+                + "(1, 'content', 1, 'key1', 'name1', CURRENT_TIMESTAMP)");
+
+        // when
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        // then
+        List<String> types = jdbcTemplate.queryForList("SELECT type FROM product_image ORDER BY seq", String.class);
+        assertEquals(List.of("T", "C"), types);
+    }
+}
@@ -0,0 +1,59 @@
+package com.choi.springmall2.repository;
+
+import com.choi.springmall2.config.JpaConfig;
+import com.choi.springmall2.domain.MailStatus;
+import com.choi.springmall2.domain.entity.MailOutbox;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+class MailOutboxRepositoryTest {
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Test
+    @DisplayName("기준 시각 이전에 발송 완료된 메일만 limit 개씩 삭제")
+    void deleteSentBefore() {
+        // given
+        LocalDateTime before = LocalDateTime.now().minusDays(7);
+        save(MailStatus.SENT, before.minusDays(1));
+        save(MailStatus.SENT, before.minusDays(1));
+        save(MailStatus.SENT, before.minusDays(1));
+        save(MailStatus.SENT, before.plusDays(1)); // 보관 기간 내
+        save(MailStatus.FAILED, null);
+        save(MailStatus.PENDING, null);
+
+        // when & then
+        assertEquals(2, mailOutboxRepository.deleteSentBefore(before, 2));
+        assertEquals(1, mailOutboxRepository.deleteSentBefore(before, 2));
+        Map<MailStatus, Long> remaining = mailOutboxRepository.findAll().stream()
+                .collect(Collectors.groupingBy(MailOutbox::getStatus, Collectors.counting()));
+        assertEquals(Map.of(MailStatus.SENT, 1L, MailStatus.FAILED, 1L, MailStatus.PENDING, 1L), remaining);
+    }
+
+    private void save(MailStatus status, LocalDateTime sentAt) {
+        MailOutbox mail = new MailOutbox();
+        mail.setRecipient("purge@example.com");
+        mail.setSubject("제목");
+        mail.setBody("본문");
+        mail.setStatus(status);
+        mail.setNextAttemptAt(LocalDateTime.now());
+        mail.setSentAt(sentAt);
+        mailOutboxRepository.saveAndFlush(mail);
+    }
+}
@@ -0,0 +1,105 @@
+package com.choi.springmall2.repository;
+
+import com.choi.springmall2.config.JpaConfig;
+import com.choi.springmall2.domain.Role;
+import com.choi.springmall2.domain.entity.PasswordResetToken;
+import com.choi.springmall2.domain.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+class PasswordResetTokenRepositoryTest {
+
+    @Autowired
+    private PasswordResetTokenRepository passwordResetTokenRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setEmail("reset@test.com");
+        user.setRole(Role.ROLE_BUYER);
+        entityManager.persist(user);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("같은 트랜잭션에서 기존 토큰 삭제 후 새 토큰 저장 (사용자당 토큰 1개 제약)")
+    void deleteByUserThenSave() {
+        // given
+        passwordResetTokenRepository.saveAndFlush(token(user, "hash-1"));
+
+        // when
+        passwordResetTokenRepository.deleteByUser(user);
+        passwordResetTokenRepository.saveAndFlush(token(user, "hash-2"));
+
+        // then
+        assertTrue(passwordResetTokenRepository.findByTokenHash("hash-1").isEmpty());
+        assertTrue(passwordResetTokenRepository.findByTokenHash("hash-2").isPresent());
+    }
+
+    @Test
+    @DisplayName("토큰 해시가 중복되면 제약 조건 위반")
+    void duplicateTokenHash() {
+        // given
+        User other = new User();
+        other.setEmail("other@test.com");
+        other.setRole(Role.ROLE_BUYER);
+        entityManager.persist(other);
+        passwordResetTokenRepository.saveAndFlush(token(user, "same-hash"));
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class,
+                () -> passwordResetTokenRepository.saveAndFlush(token(other, "same-hash")));
+    }
+
+    @Test
+    @DisplayName("만료 시각이 기준 시각 이전인 토큰만 limit 개씩 삭제")
+    void deleteExpired() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 4; i++) {
+            User other = new User();
+            other.setEmail("expired" + i + "@test.com");
+            other.setRole(Role.ROLE_BUYER);
+            entityManager.persist(other);
+            PasswordResetToken token = token(other, "expired-hash" + i);
+            token.setExpiryDate(now.minusMinutes(1));
+            passwordResetTokenRepository.save(token);
+        }
+        passwordResetTokenRepository.saveAndFlush(token(user, "valid-hash"));
+
+        // when & then
+        assertEquals(2, passwordResetTokenRepository.deleteExpired(now, 2));
+        assertEquals(2, passwordResetTokenRepository.deleteExpired(now, 2));
+        assertEquals(0, passwordResetTokenRepository.deleteExpired(now, 2));
+        assertTrue(passwordResetTokenRepository.findByTokenHash("valid-hash").isPresent());
+    }
+
+    private PasswordResetToken token(User user, String tokenHash) {
+        PasswordResetToken token = new PasswordResetToken();
+        token.setUser(user);
+        token.setTokenHash(tokenHash);
+        token.setExpiryDate(LocalDateTime.now().plusHours(1));
+        return token;
+    }
+}
@@ -0,0 +1,127 @@
+package com.choi.springmall2.repository;
+
+import com.choi.springmall2.config.JpaConfig;
+import com.choi.springmall2.domain.ImageType;
+import com.choi.springmall2.domain.Role;
+import com.choi.springmall2.domain.entity.Product;
+import com.choi.springmall2.domain.entity.ProductImage;
+import com.choi.springmall2.domain.entity.User;
+import com.github.gavlyukovskiy.boot.jdbc.decorator.DataSourceDecoratorAutoConfiguration;
+import com.p6spy.engine.common.PreparedStatementInformation;
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@ImportAutoConfiguration(DataSourceDecoratorAutoConfiguration.class) // p6spy 로 JDBC 실행 횟수 측정
+@Import({JpaConfig.class, ProductImageBatchRepositoryTest.StatementCounterConfig.class})
+class ProductImageBatchRepositoryTest {
+
+    @Autowired
+    private ProductImageRepository productImageRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        User seller = new User();
+        seller.setEmail("seller@test.com");
+        seller.setRole(Role.ROLE_SELLER);
+        entityManager.persist(seller);
+
+        product = new Product();
+        product.setTitle("상품");
+        product.setPrice(1000.0);
+        product.setStock(10);
+        product.setSeller(seller);
+        entityManager.persist(product);
+        entityManager.flush();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    @DisplayName("이미지 수와 관계없이 INSERT 는 batch 한 번으로 실행")
+    void batchInsert(int imageCount) {
+        // given
+        List<ProductImage> productImages = new ArrayList<>();
+        for (int i = 0; i < imageCount; i++) {
+            ProductImage productImage = new ProductImage();
+            productImage.setProduct(product);
+            productImage.setType(i == 0 ? ImageType.THUMBNAIL : ImageType.CONTENT);
+            productImage.setSeq(i);
+            productImage.setImageName("image" + i + ".jpg");
+            productImage.setImageKey("key" + i + ".jpg");
+            productImages.add(productImage);
+        }
+        statementCounter.reset();
+
+        // when
+        productImageRepository.batchInsert(productImages);
+
+        // then
+        assertEquals(1, statementCounter.batches.get());
+        assertEquals(0, statementCounter.singleUpdates.get());
+
+        List<ProductImage> saved = productImageRepository.findAll(Sort.by("seq"));
+        assertEquals(imageCount, saved.size());
+        assertEquals("key0.jpg", saved.get(0).getImageKey());
+        assertNotNull(saved.get(0).getCreateAt());
+        assertEquals("key" + (imageCount - 1) + ".jpg", saved.get(imageCount - 1).getImageKey());
+    }
+
+    @TestConfiguration
+    static class StatementCounterConfig {
+        @Bean
+        StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+    }
+
+    static class StatementCounter extends JdbcEventListener {
+        private final AtomicInteger batches = new AtomicInteger();
+        private final AtomicInteger singleUpdates = new AtomicInteger();
+
+        void reset() {
+            batches.set(0);
+            singleUpdates.set(0);
+        }
+
+        @Override
+        public void onAfterExecuteBatch(StatementInformation statementInformation, long timeElapsedNanos, int[] updateCounts, SQLException e) {
+            batches.incrementAndGet();
+        }
+
+        @Override
+        public void onAfterExecuteUpdate(PreparedStatementInformation statementInformation, long timeElapsedNanos, int rowCount, SQLException e) {
+            singleUpdates.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.choi.springmall2.repository;
+
+import com.choi.springmall2.config.JpaConfig;
+import com.choi.springmall2.domain.Role;
+import com.choi.springmall2.domain.entity.Product;
+import com.choi.springmall2.domain.entity.ProductOrder;
+import com.choi.springmall2.domain.entity.User;
+import com.choi.springmall2.domain.vo.FlashSaleOrderVo;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+class ProductOrderBatchRepositoryTest {
+
+    @Autowired
+    private ProductOrderRepository productOrderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User buyer;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        buyer = new User();
+        buyer.setEmail("buyer@test.com");
+        buyer.setRole(Role.ROLE_BUYER);
+        entityManager.persist(buyer);
+
+        product = new Product();
+        product.setTitle("상품");
+        product.setPrice(1000.0);
+        product.setStock(10);
+        product.setSeller(buyer);
+        entityManager.persist(product);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("플래시 세일 주문 batch 저장")
+    void batchInsert() {
+        // given
+        List<FlashSaleOrderVo> orders = List.of(order("key-1", 1), order("key-2", 3));
+
+        // when
+        productOrderRepository.batchInsert(orders);
+
+        // then
+        ProductOrder saved = productOrderRepository.findByUserIdAndIdempotencyKey(buyer.getId(), "key-2").orElseThrow();
+        assertEquals(3, saved.getQuantity());
+        assertEquals(product.getId(), saved.getProduct().getId());
+        assertEquals("12345", saved.getZipCode());
+        assertNotNull(saved.getCreateAt());
+    }
+
+    @Test
+    @DisplayName("이미 저장된 주문 키가 있으면 DuplicateKeyException")
+    void batchInsert_duplicate() {
+        // given
+        productOrderRepository.batchInsert(List.of(order("key-1", 1)));
+
+        // when & then
+        assertThrows(DuplicateKeyException.class, () -> productOrderRepository.batchInsert(List.of(order("key-1", 1))));
+    }
+
+    private FlashSaleOrderVo order(String idempotencyKey, int quantity) {
+        return new FlashSaleOrderVo(product.getId(), buyer.getId(), quantity, idempotencyKey, System.currentTimeMillis(),
+                "010-0000-0000", "12345", "주소", null);
+    }
+}
@@ -0,0 +1,190 @@
+package com.choi.springmall2.repository;
+
+import com.choi.springmall2.domain.ImageType;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Flyway 마이그레이션으로 만든 스키마에서 주요 조회 쿼리의 실행 계획을 확인.
+ * repository 메서드를 실제로 실행하여 Hibernate 가 만든 SQL 을 가로챈 뒤 그 SQL 의 실행 계획을 확인하므로,
+ * 인덱스가 빠지거나 파생 쿼리 / @Query 가 바뀌어 전체 스캔으로 떨어지면 빌드가 실패함
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.choi.springmall2.repository.QueryPlanTest$SqlCapture")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // application-test.properties 의 H2 사용
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QueryPlanTest {
+
+    // H2 실행 계획에서 전체 스캔은 "/* PUBLIC.<table>.tableScan */" 으로 표시됨
+    private static final String TABLE_SCAN = "tableScan";
+
+    // 다른 테스트 데이터와 겹치지 않도록 큰 id 부터 사용
+    private static final int SEED_ID_START = 100_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductImageRepository productImageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordResetTokenRepository passwordResetTokenRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 빈 테이블에서는 모든 인덱스의 비용이 같아 옵티마이저가 임의로 고르므로 행을 채우고 통계를 갱신한 상태에서 확인
+        for (int u = SEED_ID_START; u < SEED_ID_START + 20; u++) {
+            jdbcTemplate.update("INSERT INTO user (id, email, nickname, password, role, create_at) "
+                    + "VALUES (?, ?, ?, 'password', 'ROLE_SELLER', CURRENT_TIMESTAMP)", u, "user" + u + "@plan.test", "user" + u);
+            jdbcTemplate.update("INSERT INTO password_reset_token (user_id, token_hash, expiry_date) "
+                    + "VALUES (?, ?, CURRENT_TIMESTAMP)", u, "hash" + u);
+        }
+        for (int p = SEED_ID_START; p < SEED_ID_START + 50; p++) {
+            jdbcTemplate.update("INSERT INTO product (id, title, price, stock, seller_id, create_at) "
+                    + "VALUES (?, ?, 1000, 10, ?, CURRENT_TIMESTAMP)", p, "product" + p, SEED_ID_START);
+            for (int seq = 0; seq < 10; seq++) {
+                jdbcTemplate.update("INSERT INTO product_image (product_id, type, seq, image_key, image_name, create_at) "
+                        + "VALUES (?, ?, ?, 'key', 'name', CURRENT_TIMESTAMP)", p, seq == 0 ? "T" : "C", seq);
+            }
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        // ANALYZE 가 트랜잭션을 커밋하므로 롤백 대신 직접 삭제
+        jdbcTemplate.update("DELETE FROM product_image WHERE product_id >= ?", SEED_ID_START);
+        jdbcTemplate.update("DELETE FROM product WHERE id >= ?", SEED_ID_START);
+        jdbcTemplate.update("DELETE FROM password_reset_token WHERE user_id >= ?", SEED_ID_START);
+        jdbcTemplate.update("DELETE FROM user WHERE id >= ?", SEED_ID_START);
+    }
+
+    @Test
+    @DisplayName("상품 이미지 (product_id, type, seq) 인덱스는 마이그레이션으로 생성됨")
+    void productImageIndexExists() {
+        List<String> columns = jdbcTemplate.queryForList("SELECT column_name FROM information_schema.index_columns "
+                + "WHERE table_name = 'product_image' AND index_name = 'idx_product_image_product_type_seq' "
+                + "ORDER BY ordinal_position", String.class);
+
+        assertEquals(List.of("product_id", "type", "seq"), columns);
+    }
+
+    @Test
+    @DisplayName("상품 이미지 조회는 (product_id, type, seq) 인덱스 사용")
+    void productImageByProductAndType() {
+        String sql = capture(() -> productImageRepository.findByProductIdAndTypeOrderBySeqAsc(100001, ImageType.CONTENT));
+
+        assertUsesIndex(explain(sql, 100001, "C"), "idx_product_image_product_type_seq");
+    }
+
+    @Test
+    @DisplayName("상품 목록의 썸네일 join 은 상품 이미지 인덱스 사용")
+    void productListThumbnailJoin() {
+        String sql = capture(() -> productRepository.findListItemsByIdLessThan(100040, Limit.of(10)));
+
+        assertUsesIndex(explain(sql, 100040, 10), "idx_product_image_product_type_seq");
+    }
+
+    @Test
+    @DisplayName("이메일로 사용자 조회는 이메일 인덱스 사용")
+    void userByEmail() {
+        String sql = capture(() -> userRepository.findByEmail("user100001@plan.test"));
+
+        assertUsesIndex(explain(sql, "user100001@plan.test"), "idx_user_email");
+    }
+
+    @Test
+    @DisplayName("비밀번호 재설정 토큰 조회는 토큰 해시 유니크 인덱스 사용")
+    void passwordResetTokenByTokenHash() {
+        String sql = capture(() -> passwordResetTokenRepository.findByTokenHash("hash100001"));
+
+        assertUsesIndex(explain(sql, "hash100001"), "uk_password_reset_token_token_hash");
+    }
+
+    @Test
+    @DisplayName("만료된 비밀번호 재설정 토큰 정리는 만료 시각 인덱스 사용")
+    void passwordResetTokenByExpiryDate() {
+        LocalDateTime before = LocalDateTime.of(2000, 1, 1, 0, 0);
+        String sql = capture(() -> transactionTemplate.executeWithoutResult(
+                status -> passwordResetTokenRepository.deleteExpired(before, 10)));
+
+        assertUsesIndex(explain(sql, before, 10), "idx_password_reset_token_expiry_date");
+    }
+
+    @Test
+    @DisplayName("발송 완료 메일 정리용 (status, sent_at) 인덱스는 마이그레이션으로 생성됨")
+    void mailOutboxSentAtIndexExists() {
+        List<String> columns = jdbcTemplate.queryForList("SELECT column_name FROM information_schema.index_columns "
+                + "WHERE table_name = 'mail_outbox' AND index_name = 'idx_mail_outbox_status_sent_at' "
+                + "ORDER BY ordinal_position", String.class);
+
+        assertEquals(List.of("status", "sent_at"), columns);
+    }
+
+    @Test
+    @DisplayName("처리 완료 이벤트 정리용 (status, processed_at) 인덱스는 마이그레이션으로 생성됨")
+    void eventOutboxProcessedAtIndexExists() {
+        List<String> columns = jdbcTemplate.queryForList("SELECT column_name FROM information_schema.index_columns "
+                + "WHERE table_name = 'event_outbox' AND index_name = 'idx_event_outbox_status_processed_at' "
+                + "ORDER BY ordinal_position", String.class);
+
+        assertEquals(List.of("status", "processed_at"), columns);
+    }
+
+    // repository 호출 중 Hibernate 가 처음 실행한 SQL. 이후의 SQL 은 연관 엔티티 로딩이므로 제외
+    private String capture(Runnable query) {
+        SqlCapture.STATEMENTS.clear();
+        query.run();
+        assertFalse(SqlCapture.STATEMENTS.isEmpty(), "실행된 SQL 이 없습니다.");
+        return SqlCapture.STATEMENTS.get(0);
+    }
+
+    // 가로챈 SQL 의 파라미터 (?) 에 값을 채워 실행 계획 조회
+    private String explain(String sql, Object... args) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, args);
+    }
+
+    private void assertUsesIndex(String plan, String indexName) {
+        assertTrue(plan.contains(indexName), plan);
+        assertFalse(plan.contains(TABLE_SCAN), plan);
+    }
+
+    // Hibernate 가 실행하는 SQL 을 기록. Hibernate 가 이름으로 생성하므로 public 기본 생성자가 필요함
+    public static class SqlCapture implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.choi.springmall2.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BatchedPurgerTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AtomicInteger remaining = new AtomicInteger(); // 삭제 대상으로 남은 행 수
+    private final List<LocalDateTime> befores = new ArrayList<>();
+
+    // batch 크기 2, 실행당 최대 3 batch
+    private BatchedPurger purger(Duration retention) {
+        return new BatchedPurger((before, limit) -> {
+            befores.add(before);
+            int deleted = Math.min(limit, remaining.get());
+            remaining.addAndGet(-deleted);
+            return deleted;
+        }, transactionManager, meterRegistry, "test.purged", retention, 2, 3);
+    }
+
+    @Test
+    @DisplayName("batch 마다 트랜잭션을 커밋하며 삭제하고 실행당 삭제 수를 기록")
+    void purge() {
+        // given
+        remaining.set(5);
+        BatchedPurger purger = purger(Duration.ofDays(7));
+
+        // when : batch 크기 2 이므로 2, 2, 1 세 번에 나눠 삭제
+        LocalDateTime start = LocalDateTime.now();
+        int purged = purger.purge();
+
+        // then
+        assertEquals(5, purged);
+        assertEquals(3, befores.size());
+        verify(transactionManager, times(3)).commit(any());
+        assertEquals(1, befores.stream().distinct().count()); // 모든 batch 가 같은 기준 시각 사용
+        assertFalse(befores.get(0).isBefore(start.minusDays(7)));
+        assertTrue(befores.get(0).isBefore(start.minusDays(7).plusMinutes(1)));
+
+        DistributionSummary summary = meterRegistry.get("test.purged").summary();
+        assertEquals(1, summary.count());
+        assertEquals(5, summary.totalAmount());
+    }
+
+    @Test
+    @DisplayName("실행당 최대 batch 수를 넘는 행은 다음 실행에서 이어서 삭제")
+    void purge_maxBatchesPerRun() {
+        // given
+        remaining.set(7);
+        BatchedPurger purger = purger(Duration.ZERO);
+
+        // when
+        int firstRun = purger.purge();
+        int secondRun = purger.purge();
+
+        // then : 한 번에 최대 3 batch (6건)
+        assertEquals(6, firstRun);
+        assertEquals(1, secondRun);
+        assertEquals(0, remaining.get());
+    }
+
+    @Test
+    @DisplayName("삭제할 행이 없으면 batch 하나만 실행하고 0 을 기록")
+    void purge_nothingToDelete() {
+        // when
+        int purged = purger(Duration.ZERO).purge();
+
+        // then
+        assertEquals(0, purged);
+        assertEquals(1, befores.size());
+        assertEquals(1, meterRegistry.get("test.purged").summary().count());
+    }
+}
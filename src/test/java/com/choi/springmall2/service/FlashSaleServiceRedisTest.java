@@ -0,0 +1,294 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.domain.FlashSaleReserveResult;
+import com.choi.springmall2.domain.dto.ProductOrderRequestDto;
+import com.choi.springmall2.domain.entity.Product;
+import com.choi.springmall2.domain.entity.ProductOrder;
+import com.choi.springmall2.repository.ProductOrderRepository;
+import com.choi.springmall2.repository.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 플래시 세일 Lua 스크립트를 실제 Redis (embedded) 에서 실행하는 테스트. DB 는 mock 사용.
+ * embedded Redis 를 실행할 수 없는 환경이면 건너뜀
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FlashSaleServiceRedisTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductOrderRepository productOrderRepository;
+
+    @Mock
+    private ProductDetailCacheService productDetailCacheService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private FlashSaleService flashSaleService;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        try {
+            redisServer = new RedisServer(port);
+            redisServer.start();
+        } catch (Exception e) {
+            redisServer = null;
+        }
+        assumeTrue(redisServer != null, "embedded Redis 를 실행할 수 없는 환경");
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushDb();
+        }
+
+        // 트랜잭션 없이 콜백을 그대로 실행
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        flashSaleService = new FlashSaleService(redisTemplate, new ObjectMapper(), productRepository, productOrderRepository,
+                productDetailCacheService, transactionTemplate, meterRegistry, 2, 3, 24);
+    }
+
+    @Test
+    @DisplayName("동시 주문 - 재고보다 많은 주문이 동시에 들어와도 재고만큼만 접수")
+    void reserve_concurrent() throws Exception {
+        // given
+        open(10, 10);
+
+        // when : 50 명이 1개씩 동시에 주문
+        Map<FlashSaleReserveResult, Long> results = reserveConcurrently(50, i -> i, i -> "key-" + i);
+
+        // then
+        assertEquals(10L, results.get(FlashSaleReserveResult.ACCEPTED));
+        assertEquals(40L, results.get(FlashSaleReserveResult.SOLD_OUT));
+        assertEquals("0", redisTemplate.opsForValue().get("flashsale:{10}:stock"));
+        assertEquals(10L, redisTemplate.opsForList().size("flashsale:{10}:queue"));
+        assertEquals(10L, redisTemplate.opsForHash().size("flashsale:{10}:keys"));
+    }
+
+    @Test
+    @DisplayName("동시 주문 - 같은 주문 키로 동시에 요청하면 한 번만 재고 차감")
+    void reserve_concurrentDuplicate() throws Exception {
+        // given
+        open(10, 10);
+
+        // when
+        Map<FlashSaleReserveResult, Long> results = reserveConcurrently(20, i -> 1, i -> "same-key");
+
+        // then
+        assertEquals(1L, results.get(FlashSaleReserveResult.ACCEPTED));
+        assertEquals(19L, results.get(FlashSaleReserveResult.DUPLICATE));
+        assertEquals("9", redisTemplate.opsForValue().get("flashsale:{10}:stock"));
+        assertEquals(1L, redisTemplate.opsForList().size("flashsale:{10}:queue"));
+    }
+
+    @Test
+    @DisplayName("세일 종료 - 큐가 빌 때까지 상품 집합에 남고, 종료 후 주문은 접수하지 않음")
+    void closeAndRetire() {
+        // given : 2건 접수 후 저장
+        open(10, 5);
+        reserve(1, "a");
+        reserve(2, "b");
+        flashSaleService.drainOrders();
+
+        // then : 세일 중이면 큐가 비어도 집합에서 제거하지 않음
+        assertTrue(isActive(10));
+
+        // given : 1건 더 접수된 상태에서 종료
+        reserve(3, "c");
+        flashSaleService.closeFlashSale(10);
+
+        // then : 남은 재고를 DB 에 반영하고, 큐에 남은 주문이 있으므로 집합에 유지
+        verify(productRepository).endFlashSale(eq(10), eq(2), any(LocalDateTime.class));
+        assertNull(redisTemplate.opsForValue().get("flashsale:{10}:stock"));
+        assertTrue(redisTemplate.getExpire("flashsale:{10}:keys") > 0);
+        assertTrue(isActive(10));
+        assertEquals(FlashSaleReserveResult.NOT_ACTIVE, reserve(4, "d"));
+
+        // when : 남은 주문 저장
+        int drained = flashSaleService.drainOrders();
+
+        // then : 큐가 빈 것을 확인한 다음 실행에서 집합에서 제거
+        assertEquals(1, drained);
+        assertEquals(0L, redisTemplate.opsForList().size("flashsale:{10}:queue"));
+        assertEquals(0, flashSaleService.drainOrders());
+        assertFalse(isActive(10));
+        verify(productOrderRepository, times(2)).batchInsert(anyList());
+    }
+
+    @Test
+    @DisplayName("drain 잠금 - TTL 이 지나 다른 인스턴스가 잡은 잠금은 해제하지 않음")
+    void drainOrders_lockTakenOver() {
+        // given : 저장 중에 잠금이 만료되어 다른 인스턴스가 잠금을 잡은 상황
+        open(10, 5);
+        reserve(1, "a");
+        doAnswer(invocation -> {
+            redisTemplate.opsForValue().set("flashsale:{10}:drain-lock", "other");
+            return null;
+        }).when(productOrderRepository).batchInsert(anyList());
+
+        // when
+        flashSaleService.drainOrders();
+
+        // then
+        assertEquals("other", redisTemplate.opsForValue().get("flashsale:{10}:drain-lock"));
+    }
+
+    @Test
+    @DisplayName("주문 키 충돌 - 재고를 되돌리고 dead-letter 로 옮긴 뒤, 같은 키로 재요청하면 REJECTED")
+    void drainOrders_keyCollision() {
+        // given : 같은 키로 다른 상품을 일반 주문한 상태
+        open(10, 5);
+        reserve(1, "a");
+        doThrow(new DuplicateKeyException("a")).when(productOrderRepository).batchInsert(anyList());
+        when(productOrderRepository.findByUserIdAndIdempotencyKey(1, "a")).thenReturn(Optional.of(normalOrder(20)));
+
+        // when : 두 번 실행되어도 재고는 한 번만 복구
+        flashSaleService.drainOrders();
+        redisTemplate.opsForList().rightPush("flashsale:{10}:queue",
+                redisTemplate.opsForList().index("flashsale:{10}:dead-letter", 0));
+        flashSaleService.drainOrders();
+
+        // then
+        assertEquals("5", redisTemplate.opsForValue().get("flashsale:{10}:stock"));
+        assertEquals(1L, redisTemplate.opsForList().size("flashsale:{10}:dead-letter"));
+        assertEquals(0L, redisTemplate.opsForList().size("flashsale:{10}:queue"));
+        assertEquals(FlashSaleReserveResult.REJECTED, reserve(1, "a"));
+        assertEquals("5", redisTemplate.opsForValue().get("flashsale:{10}:stock"));
+        verify(productRepository, never()).restoreStock(anyInt(), anyInt(), any());
+    }
+
+    // openFlashSale 의 커밋 후 처리와 같은 상태로 만듦
+    private void open(int productId, int stock) {
+        redisTemplate.opsForValue().set("flashsale:{" + productId + "}:stock", String.valueOf(stock));
+        redisTemplate.opsForSet().add(FlashSaleService.ACTIVE_PRODUCTS_KEY, String.valueOf(productId));
+    }
+
+    private boolean isActive(int productId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(FlashSaleService.ACTIVE_PRODUCTS_KEY, String.valueOf(productId)));
+    }
+
+    private FlashSaleReserveResult reserve(int userId, String idempotencyKey) {
+        return flashSaleService.reserve(request(10, 1), userId, idempotencyKey).result();
+    }
+
+    private Map<FlashSaleReserveResult, Long> reserveConcurrently(int count, Function<Integer, Integer> userId,
+                                                                  Function<Integer, String> idempotencyKey) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<FlashSaleReserveResult>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                Callable<FlashSaleReserveResult> task = () -> {
+                    start.await();
+                    return reserve(userId.apply(index), idempotencyKey.apply(index));
+                };
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+
+            List<FlashSaleReserveResult> results = new ArrayList<>();
+            for (Future<FlashSaleReserveResult> future : futures) {
+                results.add(future.get());
+            }
+            return results.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ProductOrder normalOrder(int productId) {
+        Product product = new Product();
+        product.setId(productId);
+        ProductOrder productOrder = new ProductOrder();
+        productOrder.setProduct(product);
+        productOrder.setQuantity(1);
+        productOrder.setOrder_date(LocalDateTime.now().minusDays(1));
+        return productOrder;
+    }
+
+    private ProductOrderRequestDto request(int productId, int quantity) {
+        ProductOrderRequestDto requestDto = new ProductOrderRequestDto();
+        requestDto.setProductId(productId);
+        requestDto.setQuantity(quantity);
+        return requestDto;
+    }
+}
@@ -0,0 +1,427 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.domain.FlashSaleReserveResult;
+import com.choi.springmall2.domain.dto.ProductOrderRequestDto;
+import com.choi.springmall2.domain.entity.Product;
+import com.choi.springmall2.domain.entity.ProductOrder;
+import com.choi.springmall2.domain.vo.FlashSaleOrderVo;
+import com.choi.springmall2.domain.vo.FlashSaleReservationVo;
+import com.choi.springmall2.repository.ProductOrderRepository;
+import com.choi.springmall2.repository.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FlashSaleServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductOrderRepository productOrderRepository;
+
+    @Mock
+    private ProductDetailCacheService productDetailCacheService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MeterRegistry meterRegistry;
+    private FlashSaleService flashSaleService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        // 트랜잭션 없이 콜백을 그대로 실행
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        flashSaleService = new FlashSaleService(redisTemplate, objectMapper, productRepository, productOrderRepository,
+                productDetailCacheService, transactionTemplate, meterRegistry, 2, 3, 24);
+    }
+
+    @Test
+    @DisplayName("주문 접수 - 재고 차감 스크립트가 1 을 반환하면 ACCEPTED")
+    void reserve_accepted() {
+        // given
+        givenReserveScriptReturns(1L);
+
+        // when
+        FlashSaleReservationVo result = flashSaleService.reserve(request(10, 2), 1, "key-1");
+
+        // then
+        assertEquals(FlashSaleReserveResult.ACCEPTED, result.result());
+        assertEquals(10, result.order().productId());
+        assertEquals("key-1", result.order().idempotencyKey());
+        // 한 상품의 키는 같은 hash tag 를 사용
+        verify(redisTemplate).execute(anyScript(),
+                eq(List.of("flashsale:{10}:stock", "flashsale:{10}:keys", "flashsale:{10}:queue")),
+                eq("2"), eq("1:key-1"), anyString());
+        assertEquals(1.0, meterRegistry.get("flashsale.order").tag("result", "accepted").counter().count());
+    }
+
+    @Test
+    @DisplayName("주문 접수 - 재고 부족, 플래시 세일 아님 결과 매핑")
+    void reserve_soldOutAndNotActive() {
+        // given & when & then
+        givenReserveScriptReturns(0L);
+        assertEquals(FlashSaleReserveResult.SOLD_OUT, flashSaleService.reserve(request(10, 2), 1, "key-1").result());
+
+        givenReserveScriptReturns(-1L);
+        assertEquals(FlashSaleReserveResult.NOT_ACTIVE, flashSaleService.reserve(request(10, 2), 1, "key-1").result());
+    }
+
+    @Test
+    @DisplayName("주문 접수 - 같은 주문 키면 먼저 접수된 주문을 반환")
+    void reserve_duplicate() throws Exception {
+        // given
+        givenReserveScriptReturns(-2L);
+        FlashSaleOrderVo first = order(10, 1, "key-1");
+        when(hashOperations.get("flashsale:{10}:keys", "1:key-1")).thenReturn(objectMapper.writeValueAsString(first));
+
+        // when
+        FlashSaleReservationVo result = flashSaleService.reserve(request(10, 2), 1, "key-1");
+
+        // then
+        assertEquals(FlashSaleReserveResult.DUPLICATE, result.result());
+        assertEquals(first, result.order());
+    }
+
+    @Test
+    @DisplayName("주문 접수 - 같은 주문 키의 주문이 거절되었으면 REJECTED")
+    void reserve_rejected() {
+        // given
+        givenReserveScriptReturns(-2L);
+        when(hashOperations.get("flashsale:{10}:keys", "1:key-1")).thenReturn(FlashSaleService.REJECTED_ORDER);
+
+        // when
+        FlashSaleReservationVo result = flashSaleService.reserve(request(10, 2), 1, "key-1");
+
+        // then
+        assertEquals(FlashSaleReserveResult.REJECTED, result.result());
+        assertNull(result.order());
+    }
+
+    @Test
+    @DisplayName("주문 접수 - Redis 장애 시 세일 여부를 알 수 없으므로 UNAVAILABLE")
+    void reserve_redisFailure() {
+        // given
+        when(redisTemplate.execute(anyScript(), anyList(), any(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        FlashSaleReservationVo result = flashSaleService.reserve(request(10, 2), 1, "key-1");
+
+        // then
+        assertEquals(FlashSaleReserveResult.UNAVAILABLE, result.result());
+    }
+
+    @Test
+    @DisplayName("주문 저장 - DB 저장이 끝난 만큼만 큐에서 제거")
+    void drainOrders() throws Exception {
+        // given : batch 크기 2, 큐에 3건
+        String first = objectMapper.writeValueAsString(order(10, 1, "a"));
+        String second = objectMapper.writeValueAsString(order(10, 2, "b"));
+        String third = objectMapper.writeValueAsString(order(10, 3, "c"));
+        when(setOperations.members(FlashSaleService.ACTIVE_PRODUCTS_KEY)).thenReturn(Set.of("10"));
+        when(listOperations.range("flashsale:{10}:queue", 0, 1))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third));
+
+        // when
+        int drained = flashSaleService.drainOrders();
+
+        // then
+        assertEquals(3, drained);
+        var inOrder = inOrder(productOrderRepository, listOperations);
+        inOrder.verify(productOrderRepository).batchInsert(argThat(orders -> orders.size() == 2));
+        inOrder.verify(listOperations).trim("flashsale:{10}:queue", 2, -1);
+        inOrder.verify(productOrderRepository).batchInsert(argThat(orders -> orders.size() == 1));
+        inOrder.verify(listOperations).trim("flashsale:{10}:queue", 1, -1);
+        verifyLockReleased();
+        assertEquals(3.0, meterRegistry.get("flashsale.drain.persisted").counter().count());
+    }
+
+    @Test
+    @DisplayName("주문 저장 - DB 장애 등 일시적인 실패 시 큐에서 제거하지 않음")
+    void drainOrders_persistFailure() throws Exception {
+        // given
+        when(setOperations.members(FlashSaleService.ACTIVE_PRODUCTS_KEY)).thenReturn(Set.of("10"));
+        when(listOperations.range("flashsale:{10}:queue", 0, 1))
+                .thenReturn(List.of(objectMapper.writeValueAsString(order(10, 1, "a"))));
+        doThrow(new DataAccessResourceFailureException("db down")).when(productOrderRepository).batchInsert(anyList());
+
+        // when & then
+        assertThrows(DataAccessResourceFailureException.class, () -> flashSaleService.drainOrders());
+        verify(listOperations, never()).trim(anyString(), anyLong(), anyLong());
+        verify(listOperations, never()).rightPush(anyString(), anyString());
+        verifyLockReleased(); // 잠금은 해제
+    }
+
+    @Test
+    @DisplayName("주문 저장 - 이미 저장된 주문이 섞여 있으면 한 건씩 저장하며 건너뜀")
+    void drainOrders_duplicateFallback() throws Exception {
+        // given
+        FlashSaleOrderVo saved = order(10, 1, "a");
+        when(setOperations.members(FlashSaleService.ACTIVE_PRODUCTS_KEY)).thenReturn(Set.of("10"));
+        when(listOperations.range("flashsale:{10}:queue", 0, 1))
+                .thenReturn(List.of(objectMapper.writeValueAsString(saved),
+                        objectMapper.writeValueAsString(order(10, 2, "b"))))
+                .thenReturn(List.of());
+        when(productOrderRepository.findByUserIdAndIdempotencyKey(1, "a")).thenReturn(Optional.of(savedOrder(saved, 10)));
+        doThrow(new DuplicateKeyException("batch"))
+                .doThrow(new DuplicateKeyException("a"))
+                .doNothing()
+                .when(productOrderRepository).batchInsert(anyList());
+
+        // when
+        int drained = flashSaleService.drainOrders();
+
+        // then
+        assertEquals(2, drained);
+        verify(productOrderRepository, times(3)).batchInsert(anyList());
+        verify(listOperations).trim("flashsale:{10}:queue", 2, -1);
+        verify(redisTemplate, never()).execute(anyScript(),
+                eq(List.of("flashsale:{10}:stock", "flashsale:{10}:keys", "flashsale:{10}:dead-letter")),
+                any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("주문 저장 - 다른 주문이 같은 주문 키를 사용했으면 재고를 되돌리고 dead-letter 로 이동")
+    void drainOrders_keyCollision() throws Exception {
+        // given : 같은 키로 다른 상품을 일반 주문한 상태
+        FlashSaleOrderVo collided = order(10, 1, "a");
+        String payload = objectMapper.writeValueAsString(collided);
+        when(setOperations.members(FlashSaleService.ACTIVE_PRODUCTS_KEY)).thenReturn(Set.of("10"));
+        when(listOperations.range("flashsale:{10}:queue", 0, 1))
+                .thenReturn(List.of(payload, objectMapper.writeValueAsString(order(10, 2, "b"))))
+                .thenReturn(List.of());
+        doThrow(new DuplicateKeyException("batch"))
+                .doThrow(new DuplicateKeyException("a"))
+                .doNothing()
+                .when(productOrderRepository).batchInsert(anyList());
+        when(productOrderRepository.findByUserIdAndIdempotencyKey(1, "a")).thenReturn(Optional.of(savedOrder(collided, 20)));
+        givenRejectScriptReturns(1L);
+
+        // when
+        int drained = flashSaleService.drainOrders();
+
+        // then
+        assertEquals(2, drained);
+        verify(redisTemplate).execute(anyScript(),
+                eq(List.of("flashsale:{10}:stock", "flashsale:{10}:keys", "flashsale:{10}:dead-letter")),
+                eq("1"), eq("1:a"), eq(payload), eq(FlashSaleService.REJECTED_ORDER), anyString());
+        verify(productRepository, never()).restoreStock(anyInt(), anyInt(), any());
+        verify(listOperations).trim("flashsale:{10}:queue", 2, -1);
+        assertEquals(1.0, meterRegistry.get("flashsale.drain.dead_letter").tag("reason", "key_collision").counter().count());
+    }
+
+    @Test
+    @DisplayName("주문 저장 - 세일 종료 후 FK 위반으로 저장할 수 없는 주문은 DB 재고를 되돌림")
+    void drainOrders_rejectedAfterClose() throws Exception {
+        // given
+        when(setOperations.members(FlashSaleService.ACTIVE_PRODUCTS_KEY)).thenReturn(Set.of("10"));
+        when(listOperations.range("flashsale:{10}:queue", 0, 1))
+                .thenReturn(List.of(objectMapper.writeValueAsString(order(10, 1, "a"))))
+                .thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("fk")).when(productOrderRepository).batchInsert(anyList());
+        givenRejectScriptReturns(0L);
+        when(productRepository.restoreStock(eq(10), eq(1), any(LocalDateTime.class))).thenReturn(1);
+
+        // when
+        int drained = flashSaleService.drainOrders();
+
+        // then
+        assertEquals(1, drained);
+        verify(productRepository).restoreStock(eq(10), eq(1), any(LocalDateTime.class));
+        verify(productDetailCacheService).evict(10);
+        verify(listOperations).trim("flashsale:{10}:queue", 1, -1);
+        assertEquals(1.0, meterRegistry.get("flashsale.drain.dead_letter").tag("reason", "rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("주문 저장 - 읽을 수 없는 주문은 dead-letter 로 옮기고 나머지는 저장")
+    void drainOrders_unreadable() throws Exception {
+        // given
+        when(setOperations.members(FlashSaleService.ACTIVE_PRODUCTS_KEY)).thenReturn(Set.of("10"));
+        when(listOperations.range("flashsale:{10}:queue", 0, 1))
+                .thenReturn(List.of("not-json", objectMapper.writeValueAsString(order(10, 2, "b"))))
+                .thenReturn(List.of());
+
+        // when
+        int drained = flashSaleService.drainOrders();
+
+        // then
+        assertEquals(2, drained);
+        verify(listOperations).rightPush("flashsale:{10}:dead-letter", "not-json");
+        verify(productOrderRepository, times(1)).batchInsert(argThat(orders -> orders.size() == 1));
+        verify(listOperations).trim("flashsale:{10}:queue", 2, -1);
+        assertEquals(1.0, meterRegistry.get("flashsale.drain.dead_letter").tag("reason", "unreadable").counter().count());
+    }
+
+    @Test
+    @DisplayName("주문 저장 - 다른 인스턴스가 처리 중인 상품은 건너뜀")
+    void drainOrders_locked() {
+        // given
+        when(setOperations.members(FlashSaleService.ACTIVE_PRODUCTS_KEY)).thenReturn(Set.of("10"));
+        when(valueOperations.setIfAbsent(eq("flashsale:{10}:drain-lock"), anyString(), any(Duration.class))).thenReturn(false);
+
+        // when
+        int drained = flashSaleService.drainOrders();
+
+        // then
+        assertEquals(0, drained);
+        verify(listOperations, never()).range(anyString(), anyLong(), anyLong());
+        verify(redisTemplate, never()).execute(anyScript(), eq(List.of("flashsale:{10}:drain-lock")), any());
+    }
+
+    @Test
+    @DisplayName("재고 정산 - 진행 중인 세일의 Redis 재고를 DB 에 반영")
+    void reconcileStock() {
+        // given : 10 은 진행 중, 20 은 종료되어 큐만 남은 상태
+        when(setOperations.members(FlashSaleService.ACTIVE_PRODUCTS_KEY)).thenReturn(Set.of("10", "20"));
+        when(valueOperations.get("flashsale:{10}:stock")).thenReturn("7");
+        when(productRepository.syncFlashSaleStock(eq(10), eq(7), any(LocalDateTime.class))).thenReturn(1);
+
+        // when
+        int synced = flashSaleService.reconcileStock();
+
+        // then
+        assertEquals(1, synced);
+        verify(productRepository, never()).syncFlashSaleStock(eq(20), anyInt(), any());
+        verify(productDetailCacheService).evict(10);
+    }
+
+    @Test
+    @DisplayName("플래시 세일 종료 - Redis 남은 재고를 DB 에 반영하고 일반 주문으로 전환")
+    void closeFlashSale() {
+        // given
+        when(redisTemplate.execute(anyScript(), anyList(), any())).thenReturn(5L);
+
+        // when
+        flashSaleService.closeFlashSale(10);
+
+        // then
+        verify(productRepository).endFlashSale(eq(10), eq(5), any(LocalDateTime.class));
+        verify(productDetailCacheService).evict(10);
+    }
+
+    @Test
+    @DisplayName("플래시 세일 종료 - Redis 카운터가 없으면 DB 재고 유지")
+    void closeFlashSale_alreadyClosed() {
+        // given
+        when(redisTemplate.execute(anyScript(), anyList(), any())).thenReturn(-1L);
+        when(productRepository.findStockById(10)).thenReturn(Optional.of(3));
+
+        // when
+        flashSaleService.closeFlashSale(10);
+
+        // then
+        verify(productRepository).endFlashSale(eq(10), eq(3), any(LocalDateTime.class));
+    }
+
+    private void givenReserveScriptReturns(Long result) {
+        when(redisTemplate.execute(anyScript(), anyList(), any(), any(), any())).thenReturn(result);
+    }
+
+    // RedisScript.class 로 매칭하면 raw 타입이 되므로 반환 타입을 지정한 matcher 사용
+    private static RedisScript<Long> anyScript() {
+        return any();
+    }
+
+    private void givenRejectScriptReturns(Long result) {
+        when(redisTemplate.execute(anyScript(),
+                eq(List.of("flashsale:{10}:stock", "flashsale:{10}:keys", "flashsale:{10}:dead-letter")),
+                any(), any(), any(), any(), any())).thenReturn(result);
+    }
+
+    private void verifyLockReleased() {
+        verify(redisTemplate).execute(anyScript(), eq(List.of("flashsale:{10}:drain-lock")), anyString());
+    }
+
+    private ProductOrder savedOrder(FlashSaleOrderVo order, int productId) {
+        Product product = new Product();
+        product.setId(productId);
+        ProductOrder productOrder = new ProductOrder();
+        productOrder.setProduct(product);
+        productOrder.setQuantity(order.quantity());
+        productOrder.setOrder_date(new Timestamp(order.orderedAt()).toLocalDateTime());
+        productOrder.setIdempotencyKey(order.idempotencyKey());
+        return productOrder;
+    }
+
+    private ProductOrderRequestDto request(int productId, int quantity) {
+        ProductOrderRequestDto requestDto = new ProductOrderRequestDto();
+        requestDto.setProductId(productId);
+        requestDto.setQuantity(quantity);
+        return requestDto;
+    }
+
+    private FlashSaleOrderVo order(int productId, int userId, String idempotencyKey) {
+        return new FlashSaleOrderVo(productId, userId, 1, idempotencyKey, System.currentTimeMillis(), null, null, null, null);
+    }
+}
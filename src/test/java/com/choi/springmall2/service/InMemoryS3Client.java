@@ -0,0 +1,152 @@
+package com.choi.springmall2.service;
+
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 로컬 S3 대체 구현. 객체는 메모리에 key 만 보관하고, 요청마다 지정한 지연 시간을 흉내냄
+ */
+class InMemoryS3Client implements S3Client {
+
+    // 목록 조회 시 key 순서대로 반환하기 위해 정렬된 map 사용
+    private final NavigableMap<String, Boolean> objects = new ConcurrentSkipListMap<>();
+    private final Set<String> undeletableKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger listRequests = new AtomicInteger();
+    private final AtomicInteger deleteObjectsRequests = new AtomicInteger();
+    private final long latencyMillis;
+    private final AtomicInteger concurrentRequests = new AtomicInteger();
+    private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+
+    InMemoryS3Client(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    void putObject(String key) {
+        objects.put(key, Boolean.TRUE);
+    }
+
+    boolean exists(String key) {
+        return objects.containsKey(key);
+    }
+
+    int getMaxConcurrentRequests() {
+        return maxConcurrentRequests.get();
+    }
+
+    int countObjects(String prefix) {
+        return (int) objects.keySet().stream().filter(key -> key.startsWith(prefix)).count();
+    }
+
+    int getListRequests() {
+        return listRequests.get();
+    }
+
+    int getDeleteObjectsRequests() {
+        return deleteObjectsRequests.get();
+    }
+
+    // 삭제 요청 시 AccessDenied 오류를 응답하도록 지정
+    void denyDelete(String key) {
+        undeletableKeys.add(key);
+    }
+
+    @Override
+    public CopyObjectResponse copyObject(CopyObjectRequest copyObjectRequest) {
+        simulateLatency();
+        if (!objects.containsKey(copyObjectRequest.sourceKey())) {
+            throw NoSuchKeyException.builder().message("The specified key does not exist: " + copyObjectRequest.sourceKey()).build();
+        }
+        objects.put(copyObjectRequest.destinationKey(), Boolean.TRUE);
+        return CopyObjectResponse.builder().build();
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest deleteObjectRequest) {
+        simulateLatency();
+        objects.remove(deleteObjectRequest.key());
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public ListObjectsV2Response listObjectsV2(ListObjectsV2Request listObjectsV2Request) {
+        simulateLatency();
+        listRequests.incrementAndGet();
+
+        int maxKeys = listObjectsV2Request.maxKeys() == null ? 1000 : Math.min(listObjectsV2Request.maxKeys(), 1000);
+        String prefix = listObjectsV2Request.prefix() == null ? "" : listObjectsV2Request.prefix();
+        String token = listObjectsV2Request.continuationToken();
+        NavigableMap<String, Boolean> remaining = token == null ? objects : objects.tailMap(token, false);
+
+        List<S3Object> contents = new ArrayList<>();
+        String lastKey = null;
+        boolean truncated = false;
+        for (String key : remaining.keySet()) {
+            if (!key.startsWith(prefix)) {
+                continue;
+            }
+            if (contents.size() == maxKeys) {
+                truncated = true;
+                break;
+            }
+            contents.add(S3Object.builder().key(key).build());
+            lastKey = key;
+        }
+
+        return ListObjectsV2Response.builder()
+                .contents(contents)
+                .keyCount(contents.size())
+                .isTruncated(truncated)
+                .nextContinuationToken(truncated ? lastKey : null)
+                .build();
+    }
+
+    @Override
+    public DeleteObjectsResponse deleteObjects(DeleteObjectsRequest deleteObjectsRequest) {
+        simulateLatency();
+        deleteObjectsRequests.incrementAndGet();
+
+        List<ObjectIdentifier> identifiers = deleteObjectsRequest.delete().objects();
+        if (identifiers.size() > 1000) {
+            throw S3Exception.builder().message("MalformedXML: more than 1000 keys").statusCode(400).build();
+        }
+
+        List<S3Error> errors = new ArrayList<>();
+        for (ObjectIdentifier identifier : identifiers) {
+            if (undeletableKeys.contains(identifier.key())) {
+                errors.add(S3Error.builder().key(identifier.key()).code("AccessDenied").message("Access Denied").build());
+            } else {
+                objects.remove(identifier.key());
+            }
+        }
+        return DeleteObjectsResponse.builder().errors(errors).build();
+    }
+
+    private void simulateLatency() {
+        int current = concurrentRequests.incrementAndGet();
+        maxConcurrentRequests.accumulateAndGet(current, Math::max);
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            concurrentRequests.decrementAndGet();
+        }
+    }
+
+    @Override
+    public String serviceName() {
+        return "s3";
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,87 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.config.JpaConfig;
+import com.choi.springmall2.domain.Role;
+import com.choi.springmall2.domain.entity.User;
+import com.choi.springmall2.error.exceptions.ExpiredPasswordResetTokenException;
+import com.choi.springmall2.repository.PasswordResetTokenRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "password-reset.token-store=jpa")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({JpaConfig.class, JpaPasswordResetTokenStore.class})
+class JpaPasswordResetTokenStoreTest {
+
+    @Autowired
+    private JpaPasswordResetTokenStore tokenStore;
+
+    @Autowired
+    private PasswordResetTokenRepository passwordResetTokenRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setEmail("store@test.com");
+        user.setRole(Role.ROLE_BUYER);
+        entityManager.persist(user);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("토큰 저장 - 사용자의 이전 토큰은 무효화")
+    void save_replacesPreviousToken() {
+        // when
+        tokenStore.save(user, "hash-1", Duration.ofHours(1));
+        tokenStore.save(user, "hash-2", Duration.ofHours(1));
+
+        // then
+        assertFalse(tokenStore.isValid("hash-1"));
+        assertTrue(tokenStore.isValid("hash-2"));
+    }
+
+    @Test
+    @DisplayName("토큰 소비 - 사용자 id 를 반환하고 토큰 삭제")
+    void consume() {
+        // given
+        tokenStore.save(user, "hash-1", Duration.ofHours(1));
+
+        // when
+        Optional<Integer> first = tokenStore.consume("hash-1");
+        Optional<Integer> second = tokenStore.consume("hash-1");
+
+        // then
+        assertEquals(Optional.of(user.getId()), first);
+        assertTrue(second.isEmpty());
+        assertTrue(passwordResetTokenRepository.findByTokenHash("hash-1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("토큰 소비 - 만료된 토큰")
+    void consume_expired() {
+        // given
+        tokenStore.save(user, "hash-1", Duration.ofHours(-1));
+
+        // when & then
+        assertFalse(tokenStore.isValid("hash-1"));
+        assertThrows(ExpiredPasswordResetTokenException.class, () -> tokenStore.consume("hash-1"));
+    }
+}
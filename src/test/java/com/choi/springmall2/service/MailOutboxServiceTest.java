@@ -0,0 +1,219 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.config.JpaConfig;
+import com.choi.springmall2.domain.MailStatus;
+import com.choi.springmall2.domain.entity.MailOutbox;
+import com.choi.springmall2.repository.MailOutboxRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * GreenMail (로컬 SMTP 서버) 로 실제 SMTP 발송까지 확인.
+ * outbox 저장은 별도 트랜잭션으로 커밋되므로 테스트 트랜잭션을 사용하지 않고 직접 정리함
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JpaConfig.class, MailOutboxService.class, MailOutboxServiceTest.MailTestConfig.class})
+@TestPropertySource(properties = {
+        "mail.outbox.max-attempts=2",
+        "mail.outbox.retry.initial-delay-seconds=0" // 실패한 메일을 바로 다시 발송 대상으로
+})
+class MailOutboxServiceTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private MailOutboxService mailOutboxService;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private JavaMailSenderImpl javaMailSender;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        mailOutboxRepository.deleteAll();
+        reset(javaMailSender);
+    }
+
+    @Test
+    @DisplayName("저장한 메일은 커밋 후 발송되고 SENT 로 변경")
+    void enqueue_sentAfterCommit() throws Exception {
+        // when
+        mailOutboxService.enqueue("user@example.com", "제목", "본문");
+
+        // then
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(1, received.length);
+        assertEquals("제목", received[0].getSubject());
+
+        MailOutbox mail = mailOutboxRepository.findAll().get(0);
+        assertEquals(MailStatus.SENT, mail.getStatus());
+        assertEquals(1, mail.getAttempts());
+        assertNotNull(mail.getSentAt());
+        assertNull(mail.getClaimToken());
+        assertNull(mail.getBody()); // 발송 후 본문은 지움
+    }
+
+    @Test
+    @DisplayName("발송 대기 중인 메일은 SMTP 연결 하나로 한 번에 발송 (재시작 후 남은 메일 처리)")
+    void dispatchPending_batchOnSingleConnection() {
+        // given : 발송되지 못하고 남은 메일
+        mailOutboxRepository.saveAll(List.of(pending("a@example.com"), pending("b@example.com"), pending("c@example.com")));
+
+        // when
+        int sent = mailOutboxService.dispatchPending();
+
+        // then
+        assertEquals(3, sent);
+        assertEquals(3, greenMail.getReceivedMessages().length);
+        verify(javaMailSender, times(1)).send(any(SimpleMailMessage[].class));
+        assertTrue(mailOutboxRepository.findAll().stream().allMatch(mail -> mail.getStatus() == MailStatus.SENT));
+    }
+
+    @Test
+    @DisplayName("SMTP 장애 시 메일은 유지되고 재시도, 최대 시도 횟수를 넘으면 FAILED")
+    void dispatchPending_retryThenFail() {
+        // given
+        greenMail.stop();
+
+        // when : 첫 시도 실패
+        mailOutboxService.enqueue("user@example.com", "제목", "본문");
+
+        // then
+        MailOutbox mail = mailOutboxRepository.findAll().get(0);
+        assertEquals(MailStatus.PENDING, mail.getStatus());
+        assertEquals(1, mail.getAttempts());
+        assertNotNull(mail.getLastError());
+        assertNull(mail.getClaimToken());
+        assertEquals("본문", mail.getBody()); // 재시도해야 하므로 본문 유지
+
+        // when : 두번째 시도도 실패
+        assertEquals(0, mailOutboxService.dispatchPending());
+
+        // then
+        mail = mailOutboxRepository.findAll().get(0);
+        assertEquals(MailStatus.FAILED, mail.getStatus());
+        assertEquals(2, mail.getAttempts());
+        assertEquals(1.0, meterRegistry.get("mail.outbox.failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("발송 중 선점이 만료되어 다른 실행이 다시 선점한 메일은 상태를 바꾸지 않음")
+    void dispatchPending_claimTakenOver() {
+        // given : SMTP 발송 중 lease 가 지나 다른 실행이 같은 메일을 선점한 상황
+        MailOutbox mail = mailOutboxRepository.save(pending("user@example.com"));
+        doAnswer(invocation -> {
+            jdbcTemplate.update("UPDATE mail_outbox SET claim_token = 'other' WHERE id = ?", mail.getId());
+            return invocation.callRealMethod();
+        }).when(javaMailSender).send(any(SimpleMailMessage[].class));
+
+        // when
+        mailOutboxService.dispatchPending();
+
+        // then
+        MailOutbox reloaded = mailOutboxRepository.findById(mail.getId()).orElseThrow();
+        assertEquals(MailStatus.PENDING, reloaded.getStatus());
+        assertEquals("other", reloaded.getClaimToken());
+        assertNull(reloaded.getSentAt());
+    }
+
+    @Test
+    @DisplayName("선점 유지 시간은 batch 전체가 SMTP timeout 에 걸리는 시간보다 짧지 않음")
+    void claimLease() {
+        // batch 50건 x (읽기 10초 + 쓰기 10초) + 연결 5초
+        MailOutboxService service = new MailOutboxService(mailOutboxRepository, javaMailSender, new SyncTaskExecutor(),
+                null, new SimpleMeterRegistry(), 50, 10, 5, 30, 300, 300, 5000, 10000, 10000);
+        assertEquals(1005, service.claimLease().toSeconds());
+
+        // 설정값이 더 길면 설정값 사용
+        MailOutboxService small = new MailOutboxService(mailOutboxRepository, javaMailSender, new SyncTaskExecutor(),
+                null, new SimpleMeterRegistry(), 5, 10, 5, 30, 300, 300, 5000, 10000, 10000);
+        assertEquals(300, small.claimLease().toSeconds());
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 지수적으로 늘어나고 최대값을 넘지 않음")
+    void retryDelay() {
+        MailOutboxService service = new MailOutboxService(mailOutboxRepository, javaMailSender, new SyncTaskExecutor(),
+                null, new SimpleMeterRegistry(), 50, 10, 5, 30, 300, 300, 5000, 10000, 10000);
+
+        assertEquals(30, service.retryDelay(1).toSeconds());
+        assertEquals(60, service.retryDelay(2).toSeconds());
+        assertEquals(120, service.retryDelay(3).toSeconds());
+        assertEquals(300, service.retryDelay(5).toSeconds());
+    }
+
+    private MailOutbox pending(String recipient) {
+        MailOutbox mail = new MailOutbox();
+        mail.setRecipient(recipient);
+        mail.setSubject("제목");
+        mail.setBody("본문");
+        mail.setStatus(MailStatus.PENDING);
+        mail.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        return mail;
+    }
+
+    @TestConfiguration
+    static class MailTestConfig {
+
+        @Bean
+        JavaMailSenderImpl javaMailSender() {
+            JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+            mailSender.setHost("localhost");
+            mailSender.setPort(ServerSetupTest.SMTP.getPort());
+            mailSender.setDefaultEncoding("UTF-8");
+            return spy(mailSender);
+        }
+
+        // 커밋 직후 발송까지 확인할 수 있도록 호출 스레드에서 실행
+        @Bean
+        TaskExecutor mailExecutor() {
+            return new SyncTaskExecutor();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -7,12 +7,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.verify;
 import static org.mockito.Mockito.times;
 
@@ -20,13 +19,13 @@ import static org.mockito.Mockito.times;
 class MailServiceTest {
 
     @Mock
-    private JavaMailSender javaMailSender;
+    private MailOutboxService mailOutboxService;
 
     @InjectMocks
     private MailService mailService;
 
     @Test
-    @DisplayName("이메일 전송 테스트")
+    @DisplayName("이메일 전송 테스트 - outbox 에 저장")
     void sendPasswordResetToken() {
         // given
         String toEmail = "test@example.com";
@@ -36,16 +35,13 @@ class MailServiceTest {
         // Value 설정 대신 임의 값 주입
         ReflectionTestUtils.setField(mailService, "domainUrl", domainUrl);
 
-        ArgumentCaptor<SimpleMailMessage> messageCaptor = ArgumentCaptor.forClass(SimpleMailMessage.class);
+        ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
 
         // when
         mailService.sendPasswordResetToken(toEmail, token);
 
         // then
-        verify(javaMailSender, times(1)).send(messageCaptor.capture());
-        SimpleMailMessage sentMessage = messageCaptor.getValue();
-        assertEquals(toEmail, sentMessage.getTo()[0]);
-        assertTrue(sentMessage.getText().contains(domainUrl + "/reset-password?token=" + token));
-        assertEquals("Springmall2 비밀번호 재설정", sentMessage.getSubject());
+        verify(mailOutboxService, times(1)).enqueue(eq(toEmail), eq("Springmall2 비밀번호 재설정"), bodyCaptor.capture());
+        assertTrue(bodyCaptor.getValue().contains(domainUrl + "/reset-password?token=" + token));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,257 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.config.JpaConfig;
+import com.choi.springmall2.domain.OutboxStatus;
+import com.choi.springmall2.domain.entity.EventOutbox;
+import com.choi.springmall2.event.OutboxEventHandler;
+import com.choi.springmall2.repository.EventOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * outbox 이벤트 저장/처리 테스트. 이벤트 저장이 호출한 트랜잭션과 함께 커밋/롤백되는지 확인해야 하므로
+ * 테스트 트랜잭션을 사용하지 않고 직접 정리함
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JpaConfig.class, OutboxEventService.class, OutboxEventServiceTest.OutboxTestConfig.class})
+@TestPropertySource(properties = {
+        "outbox.dispatch.max-attempts=2",
+        "outbox.dispatch.retry.initial-delay-seconds=0" // 실패한 이벤트를 바로 다시 처리 대상으로
+})
+class OutboxEventServiceTest {
+
+    @Autowired
+    private OutboxEventService outboxEventService;
+
+    @Autowired
+    private EventOutboxRepository eventOutboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RecordingHandler recordingHandler;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        eventOutboxRepository.deleteAll();
+        recordingHandler.received.clear();
+        recordingHandler.failuresRemaining.set(0);
+        recordingHandler.beforeHandle = () -> { };
+    }
+
+    @Test
+    @DisplayName("커밋된 이벤트는 handler 에 전달되고 PROCESSED 로 변경")
+    void publishAndDispatch() {
+        // given
+        double processedBefore = meterRegistry.counter("outbox.dispatch.processed", "type", "TestEvent").count(); // 테스트 간 registry 공유
+        long lagCountBefore = meterRegistry.get("outbox.dispatch.lag").timer().count();
+        transactionTemplate.executeWithoutResult(status -> outboxEventService.publish(new TestEvent(1, "hello")));
+
+        // when
+        int processed = outboxEventService.dispatchPending();
+
+        // then
+        assertEquals(1, processed);
+        assertEquals(List.of(new TestEvent(1, "hello")), recordingHandler.received);
+        EventOutbox outbox = eventOutboxRepository.findAll().get(0);
+        assertEquals(OutboxStatus.PROCESSED, outbox.getStatus());
+        assertNotNull(outbox.getProcessedAt());
+        assertNull(outbox.getPayload()); // 처리 후 payload 는 지움
+        assertEquals(processedBefore + 1, meterRegistry.get("outbox.dispatch.processed").tag("type", "TestEvent").counter().count());
+        assertEquals(lagCountBefore + 1, meterRegistry.get("outbox.dispatch.lag").timer().count());
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 이벤트는 저장되지 않음")
+    void publish_rollback() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxEventService.publish(new TestEvent(1, "hello"));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertEquals(0, eventOutboxRepository.count());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 이벤트를 발행하면 예외")
+    void publish_withoutTransaction() {
+        assertThrows(IllegalTransactionStateException.class, () -> outboxEventService.publish(new TestEvent(1, "hello")));
+    }
+
+    @Test
+    @DisplayName("여러 이벤트는 저장 순서대로 batch 로 처리")
+    void dispatch_inOrder() {
+        // given
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < 5; i++) {
+                outboxEventService.publish(new TestEvent(i, "event"));
+            }
+        });
+
+        // when
+        int processed = outboxEventService.dispatchPending();
+
+        // then
+        assertEquals(5, processed);
+        assertEquals(List.of(0, 1, 2, 3, 4), recordingHandler.received.stream().map(TestEvent::id).toList());
+    }
+
+    @Test
+    @DisplayName("handler 실패 시 재시도하고, 최대 시도 횟수를 넘으면 FAILED")
+    void dispatch_retryThenFail() {
+        // given
+        recordingHandler.failuresRemaining.set(2);
+        double failedBefore = meterRegistry.get("outbox.dispatch.failed").counter().count(); // 테스트 간 registry 공유
+        transactionTemplate.executeWithoutResult(status -> outboxEventService.publish(new TestEvent(1, "hello")));
+
+        // when : 첫 시도 실패
+        assertEquals(0, outboxEventService.dispatchPending());
+
+        // then
+        EventOutbox outbox = eventOutboxRepository.findAll().get(0);
+        assertEquals(OutboxStatus.PENDING, outbox.getStatus());
+        assertEquals(1, outbox.getAttempts());
+        assertNotNull(outbox.getLastError());
+
+        // when : 두번째 시도도 실패
+        assertEquals(0, outboxEventService.dispatchPending());
+
+        // then
+        assertEquals(OutboxStatus.FAILED, eventOutboxRepository.findAll().get(0).getStatus());
+        assertEquals(failedBefore + 1, meterRegistry.get("outbox.dispatch.failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("handler 가 없는 이벤트는 재시도하지 않고 FAILED")
+    void dispatch_unknownType() {
+        // given
+        EventOutbox outbox = new EventOutbox();
+        outbox.setEventType("UnknownEvent");
+        outbox.setPayload("{}");
+        outbox.setStatus(OutboxStatus.PENDING);
+        outbox.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        eventOutboxRepository.save(outbox);
+
+        // when
+        outboxEventService.dispatchPending();
+
+        // then
+        EventOutbox result = eventOutboxRepository.findAll().get(0);
+        assertEquals(OutboxStatus.FAILED, result.getStatus());
+        assertEquals(1, result.getAttempts());
+    }
+
+    @Test
+    @DisplayName("처리 중 선점이 만료되어 다른 실행이 다시 선점한 이벤트는 상태를 바꾸지 않음")
+    void dispatch_claimTakenOver() {
+        // given : handler 실행 중 lease 가 지나 다른 실행이 같은 이벤트를 선점한 상황
+        transactionTemplate.executeWithoutResult(status -> outboxEventService.publish(new TestEvent(1, "hello")));
+        recordingHandler.beforeHandle = () -> jdbcTemplate.update("UPDATE event_outbox SET claim_token = 'other'");
+
+        // when
+        outboxEventService.dispatchPending();
+
+        // then
+        EventOutbox outbox = eventOutboxRepository.findAll().get(0);
+        assertEquals(OutboxStatus.PENDING, outbox.getStatus());
+        assertEquals("other", outbox.getClaimToken());
+        assertNotNull(outbox.getPayload());
+    }
+
+    @Test
+    @DisplayName("다른 실행이 이미 처리 완료한 이벤트는 실패해도 재시도로 되돌리지 않음")
+    void dispatch_failedAfterTakenOver() {
+        // given : handler 실행 중 다른 실행이 같은 이벤트를 다시 선점하여 처리 완료한 상황
+        recordingHandler.failuresRemaining.set(1);
+        transactionTemplate.executeWithoutResult(status -> outboxEventService.publish(new TestEvent(1, "hello")));
+        recordingHandler.beforeHandle = () -> jdbcTemplate.update(
+                "UPDATE event_outbox SET status = 'PROCESSED', claim_token = NULL, processed_at = CURRENT_TIMESTAMP, attempts = 1");
+
+        // when
+        outboxEventService.dispatchPending();
+
+        // then
+        EventOutbox outbox = eventOutboxRepository.findAll().get(0);
+        assertEquals(OutboxStatus.PROCESSED, outbox.getStatus());
+        assertEquals(1, outbox.getAttempts());
+        assertNull(outbox.getLastError());
+    }
+
+    record TestEvent(int id, String message) {
+    }
+
+    static class RecordingHandler implements OutboxEventHandler<TestEvent> {
+        final List<TestEvent> received = new CopyOnWriteArrayList<>();
+        final AtomicInteger failuresRemaining = new AtomicInteger();
+        volatile Runnable beforeHandle = () -> { };
+
+        @Override
+        public Class<TestEvent> eventType() {
+            return TestEvent.class;
+        }
+
+        @Override
+        public void handle(TestEvent event) {
+            beforeHandle.run();
+            if (failuresRemaining.getAndDecrement() > 0) {
+                throw new IllegalStateException("handler failure");
+            }
+            received.add(event);
+        }
+    }
+
+    @TestConfiguration
+    static class OutboxTestConfig {
+
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -1,13 +1,12 @@
 package com.choi.springmall2.service;
 
-import com.choi.springmall2.domain.entity.PasswordResetToken;
 import com.choi.springmall2.domain.entity.User;
 import com.choi.springmall2.error.exceptions.ExpiredPasswordResetTokenException;
 import com.choi.springmall2.error.exceptions.InvalidPasswordResetTokenException;
 import com.choi.springmall2.error.exceptions.UserNotFoundException;
 import com.choi.springmall2.event.PasswordResetMailEvent;
-import com.choi.springmall2.repository.PasswordResetTokenRepository;
 import com.choi.springmall2.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,33 +14,57 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 class PasswordResetServiceTest {
 
     @Mock
     private UserRepository userRepository;
     @Mock
-    private PasswordResetTokenRepository passwordResetTokenRepository;
+    private PasswordResetTokenStore passwordResetTokenStore;
     @Mock
-    private ApplicationEventPublisher applicationEventPublisher;
+    private OutboxEventService outboxEventService;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private UserCacheService userCacheService;
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
 
     @InjectMocks
     private PasswordResetService passwordResetService;
 
+    @BeforeEach
+    void setUp() {
+        // 트랜잭션 없이 콜백을 그대로 실행
+        willAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
 
     @Test
     @DisplayName("비밀번호 초기화 - 사용자 없음")
@@ -54,8 +77,8 @@ class PasswordResetServiceTest {
         assertThrows(UserNotFoundException.class, () -> {
             passwordResetService.sendMailToRequestPasswordReset(email);
         });
-        verify(passwordResetTokenRepository, never()).save(any());
-        verify(applicationEventPublisher, never()).publishEvent(any());
+        verify(passwordResetTokenStore, never()).save(any(), any(), any());
+        verify(outboxEventService, never()).publish(any());
     }
 
     @Test
@@ -68,100 +91,91 @@ class PasswordResetServiceTest {
         user.setEmail(email);
 
         given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
-        given(passwordResetTokenRepository.existsByToken(anyString())).willReturn(false); // 토큰 중복 없음
 
         // when
         passwordResetService.sendMailToRequestPasswordReset(email);
 
         // then
-        ArgumentCaptor<PasswordResetToken> tokenCaptor = ArgumentCaptor.forClass(PasswordResetToken.class);
-        verify(passwordResetTokenRepository).save(tokenCaptor.capture());
-
-        PasswordResetToken savedToken = tokenCaptor.getValue();
-        assertEquals(user, savedToken.getUser());
-        assertNotNull(savedToken.getToken());
-        assertTrue(savedToken.getExpiryDate().isAfter(LocalDateTime.now()));
-
-        verify(applicationEventPublisher).publishEvent(any(PasswordResetMailEvent.class));
+        ArgumentCaptor<String> hashCaptor = ArgumentCaptor.forClass(String.class);
+        verify(passwordResetTokenStore).save(eq(user), hashCaptor.capture(), eq(Duration.ofHours(1)));
+        ArgumentCaptor<PasswordResetMailEvent> eventCaptor = ArgumentCaptor.forClass(PasswordResetMailEvent.class);
+        verify(outboxEventService).publish(eventCaptor.capture());
+
+        // 저장소에는 메일로 보낸 토큰의 해시만 저장
+        assertEquals(PasswordResetService.hashToken(eventCaptor.getValue().token()), hashCaptor.getValue());
+        assertNotEquals(eventCaptor.getValue().token(), hashCaptor.getValue());
     }
 
     @Test
-    @DisplayName("비밀번호 초기화 unique 토큰 생성 - 중복될 경우")
-    void generateUniqueToken_tokenExist() {
+    @DisplayName("비밀번호 초기화 - 제약 조건 위반 시에만 새 토큰으로 재시도")
+    void resetPassword_retryOnConstraintViolation() {
         // given
-        given(passwordResetTokenRepository.existsByToken(anyString()))
-                .willReturn(true)   // 첫 번째 UUID 충돌
-                .willReturn(false); // 두 번째 UUID 고유값
+        User user = new User();
+        user.setEmail("user@example.com");
+        given(userRepository.findByEmail("user@example.com")).willReturn(Optional.of(user));
+        willThrow(new DuplicateKeyException("password-reset:token"))
+                .willDoNothing()
+                .given(passwordResetTokenStore).save(any(), anyString(), any());
 
         // when
-        String token = passwordResetService.generateUniqueToken();
+        passwordResetService.sendMailToRequestPasswordReset("user@example.com");
 
         // then
-        assertNotNull(token);
-        verify(passwordResetTokenRepository, times(2)).existsByToken(anyString());
+        ArgumentCaptor<String> hashCaptor = ArgumentCaptor.forClass(String.class);
+        verify(passwordResetTokenStore, times(2)).save(any(), hashCaptor.capture(), any());
+        assertNotEquals(hashCaptor.getAllValues().get(0), hashCaptor.getAllValues().get(1));
+        verify(outboxEventService, times(1)).publish(any()); // 저장에 성공한 토큰만 메일 발송
     }
 
     @Test
-    @DisplayName("비밀번호 초기화 unique 토큰 생성 - 성공")
-    void generateUniqueToken_pass() {
+    @DisplayName("비밀번호 초기화 - 제약 조건 위반이 계속되면 예외")
+    void resetPassword_retryExhausted() {
         // given
-        given(passwordResetTokenRepository.existsByToken(anyString())).willReturn(false);
-
-        // when
-        String token = passwordResetService.generateUniqueToken();
+        User user = new User();
+        given(userRepository.findByEmail("user@example.com")).willReturn(Optional.of(user));
+        willThrow(new DataIntegrityViolationException("duplicate"))
+                .given(passwordResetTokenStore).save(any(), anyString(), any());
 
-        // then
-        assertNotNull(token);
+        // when & then
+        assertThrows(DataIntegrityViolationException.class,
+                () -> passwordResetService.sendMailToRequestPasswordReset("user@example.com"));
+        verify(passwordResetTokenStore, times(3)).save(any(), anyString(), any());
     }
 
     @Test
-    @DisplayName("비밀번호 초기화 unique 토큰 생성 - 존재하지 않는 토큰")
-    void isValidToken_tokenNotExists() {
-        // given
-        String token = "test-token";
-        given(passwordResetTokenRepository.findByToken(token)).willReturn(Optional.empty());
-
+    @DisplayName("비밀번호 초기화 토큰 생성 - 저장소 조회 없이 URL 에 사용할 수 있는 256 bit 토큰 생성")
+    void generateToken() {
         // when
-        boolean result = passwordResetService.isValidToken(token);
+        Set<String> tokens = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            tokens.add(passwordResetService.generateToken());
+        }
 
         // then
-        assertFalse(result);
+        assertEquals(1000, tokens.size());
+        String token = tokens.iterator().next();
+        assertEquals(43, token.length()); // 32 byte Base64, padding 없음
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+        verifyNoInteractions(passwordResetTokenStore);
     }
 
     @Test
-    @DisplayName("비밀번호 초기화 unique 토큰 생성 - 만료된 토큰")
-    void isValidToken_expiredToken() {
-        // given
-        String token = "test-token";
-        PasswordResetToken resetToken = new PasswordResetToken();
-        resetToken.setToken(token);
-        resetToken.setExpiryDate(LocalDateTime.now().minusHours(1));
-
-        given(passwordResetTokenRepository.findByToken(token)).willReturn(Optional.of(resetToken));
-
-        // when
-        boolean result = passwordResetService.isValidToken(token);
-
-        // then
-        assertFalse(result);
+    @DisplayName("비밀번호 초기화 토큰 해시 - SHA-256 hex")
+    void hashToken() {
+        assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", PasswordResetService.hashToken(""));
+        assertEquals(64, PasswordResetService.hashToken("test-token").length());
     }
 
     @Test
-    @DisplayName("비밀번호 초기화 unique 토큰 생성 - 성공")
-    void isValidToken_pass() {
+    @DisplayName("비밀번호 초기화 토큰 유효성 - 토큰 해시로 저장소 조회")
+    void isValidToken() {
         // given
-        String token = "test-token";
-        PasswordResetToken resetToken = new PasswordResetToken();
-        resetToken.setToken(token);
-        resetToken.setExpiryDate(LocalDateTime.now().plusHours(1));
+        given(passwordResetTokenStore.isValid(PasswordResetService.hashToken("valid-token"))).willReturn(true);
 
-        given(passwordResetTokenRepository.findByToken(token)).willReturn(Optional.of(resetToken));
-
-        // when
-        boolean result = passwordResetService.isValidToken(token);
-
-        // then
-        assertTrue(result);
+        // when & then
+        assertTrue(passwordResetService.isValidToken("valid-token"));
+        assertFalse(passwordResetService.isValidToken("other-token"));
+        assertFalse(passwordResetService.isValidToken(null));
     }
 
     @Test
@@ -171,15 +185,16 @@ class PasswordResetServiceTest {
         String token = "test-token";
         String password = "new-password";
 
-        given(passwordResetTokenRepository.findByToken(token))
-                .willReturn(Optional.empty());
+        given(passwordResetTokenStore.consume(PasswordResetService.hashToken(token))).willReturn(Optional.empty());
 
         // when & then
         assertThrows(InvalidPasswordResetTokenException.class, () -> {
             passwordResetService.updatePasswordWithToken(token, password);
         });
+        assertThrows(InvalidPasswordResetTokenException.class, () -> {
+            passwordResetService.updatePasswordWithToken(null, password);
+        });
         verify(userRepository, never()).save(any());
-        verify(passwordResetTokenRepository, never()).delete(any());
     }
 
     @Test
@@ -187,19 +202,16 @@ class PasswordResetServiceTest {
     void updatePasswordWithToken_expiredToken() {
         // given
         String token = "test-token";
-        PasswordResetToken resetToken = new PasswordResetToken();
-        resetToken.setToken(token);
-        resetToken.setExpiryDate(LocalDateTime.now().minusHours(1));
         String password = "new-password";
 
-        given(passwordResetTokenRepository.findByToken(token)).willReturn(Optional.of(resetToken));
+        given(passwordResetTokenStore.consume(PasswordResetService.hashToken(token)))
+                .willThrow(new ExpiredPasswordResetTokenException("토큰이 만료되었습니다."));
 
         // when & then
         assertThrows(ExpiredPasswordResetTokenException.class, () -> {
             passwordResetService.updatePasswordWithToken(token, password);
         });
         verify(userRepository, never()).save(any());
-        verify(passwordResetTokenRepository, never()).delete(any());
     }
 
     @Test
@@ -207,18 +219,15 @@ class PasswordResetServiceTest {
     void updatePasswordWithToken_pass() {
         // given
         User user = new User();
+        user.setId(1);
         user.setPassword("old-password");
 
         String token = "test-token";
-        PasswordResetToken resetToken = new PasswordResetToken();
-        resetToken.setToken(token);
-        resetToken.setExpiryDate(LocalDateTime.now().plusHours(1));
-        resetToken.setUser(user);
-
         String password = "new-password";
         String encodedPassword = "encoded-new-password";
 
-        given(passwordResetTokenRepository.findByToken(token)).willReturn(Optional.of(resetToken));
+        given(passwordResetTokenStore.consume(PasswordResetService.hashToken(token))).willReturn(Optional.of(1));
+        given(userRepository.findById(Integer.valueOf(1))).willReturn(Optional.of(user)); // 영속성 컨텍스트를 먼저 확인하는 JpaRepository.findById
         given(passwordEncoder.encode(password)).willReturn(encodedPassword);
 
         // when
@@ -226,8 +235,9 @@ class PasswordResetServiceTest {
 
         // then
         assertEquals(encodedPassword, user.getPassword());
+        verify(passwordResetTokenStore, never()).isValid(any()); // 토큰 조회는 consume 한 번
         verify(userRepository).save(user);
-        verify(passwordResetTokenRepository).delete(resetToken);
+        verify(userCacheService).evict(1); // 이전 비밀번호가 캐시에 남지 않도록 무효화
     }
 
-}
\ No newline at end of file
+}
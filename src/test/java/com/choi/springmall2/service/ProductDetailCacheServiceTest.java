@@ -0,0 +1,158 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.domain.dto.ProductDto;
+import com.choi.springmall2.domain.vo.FileVo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProductDetailCacheServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MeterRegistry meterRegistry;
+    private ProductDetailCacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cacheService = new ProductDetailCacheService(redisTemplate, objectMapper, meterRegistry, 2, 30, 600);
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 loader 호출 후 로컬/Redis 에 저장, 이후 로컬 캐시 적중")
+    void get_missThenLocalHit() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        ProductDto first = cacheService.get(1, id -> { loadCount.incrementAndGet(); return productDto(id); });
+        ProductDto second = cacheService.get(1, id -> { loadCount.incrementAndGet(); return productDto(id); });
+
+        // then
+        assertEquals(1, loadCount.get());
+        assertNotSame(first, second); // 호출한 쪽마다 복사본을 받음
+        assertEquals(first.getTitle(), second.getTitle());
+        verify(valueOperations, times(1)).set(eq("product:detail:1"), anyString(), any());
+        assertEquals(1.0, meterRegistry.get("cache.product.detail.miss").counter().count());
+        assertEquals(1.0, meterRegistry.get("cache.product.detail.hit").tag("tier", "local").counter().count());
+    }
+
+    @Test
+    @DisplayName("반환받은 상품 정보를 수정해도 로컬 캐시 값은 바뀌지 않음")
+    void get_returnsCopy() {
+        // given
+        ProductDto first = cacheService.get(1, this::productDto);
+
+        // when
+        first.setTitle("changed");
+        first.setStock(0);
+
+        // then
+        ProductDto second = cacheService.get(1, id -> fail("DB 조회가 일어나면 안 됨"));
+        assertEquals(productDto(1).getTitle(), second.getTitle());
+        assertEquals(productDto(1).getStock(), second.getStock());
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 없고 Redis 에 있으면 Redis 값을 사용")
+    void get_redisHit() throws Exception {
+        // given
+        when(valueOperations.get("product:detail:1")).thenReturn(objectMapper.writeValueAsString(productDto(1)));
+
+        // when
+        ProductDto result = cacheService.get(1, id -> fail("DB 조회가 일어나면 안 됨"));
+
+        // then
+        assertEquals(1, result.getId());
+        assertEquals("thumb.jpg", result.getThumbnailImage().fileName());
+        assertEquals(1, result.getContentImages().size());
+        assertEquals(1.0, meterRegistry.get("cache.product.detail.hit").tag("tier", "redis").counter().count());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 DB 조회로 응답")
+    void get_redisFailure() {
+        // given
+        when(valueOperations.get(anyString())).thenThrow(new RuntimeException("Redis 오류"));
+        doThrow(new RuntimeException("Redis 오류")).when(valueOperations).set(anyString(), anyString(), any());
+
+        // when
+        ProductDto result = cacheService.get(1, this::productDto);
+
+        // then
+        assertEquals(1, result.getId());
+    }
+
+    @Test
+    @DisplayName("로컬 캐시 최대 개수 초과 시 가장 오래 사용하지 않은 항목 제거")
+    void get_lruEviction() {
+        // given
+        cacheService.get(1, this::productDto);
+        cacheService.get(2, this::productDto);
+        cacheService.get(1, this::productDto); // 1 을 최근 사용으로 갱신
+
+        // when
+        cacheService.get(3, this::productDto); // 2 가 제거되어야 함
+
+        // then
+        AtomicInteger loadCount = new AtomicInteger();
+        cacheService.get(1, id -> { loadCount.incrementAndGet(); return productDto(id); });
+        cacheService.get(2, id -> { loadCount.incrementAndGet(); return productDto(id); });
+        assertEquals(1, loadCount.get()); // 2 만 다시 조회됨
+        assertTrue(meterRegistry.get("cache.product.detail.eviction").counter().count() >= 1.0);
+    }
+
+    @Test
+    @DisplayName("캐시 무효화 시 로컬/Redis 모두 삭제")
+    void evict() {
+        // given
+        cacheService.get(1, this::productDto);
+
+        // when
+        cacheService.evict(1);
+
+        // then
+        AtomicInteger loadCount = new AtomicInteger();
+        cacheService.get(1, id -> { loadCount.incrementAndGet(); return productDto(id); });
+        assertEquals(1, loadCount.get());
+        verify(redisTemplate, times(1)).delete("product:detail:1");
+    }
+
+    private ProductDto productDto(int id) {
+        ProductDto productDto = new ProductDto();
+        productDto.setId(id);
+        productDto.setTitle("상품" + id);
+        productDto.setPrice(1000.0);
+        productDto.setStock(10);
+        productDto.setThumbnailImage(new FileVo("thumb.jpg", "thumbKey"));
+        productDto.setContentImages(List.of(new FileVo("content.jpg", "contentKey")));
+        return productDto;
+    }
+}
@@ -1,5 +1,6 @@
 package com.choi.springmall2.service;
 
+import com.choi.springmall2.domain.ImageType;
 import com.choi.springmall2.domain.dto.ProductDto;
 import com.choi.springmall2.domain.entity.Product;
 import com.choi.springmall2.domain.entity.ProductImage;
@@ -44,17 +45,20 @@ class ProductImageServiceTest {
         ));
         Product product = new Product();  // 상품 객체 생성
 
-        when(productImageRepository.save(any(ProductImage.class))).thenReturn(new ProductImage());
-
         // when
         List<ProductImage> savedImages = productImageService.saveProductImages(productDto, product);
 
         // then
         assertNotNull(savedImages);
         assertEquals(3, savedImages.size());  // 썸네일 + 내용 이미지 2개
+        assertEquals(ImageType.THUMBNAIL, savedImages.get(0).getType());
+        assertEquals(0, savedImages.get(0).getSeq());
+        assertEquals(ImageType.CONTENT, savedImages.get(2).getType());
+        assertEquals(2, savedImages.get(2).getSeq());
 
         // verify
-        verify(productImageRepository, times(3)).save(any(ProductImage.class));  // 3번 save() 호출 확인
+        verify(productImageRepository, times(1)).batchInsert(savedImages);  // 한 번에 batch 저장 확인
+        verify(productImageRepository, never()).save(any(ProductImage.class));
     }
 
     @Test
@@ -66,7 +70,7 @@ class ProductImageServiceTest {
         image.setImageName("name.jpg");
         int productId = 1;
 
-        when(productImageRepository.findByProductIdAndTypeOrderBySeqAsc(productId, "thumbnail")).thenReturn(List.of(image));
+        when(productImageRepository.findByProductIdAndTypeOrderBySeqAsc(productId, ImageType.THUMBNAIL)).thenReturn(List.of(image));
 
         // when
         FileVo result = productImageService.getThumbnailImage(productId);
@@ -83,7 +87,7 @@ class ProductImageServiceTest {
         // given
         int productId = 99;
 
-        when(productImageRepository.findByProductIdAndTypeOrderBySeqAsc(productId, "thumbnail")).thenReturn(List.of());
+        when(productImageRepository.findByProductIdAndTypeOrderBySeqAsc(productId, ImageType.THUMBNAIL)).thenReturn(List.of());
 
         // when
         FileVo result = productImageService.getThumbnailImage(productId);
@@ -106,7 +110,7 @@ class ProductImageServiceTest {
 
         int productId = 1;
 
-        when(productImageRepository.findByProductIdAndTypeOrderBySeqAsc(productId, "content"))
+        when(productImageRepository.findByProductIdAndTypeOrderBySeqAsc(productId, ImageType.CONTENT))
                 .thenReturn(List.of(image1, image2));
 
         // when
@@ -127,7 +131,7 @@ class ProductImageServiceTest {
         // given
         int productId = 99;
 
-        when(productImageRepository.findByProductIdAndTypeOrderBySeqAsc(productId, "content")).thenReturn(List.of());
+        when(productImageRepository.findByProductIdAndTypeOrderBySeqAsc(productId, ImageType.CONTENT)).thenReturn(List.of());
 
         // when
         List<FileVo> result = productImageService.getContentImages(productId);
@@ -135,4 +139,4 @@ class ProductImageServiceTest {
         // then
         assertTrue(result.isEmpty());
     }
-}
\ No newline at end of file
+}
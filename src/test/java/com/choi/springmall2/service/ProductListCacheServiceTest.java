@@ -0,0 +1,174 @@
+package com.choi.springmall2.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProductListCacheServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private MeterRegistry meterRegistry;
+    private ProductListCacheService cacheService;
+    private Long catalogVersion;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        catalogVersion = 0L;
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("product:catalog:version")).thenAnswer(invocation ->
+                catalogVersion == null ? null : String.valueOf(catalogVersion));
+        when(valueOperations.setIfAbsent(eq("product:catalog:version"), anyString())).thenAnswer(invocation -> {
+            if (catalogVersion != null) {
+                return false;
+            }
+            catalogVersion = Long.parseLong(invocation.getArgument(1));
+            return true;
+        });
+        when(valueOperations.increment("product:catalog:version")).thenAnswer(invocation ->
+                catalogVersion = catalogVersion == null ? 1L : catalogVersion + 1);
+        cacheService = new ProductListCacheService(redisTemplate, meterRegistry, 10, 300);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 카탈로그 버전이면 렌더링된 HTML 재사용")
+    void getProductGrid_hit() {
+        // given
+        AtomicInteger renderCount = new AtomicInteger();
+
+        // when
+        String first = cacheService.getProductGrid(1, 9, () -> "grid" + renderCount.incrementAndGet());
+        String second = cacheService.getProductGrid(1, 9, () -> "grid" + renderCount.incrementAndGet());
+        String otherPage = cacheService.getProductGrid(2, 9, () -> "grid" + renderCount.incrementAndGet());
+
+        // then
+        assertEquals("grid1", first);
+        assertEquals("grid1", second);
+        assertEquals("grid2", otherPage);
+        assertEquals(1.0, meterRegistry.get("cache.product.list.hit").counter().count());
+        assertEquals(2.0, meterRegistry.get("cache.product.list.miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("상품 등록으로 버전이 바뀌면 이전 HTML 을 제공하지 않음")
+    void getProductGrid_afterBump() {
+        // given
+        cacheService.getProductGrid(1, 9, () -> "old");
+
+        // when
+        cacheService.bumpCatalogVersion();
+
+        // then
+        assertEquals("new", cacheService.getProductGrid(1, 9, () -> "new"));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 버전을 올린 경우에도 이전 HTML 을 제공하지 않음")
+    void getProductGrid_bumpedElsewhere() {
+        // given
+        cacheService.getProductGrid(1, 9, () -> "old");
+
+        // when : 로컬 캐시는 그대로 두고 Redis 버전만 증가
+        catalogVersion++;
+
+        // then
+        assertEquals("new", cacheService.getProductGrid(1, 9, () -> "new"));
+    }
+
+    @Test
+    @DisplayName("버전 키가 사라지면 현재 시각으로 초기화하여 이전 버전으로 되돌아가지 않음")
+    void getCatalogVersion_afterFlush() {
+        // given
+        catalogVersion = 5L;
+        cacheService.getProductGrid(1, 9, () -> "old");
+
+        // when : Redis flush 후 조회
+        catalogVersion = null;
+        long before = System.currentTimeMillis();
+        Long version = cacheService.getCatalogVersion();
+
+        // then
+        assertTrue(version >= before);
+        assertEquals("new", cacheService.getProductGrid(1, 9, () -> "new"));
+    }
+
+    @Test
+    @DisplayName("버전 키가 사라진 뒤 상품이 등록되어도 1 부터 다시 시작하지 않음")
+    void bumpCatalogVersion_afterFlush() {
+        // given
+        catalogVersion = null;
+        long before = System.currentTimeMillis();
+
+        // when
+        cacheService.bumpCatalogVersion();
+
+        // then
+        assertTrue(catalogVersion > before);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 호출되면 커밋 후에 버전 증가")
+    void bumpCatalogVersion_afterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cacheService.bumpCatalogVersion();
+
+        // then
+        verify(valueOperations, never()).increment(anyString());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(valueOperations, times(1)).increment("product:catalog:version");
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 캐시를 사용하지 않고 매번 렌더링")
+    void getProductGrid_redisDown() {
+        // given
+        when(valueOperations.get("product:catalog:version")).thenThrow(new RedisConnectionFailureException("down"));
+        AtomicInteger renderCount = new AtomicInteger();
+
+        // when
+        cacheService.getProductGrid(1, 9, () -> "grid" + renderCount.incrementAndGet());
+        cacheService.getProductGrid(1, 9, () -> "grid" + renderCount.incrementAndGet());
+
+        // then
+        assertEquals(2, renderCount.get());
+        assertEquals(2.0, meterRegistry.get("cache.product.list.bypass").counter().count());
+    }
+}
@@ -0,0 +1,194 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.config.JpaConfig;
+import com.choi.springmall2.domain.FlashSaleReserveResult;
+import com.choi.springmall2.domain.Role;
+import com.choi.springmall2.domain.dto.ProductOrderRequestDto;
+import com.choi.springmall2.domain.dto.ProductOrderResponseDto;
+import com.choi.springmall2.domain.entity.Product;
+import com.choi.springmall2.domain.entity.User;
+import com.choi.springmall2.domain.vo.FlashSaleReservationVo;
+import com.choi.springmall2.error.exceptions.OutOfStockException;
+import com.choi.springmall2.repository.ProductRepository;
+import com.choi.springmall2.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 한 상품에 주문이 몰려도 재고보다 많이 팔리지 않는지 확인하는 부하 테스트.
+ * 여러 스레드가 각자 트랜잭션을 커밋해야 하므로 테스트 트랜잭션을 사용하지 않고 직접 정리함
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // application-test.properties 의 H2 사용
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JpaConfig.class, ProductOrderService.class})
+class ProductOrderConcurrencyTest {
+
+    private static final int THREADS = 32;
+    private static final int ORDERS_PER_THREAD = 10;
+    private static final int STOCK = 100;
+
+    @Autowired
+    private ProductOrderService productOrderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private ProductDetailCacheService productDetailCacheService;
+
+    @MockitoBean
+    private FlashSaleService flashSaleService;
+
+    private User buyer;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        buyer = new User();
+        buyer.setEmail("buyer@order.test");
+        buyer.setNickname("buyer");
+        buyer.setPassword("password");
+        buyer.setRole(Role.ROLE_SELLER);
+        buyer = userRepository.save(buyer);
+
+        product = new Product();
+        product.setTitle("한정 상품");
+        product.setPrice(1000.0);
+        product.setStock(STOCK);
+        product.setSeller(buyer);
+        product = productRepository.save(product);
+
+        given(userService.getUserReference(anyInt())).willReturn(buyer);
+        // 일반 주문 경로 (DB 조건부 UPDATE) 검증
+        given(flashSaleService.reserve(any(), anyInt(), any()))
+                .willReturn(new FlashSaleReservationVo(FlashSaleReserveResult.NOT_ACTIVE, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM product_order WHERE product_id = ?", product.getId());
+        jdbcTemplate.update("DELETE FROM product WHERE id = ?", product.getId());
+        jdbcTemplate.update("DELETE FROM user WHERE id = ?", buyer.getId());
+    }
+
+    @Test
+    @DisplayName("재고보다 많은 동시 주문이 들어와도 재고만큼만 주문되고 재고는 음수가 되지 않음")
+    void noOversellUnderContention() throws Exception {
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger outOfStock = new AtomicInteger();
+        List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+
+        // when : 32 스레드가 동시에 출발하여 1개씩 320건 주문
+        runConcurrently(THREADS, thread -> {
+            for (int i = 0; i < ORDERS_PER_THREAD; i++) {
+                try {
+                    productOrderService.placeOrder(request(1), buyer.getId(), "order-" + thread + "-" + i);
+                    succeeded.incrementAndGet();
+                } catch (OutOfStockException e) {
+                    outOfStock.incrementAndGet();
+                } catch (Throwable e) {
+                    unexpected.add(e);
+                }
+            }
+        });
+
+        // then
+        assertTrue(unexpected.isEmpty(), () -> unexpected.get(0).toString());
+        assertEquals(STOCK, succeeded.get());
+        assertEquals(THREADS * ORDERS_PER_THREAD - STOCK, outOfStock.get());
+        assertEquals(0, productRepository.findById(product.getId()).orElseThrow().getStock());
+        assertEquals(STOCK, countOrders());
+    }
+
+    @Test
+    @DisplayName("같은 주문 키로 동시에 요청해도 주문은 한 건만 생성되고 재고도 한 번만 차감됨")
+    void sameIdempotencyKeyCreatesSingleOrder() throws Exception {
+        Set<Integer> orderIds = ConcurrentHashMap.newKeySet();
+        List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+
+        // when
+        runConcurrently(THREADS, thread -> {
+            try {
+                ProductOrderResponseDto result = productOrderService.placeOrder(request(3), buyer.getId(), "same-key");
+                orderIds.add(result.getOrderId());
+            } catch (Throwable e) {
+                unexpected.add(e);
+            }
+        });
+
+        // then : 모든 요청이 같은 주문을 돌려받음
+        assertTrue(unexpected.isEmpty(), () -> unexpected.stream().map(Throwable::toString).collect(Collectors.joining("\n")));
+        assertEquals(1, orderIds.size());
+        assertEquals(1, countOrders());
+        assertEquals(STOCK - 3, productRepository.findById(product.getId()).orElseThrow().getStock());
+    }
+
+    private void runConcurrently(int threads, IntConsumer task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.accept(thread);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    private int countOrders() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_order WHERE product_id = ?", Integer.class, product.getId());
+    }
+
+    private ProductOrderRequestDto request(int quantity) {
+        ProductOrderRequestDto requestDto = new ProductOrderRequestDto();
+        requestDto.setProductId(product.getId());
+        requestDto.setQuantity(quantity);
+        return requestDto;
+    }
+
+    @FunctionalInterface
+    private interface IntConsumer {
+        void accept(int value);
+    }
+}
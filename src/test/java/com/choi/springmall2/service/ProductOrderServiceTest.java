@@ -0,0 +1,296 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.domain.FlashSaleReserveResult;
+import com.choi.springmall2.domain.dto.ProductOrderRequestDto;
+import com.choi.springmall2.domain.dto.ProductOrderResponseDto;
+import com.choi.springmall2.domain.entity.Product;
+import com.choi.springmall2.domain.entity.ProductOrder;
+import com.choi.springmall2.domain.entity.User;
+import com.choi.springmall2.domain.vo.FlashSaleOrderVo;
+import com.choi.springmall2.domain.vo.FlashSaleReservationVo;
+import com.choi.springmall2.error.exceptions.FlashSaleUnavailableException;
+import com.choi.springmall2.error.exceptions.InvalidOrderException;
+import com.choi.springmall2.error.exceptions.OutOfStockException;
+import com.choi.springmall2.error.exceptions.ProductDetailNotFoundException;
+import com.choi.springmall2.repository.ProductOrderRepository;
+import com.choi.springmall2.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProductOrderServiceTest {
+
+    @Mock
+    private ProductOrderRepository productOrderRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private ProductDetailCacheService productDetailCacheService;
+
+    @Mock
+    private FlashSaleService flashSaleService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ProductOrderService productOrderService;
+
+    @BeforeEach
+    void setUp() {
+        // 트랜잭션 없이 콜백을 그대로 실행
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        // 기본은 플래시 세일 상품이 아님
+        given(flashSaleService.reserve(any(), anyInt(), any()))
+                .willReturn(new FlashSaleReservationVo(FlashSaleReserveResult.NOT_ACTIVE, null));
+    }
+
+    @Test
+    @DisplayName("상품 주문 - 성공")
+    void placeOrder() {
+        // given
+        given(productOrderRepository.findByUserIdAndIdempotencyKey(1, "key-1")).willReturn(Optional.empty());
+        given(productRepository.decreaseStock(eq(10), eq(2), any(LocalDateTime.class))).willReturn(1);
+        given(productRepository.getReferenceById(10)).willReturn(product(10));
+        given(userService.getUserReference(1)).willReturn(new User());
+        given(productOrderRepository.saveAndFlush(any(ProductOrder.class))).willAnswer(invocation -> {
+            ProductOrder productOrder = invocation.getArgument(0);
+            productOrder.setId(100);
+            return productOrder;
+        });
+
+        // when
+        ProductOrderResponseDto result = productOrderService.placeOrder(request(10, 2), 1, "key-1");
+
+        // then
+        assertEquals(100, result.getOrderId());
+        assertEquals(10, result.getProductId());
+        assertEquals(2, result.getQuantity());
+        verify(productOrderRepository).saveAndFlush(argThat(order -> "key-1".equals(order.getIdempotencyKey())));
+        verify(productDetailCacheService).evict(10); // 재고가 바뀌었으므로 상세 캐시 무효화
+    }
+
+    @Test
+    @DisplayName("상품 주문 - 재고 부족")
+    void placeOrder_outOfStock() {
+        // given
+        given(productOrderRepository.findByUserIdAndIdempotencyKey(1, "key-1")).willReturn(Optional.empty());
+        given(productRepository.decreaseStock(eq(10), eq(5), any(LocalDateTime.class))).willReturn(0);
+        given(productRepository.findFlashSaleById(10)).willReturn(Optional.of(false));
+
+        // when & then
+        assertThrows(OutOfStockException.class, () -> productOrderService.placeOrder(request(10, 5), 1, "key-1"));
+        verify(productOrderRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("상품 주문 - 상품 없음")
+    void placeOrder_productNotFound() {
+        // given
+        given(productOrderRepository.findByUserIdAndIdempotencyKey(1, "key-1")).willReturn(Optional.empty());
+        given(productRepository.decreaseStock(anyInt(), anyInt(), any(LocalDateTime.class))).willReturn(0);
+        given(productRepository.findFlashSaleById(999)).willReturn(Optional.empty());
+
+        // when & then
+        assertThrows(ProductDetailNotFoundException.class, () -> productOrderService.placeOrder(request(999, 1), 1, "key-1"));
+    }
+
+    @Test
+    @DisplayName("상품 주문 - 같은 키로 재요청하면 재고 차감 없이 기존 주문 반환")
+    void placeOrder_replay() {
+        // given
+        given(productOrderRepository.findByUserIdAndIdempotencyKey(1, "key-1")).willReturn(Optional.of(order(100, 10, 2)));
+
+        // when
+        ProductOrderResponseDto result = productOrderService.placeOrder(request(10, 2), 1, "key-1");
+
+        // then
+        assertEquals(100, result.getOrderId());
+        verify(productRepository, never()).decreaseStock(anyInt(), anyInt(), any());
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("상품 주문 - 같은 키로 다른 주문 요청")
+    void placeOrder_replayWithDifferentRequest() {
+        // given
+        given(productOrderRepository.findByUserIdAndIdempotencyKey(1, "key-1")).willReturn(Optional.of(order(100, 10, 2)));
+
+        // when & then
+        assertThrows(InvalidOrderException.class, () -> productOrderService.placeOrder(request(10, 3), 1, "key-1"));
+        verify(productRepository, never()).decreaseStock(anyInt(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("상품 주문 - 같은 키로 동시에 요청되어 유니크 인덱스 위반 시 먼저 저장된 주문 반환")
+    void placeOrder_concurrentDuplicate() {
+        // given : 처음 조회 시점에는 없었지만 저장 시점에 다른 요청이 먼저 커밋함
+        given(productOrderRepository.findByUserIdAndIdempotencyKey(1, "key-1"))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(order(100, 10, 2)));
+        willThrow(new DataIntegrityViolationException("duplicate")).given(transactionTemplate).execute(any());
+
+        // when
+        ProductOrderResponseDto result = productOrderService.placeOrder(request(10, 2), 1, "key-1");
+
+        // then
+        assertEquals(100, result.getOrderId());
+    }
+
+    @Test
+    @DisplayName("상품 주문 - 플래시 세일 상품은 DB 재고를 건드리지 않고 접수만 함")
+    void placeOrder_flashSaleAccepted() {
+        // given
+        willReturn(new FlashSaleReservationVo(FlashSaleReserveResult.ACCEPTED, flashSaleOrder(10, 2)))
+                .given(flashSaleService).reserve(any(), eq(1), eq("key-1"));
+
+        // when
+        ProductOrderResponseDto result = productOrderService.placeOrder(request(10, 2), 1, "key-1");
+
+        // then
+        assertTrue(result.isPending());
+        assertNull(result.getOrderId());
+        assertEquals(10, result.getProductId());
+        verify(productRepository, never()).decreaseStock(anyInt(), anyInt(), any());
+        verify(productOrderRepository, never()).findByUserIdAndIdempotencyKey(anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("상품 주문 - 플래시 세일 재고 소진")
+    void placeOrder_flashSaleSoldOut() {
+        // given
+        willReturn(new FlashSaleReservationVo(FlashSaleReserveResult.SOLD_OUT, null))
+                .given(flashSaleService).reserve(any(), eq(1), eq("key-1"));
+
+        // when & then
+        assertThrows(OutOfStockException.class, () -> productOrderService.placeOrder(request(10, 2), 1, "key-1"));
+        verify(productRepository, never()).decreaseStock(anyInt(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("상품 주문 - 플래시 세일 중 같은 키로 재요청하면 먼저 접수된 주문 반환, 다른 주문이면 오류")
+    void placeOrder_flashSaleDuplicate() {
+        // given
+        willReturn(new FlashSaleReservationVo(FlashSaleReserveResult.DUPLICATE, flashSaleOrder(10, 2)))
+                .given(flashSaleService).reserve(any(), eq(1), eq("key-1"));
+
+        // when
+        ProductOrderResponseDto result = productOrderService.placeOrder(request(10, 2), 1, "key-1");
+
+        // then
+        assertTrue(result.isPending());
+        assertEquals(2, result.getQuantity());
+        assertThrows(InvalidOrderException.class, () -> productOrderService.placeOrder(request(10, 3), 1, "key-1"));
+    }
+
+    @Test
+    @DisplayName("상품 주문 - 플래시 세일 주문이 다른 주문과 키가 겹쳐 거절된 경우 같은 키로 재요청하면 오류")
+    void placeOrder_flashSaleRejected() {
+        // given
+        willReturn(new FlashSaleReservationVo(FlashSaleReserveResult.REJECTED, null))
+                .given(flashSaleService).reserve(any(), eq(1), eq("key-1"));
+
+        // when & then
+        assertThrows(InvalidOrderException.class, () -> productOrderService.placeOrder(request(10, 2), 1, "key-1"));
+        verify(productRepository, never()).decreaseStock(anyInt(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("상품 주문 - Redis 장애 시 일반 상품은 DB 재고로 주문")
+    void placeOrder_redisUnavailable() {
+        // given
+        willReturn(new FlashSaleReservationVo(FlashSaleReserveResult.UNAVAILABLE, null))
+                .given(flashSaleService).reserve(any(), anyInt(), any());
+        given(productOrderRepository.findByUserIdAndIdempotencyKey(1, "key-1")).willReturn(Optional.empty());
+        given(productRepository.decreaseStock(eq(10), eq(2), any(LocalDateTime.class))).willReturn(1);
+        given(productRepository.getReferenceById(10)).willReturn(product(10));
+        given(userService.getUserReference(1)).willReturn(new User());
+        given(productOrderRepository.saveAndFlush(any(ProductOrder.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        productOrderService.placeOrder(request(10, 2), 1, "key-1");
+
+        // then
+        verify(productOrderRepository).saveAndFlush(any(ProductOrder.class));
+    }
+
+    @Test
+    @DisplayName("상품 주문 - Redis 장애 시 플래시 세일 상품은 품절이 아닌 재시도 요청")
+    void placeOrder_flashSaleUnavailable() {
+        // given : 세일 상품은 DB 재고 차감이 막혀 있음
+        willReturn(new FlashSaleReservationVo(FlashSaleReserveResult.UNAVAILABLE, null))
+                .given(flashSaleService).reserve(any(), anyInt(), any());
+        given(productOrderRepository.findByUserIdAndIdempotencyKey(1, "key-1")).willReturn(Optional.empty());
+        given(productRepository.decreaseStock(eq(10), eq(2), any(LocalDateTime.class))).willReturn(0);
+        given(productRepository.findFlashSaleById(10)).willReturn(Optional.of(true));
+
+        // when & then
+        assertThrows(FlashSaleUnavailableException.class, () -> productOrderService.placeOrder(request(10, 2), 1, "key-1"));
+        verify(productOrderRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("상품 주문 - 잘못된 수량 또는 주문 키")
+    void placeOrder_invalidRequest() {
+        assertThrows(InvalidOrderException.class, () -> productOrderService.placeOrder(request(10, 0), 1, "key-1"));
+        assertThrows(InvalidOrderException.class, () -> productOrderService.placeOrder(request(10, 1), 1, " "));
+        assertThrows(InvalidOrderException.class, () -> productOrderService.placeOrder(request(10, 1), 1, "k".repeat(65)));
+        verify(productOrderRepository, never()).findByUserIdAndIdempotencyKey(anyInt(), any());
+        verify(flashSaleService, never()).reserve(any(), anyInt(), any());
+    }
+
+    private ProductOrderRequestDto request(int productId, int quantity) {
+        ProductOrderRequestDto requestDto = new ProductOrderRequestDto();
+        requestDto.setProductId(productId);
+        requestDto.setQuantity(quantity);
+        return requestDto;
+    }
+
+    private Product product(int id) {
+        Product product = new Product();
+        product.setId(id);
+        return product;
+    }
+
+    private ProductOrder order(int id, int productId, int quantity) {
+        ProductOrder productOrder = new ProductOrder();
+        productOrder.setId(id);
+        productOrder.setProduct(product(productId));
+        productOrder.setQuantity(quantity);
+        productOrder.setIdempotencyKey("key-1");
+        return productOrder;
+    }
+
+    private FlashSaleOrderVo flashSaleOrder(int productId, int quantity) {
+        return new FlashSaleOrderVo(productId, 1, quantity, "key-1", System.currentTimeMillis(), null, null, null, null);
+    }
+}
@@ -0,0 +1,133 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.config.JpaConfig;
+import com.choi.springmall2.domain.ImageType;
+import com.choi.springmall2.domain.Role;
+import com.choi.springmall2.domain.dto.ProductCursorPageDto;
+import com.choi.springmall2.domain.dto.ProductDto;
+import com.choi.springmall2.domain.entity.Product;
+import com.choi.springmall2.domain.entity.ProductImage;
+import com.choi.springmall2.domain.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) // application-test.properties 의 H2 사용
+@ActiveProfiles("test")
+@Import({JpaConfig.class, ProductService.class, ProductImageService.class})
+class ProductServiceQueryCountTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private ProductDetailCacheService productDetailCacheService;
+
+    @MockitoBean
+    private ProductListCacheService productListCacheService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // 판매자가 여러 명이어도 판매자 조회 쿼리가 추가되지 않는지 함께 확인
+        List<User> sellers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            User seller = new User();
+            seller.setEmail("seller" + i + "@test.com");
+            seller.setNickname("seller" + i);
+            seller.setPassword("password");
+            seller.setRole(Role.ROLE_SELLER);
+            entityManager.persist(seller);
+            sellers.add(seller);
+        }
+
+        // 썸네일 1개 + 내용 이미지 3개를 가진 상품 120개
+        for (int i = 0; i < 120; i++) {
+            Product product = new Product();
+            product.setTitle("상품" + i);
+            product.setDescription("설명" + i);
+            product.setPrice(1000.0);
+            product.setStock(10);
+            product.setSeller(sellers.get(i % sellers.size()));
+            entityManager.persist(product);
+
+            for (int seq = 0; seq < 4; seq++) {
+                ProductImage image = new ProductImage();
+                image.setProduct(product);
+                image.setType(seq == 0 ? ImageType.THUMBNAIL : ImageType.CONTENT);
+                image.setSeq(seq);
+                image.setImageName("image" + seq + ".jpg");
+                image.setImageKey(i + "_image" + seq + ".jpg");
+                entityManager.persist(image);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 쿼리 수는 페이지 크기와 무관하게 일정")
+    void getProductsPage_statementCountIndependentOfPageSize() {
+        long statementsForSize10 = countStatements(10);
+        long statementsForSize100 = countStatements(100);
+
+        // 상품 + 썸네일 조회 + count 조회
+        assertEquals(2, statementsForSize10);
+        assertEquals(statementsForSize10, statementsForSize100);
+    }
+
+    @Test
+    @DisplayName("커서 기반 상품 목록 조회는 개수 조회를 생략할 수 있음")
+    void getProductsByCursor_statementCountWithoutCount() {
+        entityManager.clear();
+        statistics.clear();
+
+        ProductCursorPageDto firstPage = productService.getProductsByCursor(null, 50, false);
+        ProductCursorPageDto secondPage = productService.getProductsByCursor(firstPage.getNextCursor(), 50, false);
+
+        // 페이지마다 상품 + 썸네일 조회 한 번
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(50, secondPage.getContent().size());
+        assertTrue(firstPage.getContent().get(49).getId() > secondPage.getContent().get(0).getId());
+    }
+
+    private long countStatements(int size) {
+        entityManager.clear();
+        statistics.clear();
+
+        Page<ProductDto> page = productService.getProductsPage(1, size);
+
+        assertEquals(size, page.getContent().size());
+        // 썸네일만 채워지고 내용 이미지는 목록에서 조회하지 않음
+        ProductDto first = page.getContent().get(0);
+        assertEquals("119_image0.jpg", first.getThumbnailImage().fileKey());
+        assertEquals("image0.jpg", first.getThumbnailImage().fileName());
+        assertTrue(first.getContentImages().isEmpty());
+        return statistics.getPrepareStatementCount();
+    }
+}
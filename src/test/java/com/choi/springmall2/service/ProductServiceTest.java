@@ -1,11 +1,14 @@
 package com.choi.springmall2.service;
 
 import com.choi.springmall2.domain.CustomUser;
+import com.choi.springmall2.domain.dto.ProductCursorPageDto;
 import com.choi.springmall2.domain.dto.ProductDto;
 import com.choi.springmall2.domain.entity.Product;
 import com.choi.springmall2.domain.entity.ProductImage;
 import com.choi.springmall2.domain.entity.User;
 import com.choi.springmall2.domain.vo.FileVo;
+import com.choi.springmall2.domain.vo.ProductListItemVo;
+import com.choi.springmall2.error.exceptions.InvalidCursorException;
 import com.choi.springmall2.error.exceptions.ProductDetailNotFoundException;
 import com.choi.springmall2.repository.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,14 +21,17 @@ import org.springframework.data.domain.*;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.IntFunction;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -37,6 +43,10 @@ class ProductServiceTest {
     private ProductImageService productImageService;
     @Mock
     private UserService userService;
+    @Mock
+    private ProductDetailCacheService productDetailCacheService;
+    @Mock
+    private ProductListCacheService productListCacheService;
 
     @InjectMocks
     private ProductService productService;
@@ -44,6 +54,10 @@ class ProductServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);  // Mockito 초기화
+
+        // 캐시는 항상 미스로 동작하도록 하여 loader 를 그대로 호출
+        when(productDetailCacheService.get(anyInt(), any())).thenAnswer(invocation ->
+                invocation.<IntFunction<ProductDto>>getArgument(1).apply(invocation.getArgument(0)));
     }
 
     @Test
@@ -91,7 +105,7 @@ class ProductServiceTest {
                 "testPassword",
                 authorities
         );
-        when(userService.getUserById(999)).thenReturn(any(User.class));
+        when(userService.getUserReference(999)).thenReturn(new User());
 
         // when
         ProductDto result = productService.saveProduct(productDto, customUser);
@@ -107,6 +121,8 @@ class ProductServiceTest {
 
         // verify
         verify(productRepository, times(1)).save(any(Product.class));  // 상품 저장 확인
+        verify(productDetailCacheService, times(1)).evict(product.getId()); // 상세 캐시 무효화 확인
+        verify(productListCacheService, times(1)).bumpCatalogVersion(); // 목록 캐시 버전 증가 확인
     }
 
     @Test
@@ -117,27 +133,14 @@ class ProductServiceTest {
         int size = 2;
         Pageable pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "id"));
 
-        Product product1 = new Product();
-        product1.setId(1);
-        product1.setTitle("상품1");
-        product1.setDescription("설명1");
-        product1.setPrice(1000.0);
-        product1.setStock(10);
-        
-        Product product2 = new Product();
-        product2.setId(2);
-        product2.setTitle("상품2");
-        product2.setDescription("설명2");
-        product2.setPrice(2000.0);
-        product2.setStock(5);
-        
-        List<Product> products = List.of(product1, product2);
-
-        Page<Product> productPage = new PageImpl<>(products, pageable, products.size());
-
-        given(productRepository.findAll(pageable)).willReturn(productPage);
-        given(productImageService.getThumbnailImage(1)).willReturn(new FileVo("img1.jpg", "key1"));
-        given(productImageService.getThumbnailImage(2)).willReturn(new FileVo("img2.jpg", "key2"));
+        List<ProductListItemVo> products = List.of(
+                new ProductListItemVo(1, "상품1", "설명1", 1000.0, 10, "key1", "img1.jpg"),
+                new ProductListItemVo(2, "상품2", "설명2", 2000.0, 5, null, null) // 썸네일 없는 상품
+        );
+
+        Page<ProductListItemVo> productPage = new PageImpl<>(products, pageable, products.size());
+
+        given(productRepository.findListItems(pageable)).willReturn(productPage);
 
         // when
         Page<ProductDto> result = productService.getProductsPage(page, size);
@@ -153,10 +156,82 @@ class ProductServiceTest {
         assertEquals(10, dto1.getStock());
         assertNotNull(dto1.getThumbnailImage());
         assertEquals("img1.jpg", dto1.getThumbnailImage().fileName());
+        assertEquals("key1", dto1.getThumbnailImage().fileKey());
+        assertTrue(dto1.getContentImages().isEmpty());
 
         ProductDto dto2 = result.getContent().get(1);
         assertEquals("상품2", dto2.getTitle());
-        assertEquals("img2.jpg", dto2.getThumbnailImage().fileName());
+        assertNull(dto2.getThumbnailImage());
+
+        // 썸네일은 목록 쿼리에서 함께 조회되므로 이미지 테이블을 따로 조회하지 않아야 함
+        verify(productImageService, never()).getThumbnailImage(anyInt());
+        verify(productImageService, never()).getContentImages(anyInt());
+    }
+
+    @Test
+    @DisplayName("커서 기반 상품 목록 조회 - 첫 페이지")
+    void getProductsByCursor_firstPage() {
+        // given
+        List<ProductListItemVo> products = List.of(listItem(30), listItem(29), listItem(28));
+        given(productRepository.findListItemsOrderByIdDesc(Limit.of(3))).willReturn(products);
+
+        // when
+        ProductCursorPageDto result = productService.getProductsByCursor(null, 2, false);
+
+        // then
+        assertEquals(2, result.getContent().size());
+        assertEquals(30, result.getContent().get(0).getId());
+        assertEquals(29, result.getContent().get(1).getId());
+        assertTrue(result.isHasNext());
+        assertNotNull(result.getNextCursor());
+        assertNull(result.getTotalElements());
+        verify(productRepository, never()).count(); // 개수 조회 생략
+    }
+
+    @Test
+    @DisplayName("커서 기반 상품 목록 조회 - 다음 커서로 이어서 조회")
+    void getProductsByCursor_nextPage() {
+        // given
+        given(productRepository.findListItemsOrderByIdDesc(Limit.of(3)))
+                .willReturn(List.of(listItem(30), listItem(29), listItem(28)));
+        given(productRepository.findListItemsByIdLessThan(29, Limit.of(3)))
+                .willReturn(List.of(listItem(28)));
+        given(productRepository.count()).willReturn(3L);
+
+        String nextCursor = productService.getProductsByCursor("", 2, false).getNextCursor();
+
+        // when
+        ProductCursorPageDto result = productService.getProductsByCursor(nextCursor, 2, true);
+
+        // then
+        assertEquals(1, result.getContent().size());
+        assertEquals(28, result.getContent().get(0).getId());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        assertEquals(3L, result.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("커서 기반 상품 목록 조회 - 페이지 크기는 1 ~ 100 으로 제한")
+    void getProductsByCursor_clampSize() {
+        // given
+        given(productRepository.findListItemsOrderByIdDesc(any(Limit.class))).willReturn(List.of());
+
+        // when
+        productService.getProductsByCursor(null, 0, false);
+        productService.getProductsByCursor(null, -5, false);
+        productService.getProductsByCursor(null, 100_000, false);
+
+        // then : 한 건 더 조회하므로 2, 101
+        verify(productRepository, times(2)).findListItemsOrderByIdDesc(Limit.of(2));
+        verify(productRepository).findListItemsOrderByIdDesc(Limit.of(ProductService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("커서 기반 상품 목록 조회 - 잘못된 커서")
+    void getProductsByCursor_invalidCursor() {
+        assertThrows(InvalidCursorException.class, () -> productService.getProductsByCursor("not-a-cursor!", 10, false));
+        assertThrows(InvalidCursorException.class, () -> productService.getProductsByCursor("MTIz", 10, false)); // "123"
     }
 
     @Test
@@ -202,4 +277,29 @@ class ProductServiceTest {
             productService.getProductDetail(productId); // 예외 발생 예상
         });
     }
-}
\ No newline at end of file
+
+    private ProductListItemVo listItem(int id) {
+        return new ProductListItemVo(id, "상품" + id, null, 1000.0, 10, null, null);
+    }
+
+    @Test
+    @DisplayName("상품 수정 시각 조회 - 상품이 없으면 예외")
+    void getProductModifyAt_notFound() {
+        // given
+        given(productRepository.findModifyAtById(999)).willReturn(Optional.empty());
+
+        // when & then
+        assertThrows(ProductDetailNotFoundException.class, () -> productService.getProductModifyAt(999));
+    }
+
+    @Test
+    @DisplayName("상품 수정 시각 조회")
+    void getProductModifyAt() {
+        // given
+        LocalDateTime modifyAt = LocalDateTime.of(2025, 5, 1, 12, 0);
+        given(productRepository.findModifyAtById(1)).willReturn(Optional.of(modifyAt));
+
+        // when & then
+        assertEquals(modifyAt, productService.getProductModifyAt(1));
+    }
+}
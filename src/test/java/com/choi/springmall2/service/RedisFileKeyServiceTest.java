@@ -11,6 +11,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -98,4 +102,31 @@ class RedisFileKeyServiceTest {
         // then
         assertFalse(result);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("여러 키 존재 여부 일괄 확인 테스트")
+    void findExistingKeys() {
+        // given
+        List<String> fileKeys = Arrays.asList("a.jpg", "b.jpg", "c.jpg");
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(fileKeys)).thenReturn(Arrays.asList("1", null, "1"));
+
+        // when
+        Set<String> result = redisFileKeyService.findExistingKeys(fileKeys);
+
+        // then
+        assertEquals(Set.of("a.jpg", "c.jpg"), result);
+        verify(valueOperations, times(1)).multiGet(fileKeys); // 키 수와 관계없이 한 번만 조회
+    }
+
+    @Test
+    @DisplayName("여러 키 존재 여부 일괄 확인 테스트 - 빈 목록")
+    void findExistingKeys_empty() {
+        // when
+        Set<String> result = redisFileKeyService.findExistingKeys(List.of());
+
+        // then
+        assertTrue(result.isEmpty());
+        verify(redisTemplate, never()).opsForValue();
+    }
+}
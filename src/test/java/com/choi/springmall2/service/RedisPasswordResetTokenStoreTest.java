@@ -0,0 +1,192 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.domain.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RedisPasswordResetTokenStoreTest {
+
+    private static final Duration TTL = Duration.ofHours(1);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private RedisPasswordResetTokenStore tokenStore;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        user = new User();
+        user.setId(7);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // 트랜잭션 안에서 호출된 것처럼 동기화를 켜고, 등록된 콜백에 트랜잭션 결과를 전달
+    private static void completeTransaction(int status) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(status);
+        }
+    }
+
+    @Test
+    @DisplayName("토큰 저장 - TTL 과 함께 저장하고 이전 토큰 삭제")
+    void save() {
+        // given
+        given(valueOperations.setIfAbsent("password-reset:token:new-hash", "7", TTL)).willReturn(true);
+        given(valueOperations.getAndSet("password-reset:user:7", "new-hash")).willReturn("old-hash");
+
+        // when
+        tokenStore.save(user, "new-hash", TTL);
+
+        // then
+        verify(redisTemplate).expire("password-reset:user:7", TTL);
+        verify(redisTemplate).delete("password-reset:token:old-hash");
+    }
+
+    @Test
+    @DisplayName("토큰 저장 - 트랜잭션 안에서는 커밋 후에 이전 토큰 삭제")
+    void save_inTransaction() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        given(valueOperations.setIfAbsent("password-reset:token:new-hash", "7", TTL)).willReturn(true);
+        given(valueOperations.getAndSet("password-reset:user:7", "new-hash")).willReturn("old-hash");
+
+        // when
+        tokenStore.save(user, "new-hash", TTL);
+
+        // then : 커밋 전에는 이전 토큰이 그대로 유효
+        verify(valueOperations, never()).getAndSet(anyString(), anyString());
+        verify(redisTemplate, never()).delete(anyString());
+
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        verify(redisTemplate).expire("password-reset:user:7", TTL);
+        verify(redisTemplate).delete("password-reset:token:old-hash");
+    }
+
+    @Test
+    @DisplayName("토큰 저장 - 롤백되면 새 토큰만 삭제하고 이전 토큰은 유지")
+    void save_rollback() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        given(valueOperations.setIfAbsent("password-reset:token:new-hash", "7", TTL)).willReturn(true);
+
+        // when
+        tokenStore.save(user, "new-hash", TTL);
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        verify(redisTemplate).delete("password-reset:token:new-hash");
+        verify(valueOperations, never()).getAndSet(anyString(), anyString());
+        verify(redisTemplate, never()).delete("password-reset:token:old-hash");
+    }
+
+    @Test
+    @DisplayName("토큰 저장 - 같은 해시가 이미 있으면 제약 조건 위반으로 처리")
+    void save_duplicate() {
+        // given
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(false);
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class, () -> tokenStore.save(user, "new-hash", TTL));
+        verify(valueOperations, never()).getAndSet(anyString(), anyString());
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 소비 - GETDEL 한 번으로 조회와 삭제")
+    void consume() {
+        // given
+        given(valueOperations.getAndDelete("password-reset:token:hash")).willReturn("7").willReturn(null);
+
+        // when
+        Optional<Integer> first = tokenStore.consume("hash");
+        Optional<Integer> second = tokenStore.consume("hash");
+
+        // then : 두 번째 요청은 이미 삭제된 토큰
+        assertEquals(Optional.of(7), first);
+        assertTrue(second.isEmpty());
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 소비 - 롤백되면 남은 TTL 로 토큰 복구")
+    void consume_rollback() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        given(redisTemplate.getExpire("password-reset:token:hash", TimeUnit.MILLISECONDS)).willReturn(60_000L);
+        given(valueOperations.getAndDelete("password-reset:token:hash")).willReturn("7");
+
+        // when
+        Optional<Integer> userId = tokenStore.consume("hash");
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        assertEquals(Optional.of(7), userId);
+        verify(valueOperations).setIfAbsent("password-reset:token:hash", "7", Duration.ofMillis(60_000));
+    }
+
+    @Test
+    @DisplayName("토큰 소비 - 커밋되면 복구하지 않음")
+    void consume_commit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        given(redisTemplate.getExpire("password-reset:token:hash", TimeUnit.MILLISECONDS)).willReturn(60_000L);
+        given(valueOperations.getAndDelete("password-reset:token:hash")).willReturn("7");
+
+        // when
+        tokenStore.consume("hash");
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        // then
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("토큰 유효성 - 만료된 토큰은 TTL 로 삭제되어 존재하지 않음")
+    void isValid() {
+        // given
+        given(redisTemplate.hasKey("password-reset:token:hash")).willReturn(true);
+        given(redisTemplate.hasKey("password-reset:token:expired")).willReturn(false);
+
+        // when & then
+        assertTrue(tokenStore.isValid("hash"));
+        assertFalse(tokenStore.isValid("expired"));
+    }
+}
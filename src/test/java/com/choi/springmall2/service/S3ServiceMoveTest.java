@@ -0,0 +1,99 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.domain.vo.FileMoveResultVo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class S3ServiceMoveTest {
+
+    private static final long LATENCY_MILLIS = 100;
+
+    private InMemoryS3Client s3Client;
+    private RedisFileKeyService redisFileKeyService;
+    private ThreadPoolTaskExecutor executor;
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = new InMemoryS3Client(LATENCY_MILLIS);
+        redisFileKeyService = mock(RedisFileKeyService.class);
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(16);
+        executor.setMaxPoolSize(16);
+        executor.initialize();
+
+        s3Service = new S3Service(null, s3Client, redisFileKeyService, executor, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(s3Service, "tempProductFilePath", "temp/");
+        ReflectionTestUtils.setField(s3Service, "realProductFilePath", "product_images/");
+        ReflectionTestUtils.setField(s3Service, "bucket", "test-bucket");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("이미지 20개 이동 시간은 직렬 처리보다 가장 느린 이동 하나에 가까움")
+    void moveFromTempAll_parallel() {
+        // given
+        List<String> fileKeys = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            String fileKey = "image" + i + ".jpg";
+            s3Client.putObject("temp/" + fileKey);
+            fileKeys.add(fileKey);
+        }
+
+        // when
+        long start = System.nanoTime();
+        List<FileMoveResultVo> results = s3Service.moveFromTempAll(fileKeys);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertEquals(20, results.size());
+        assertTrue(results.stream().allMatch(FileMoveResultVo::success));
+        for (String fileKey : fileKeys) {
+            assertTrue(s3Client.exists("product_images/" + fileKey));
+            assertFalse(s3Client.exists("temp/" + fileKey));
+        }
+
+        // 파일 하나 이동 = copy + delete (200ms). 직렬이면 4초, 16개 병렬이면 두 번에 나눠 약 400ms
+        long singleMoveMillis = LATENCY_MILLIS * 2;
+        assertTrue(elapsedMillis < singleMoveMillis * 5, "elapsed: " + elapsedMillis + "ms");
+        assertEquals(16, s3Client.getMaxConcurrentRequests()); // 동시 요청 수는 스레드 수로 제한
+        verify(redisFileKeyService, times(20)).deleteTempFileKey(anyString());
+    }
+
+    @Test
+    @DisplayName("일부 파일 이동 실패 시 파일별 결과를 반환하고 나머지는 계속 이동")
+    void moveFromTempAll_partialFailure() {
+        // given
+        s3Client.putObject("temp/ok1.jpg");
+        s3Client.putObject("temp/ok2.jpg");
+
+        // when
+        List<FileMoveResultVo> results = s3Service.moveFromTempAll(List.of("ok1.jpg", "missing.jpg", "ok2.jpg"));
+
+        // then
+        assertEquals("ok1.jpg", results.get(0).fileKey());
+        assertTrue(results.get(0).success());
+        assertEquals("missing.jpg", results.get(1).fileKey());
+        assertFalse(results.get(1).success());
+        assertNotNull(results.get(1).errorMessage());
+        assertTrue(results.get(2).success());
+        assertTrue(s3Client.exists("product_images/ok2.jpg"));
+        verify(redisFileKeyService, never()).deleteTempFileKey("missing.jpg");
+    }
+}
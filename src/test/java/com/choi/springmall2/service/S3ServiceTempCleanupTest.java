@@ -0,0 +1,102 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.domain.vo.TempFileCleanupResultVo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class S3ServiceTempCleanupTest {
+
+    private InMemoryS3Client s3Client;
+    private RedisFileKeyService redisFileKeyService;
+    private MeterRegistry meterRegistry;
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = new InMemoryS3Client(0);
+        redisFileKeyService = mock(RedisFileKeyService.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        s3Service = new S3Service(null, s3Client, redisFileKeyService, Runnable::run, meterRegistry);
+        ReflectionTestUtils.setField(s3Service, "tempProductFilePath", "temp/");
+        ReflectionTestUtils.setField(s3Service, "realProductFilePath", "product_images/");
+        ReflectionTestUtils.setField(s3Service, "bucket", "test-bucket");
+    }
+
+    @Test
+    @DisplayName("1000개를 넘는 임시 파일도 모두 조회하여 Redis 에 없는 파일만 batch 로 삭제")
+    void deleteTempFolderFiles_paginated() {
+        // given : 임시 파일 2500개 중 10의 배수 파일은 아직 등록 대기 중 (Redis 에 존재)
+        for (int i = 0; i < 2500; i++) {
+            s3Client.putObject(String.format("temp/file%05d.jpg", i));
+        }
+        s3Client.putObject("product_images/real.jpg"); // 임시 폴더 밖의 파일은 대상 아님
+        when(redisFileKeyService.findExistingKeys(anyList())).thenAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(0);
+            return keys.stream()
+                    .filter(key -> Integer.parseInt(key.substring(4, 9)) % 10 == 0)
+                    .collect(Collectors.toSet());
+        });
+
+        // when
+        TempFileCleanupResultVo result = s3Service.deleteTempFolderFiles();
+
+        // then
+        assertEquals(2500, result.scanned());
+        assertEquals(2250, result.deleted());
+        assertEquals(0, result.failed());
+        assertEquals(250, s3Client.countObjects("temp/"));
+        assertEquals(1, s3Client.countObjects("product_images/"));
+
+        // 1000개 단위 : 목록 조회 3번, Redis 조회 3번, 삭제 요청 3번
+        assertEquals(3, s3Client.getListRequests());
+        assertEquals(3, s3Client.getDeleteObjectsRequests());
+        verify(redisFileKeyService, times(3)).findExistingKeys(anyList());
+
+        assertEquals(2500.0, meterRegistry.get("s3.temp.cleanup.objects").tag("result", "scanned").counter().count());
+        assertEquals(2250.0, meterRegistry.get("s3.temp.cleanup.objects").tag("result", "deleted").counter().count());
+    }
+
+    @Test
+    @DisplayName("삭제 실패한 파일은 실패 건수로 집계")
+    void deleteTempFolderFiles_partialFailure() {
+        // given
+        s3Client.putObject("temp/a.jpg");
+        s3Client.putObject("temp/b.jpg");
+        s3Client.denyDelete("temp/b.jpg");
+        when(redisFileKeyService.findExistingKeys(anyList())).thenReturn(Set.of());
+
+        // when
+        TempFileCleanupResultVo result = s3Service.deleteTempFolderFiles();
+
+        // then
+        assertEquals(2, result.scanned());
+        assertEquals(1, result.deleted());
+        assertEquals(1, result.failed());
+        assertEquals(1.0, meterRegistry.get("s3.temp.cleanup.objects").tag("result", "failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("임시 파일이 없으면 삭제 요청을 보내지 않음")
+    void deleteTempFolderFiles_empty() {
+        // when
+        TempFileCleanupResultVo result = s3Service.deleteTempFolderFiles();
+
+        // then
+        assertEquals(0, result.scanned());
+        assertEquals(0, s3Client.getDeleteObjectsRequests());
+        verify(redisFileKeyService, never()).findExistingKeys(anyList());
+    }
+}
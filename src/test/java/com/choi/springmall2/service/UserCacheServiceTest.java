@@ -0,0 +1,190 @@
+package com.choi.springmall2.service;
+
+import com.choi.springmall2.domain.CustomUser;
+import com.choi.springmall2.domain.Role;
+import com.choi.springmall2.domain.entity.User;
+import com.choi.springmall2.domain.vo.CachedUserVo;
+import com.choi.springmall2.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class UserCacheServiceTest {
+
+    private UserRepository userRepository;
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private MeterRegistry meterRegistry;
+    private UserCacheService userCacheService;
+
+    // 인스턴스들이 공유하는 Redis 의 사용자 버전 키
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> {
+            Long version = versions.get(invocation.<String>getArgument(0));
+            return version == null ? null : String.valueOf(version);
+        });
+        when(valueOperations.increment(anyString()))
+                .thenAnswer(invocation -> versions.merge(invocation.getArgument(0), 1L, Long::sum));
+
+        meterRegistry = new SimpleMeterRegistry();
+        userCacheService = new UserCacheService(userRepository, redisTemplate, meterRegistry, 100, 60);
+    }
+
+    @Test
+    @DisplayName("로그인 폭주 시 사용자 조회 쿼리는 한 번만 실행")
+    void loginStorm_singleQuery() {
+        // given
+        when(userRepository.findByEmail("user1@test.com")).thenReturn(Optional.of(user(1)));
+        CustomUserDetailService userDetailService = new CustomUserDetailService(userCacheService);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            CustomUser customUser = (CustomUser) userDetailService.loadUserByUsername("user1@test.com");
+            assertEquals(1, customUser.getId());
+            assertEquals("encoded1", customUser.getPassword());
+        }
+
+        // then
+        verify(userRepository, times(1)).findByEmail("user1@test.com");
+        verify(userRepository, never()).findById(1); // email 조회 결과로 id 캐시도 채움
+        assertEquals(999.0, meterRegistry.get("cache.user.hit").tag("key", "email").counter().count());
+        assertEquals(1.0, meterRegistry.get("cache.user.miss").tag("key", "email").counter().count());
+    }
+
+    @Test
+    @DisplayName("email 로 캐시된 사용자는 id 로도 조회됨")
+    void findById_sharedWithEmail() {
+        // given
+        when(userRepository.findByEmail("user1@test.com")).thenReturn(Optional.of(user(1)));
+        userCacheService.findByEmail("user1@test.com");
+
+        // when
+        Optional<CachedUserVo> result = userCacheService.findById(1);
+
+        // then : email 조회 시 한 번만 DB 조회
+        assertEquals("user1@test.com", result.orElseThrow().email());
+        verify(userRepository, times(1)).findByEmail("user1@test.com");
+        verify(userRepository, never()).findById(1);
+        assertEquals(1.0, meterRegistry.get("cache.user.hit").tag("key", "id").counter().count());
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 변경된 값을 다시 조회")
+    void evict_reloads() {
+        // given
+        User user = user(1);
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        userCacheService.findById(1);
+
+        // when
+        user.setPassword("changed");
+        userCacheService.evict(1);
+
+        // then : email 매핑도 함께 삭제되어 email 조회 시 DB 에서 다시 조회
+        when(userRepository.findByEmail("user1@test.com")).thenReturn(Optional.of(user));
+        assertEquals("changed", userCacheService.findByEmail("user1@test.com").orElseThrow().password());
+        assertEquals("changed", userCacheService.findById(1).orElseThrow().password());
+        verify(userRepository, times(1)).findByEmail("user1@test.com");
+        verify(userRepository, times(1)).findById(1); // 처음 조회만. 이후 id 조회는 email 조회 결과를 사용
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 비밀번호가 바뀌면 이 인스턴스의 캐시도 무효화됨")
+    void evict_otherInstance() {
+        // given : 두 인스턴스가 같은 Redis 를 사용
+        User user = user(1);
+        when(userRepository.findByEmail("user1@test.com")).thenReturn(Optional.of(user));
+        UserCacheService otherInstance = new UserCacheService(userRepository, redisTemplate, new SimpleMeterRegistry(), 100, 60);
+        assertEquals("encoded1", userCacheService.findByEmail("user1@test.com").orElseThrow().password());
+
+        // when : 다른 인스턴스에서 비밀번호 변경
+        user.setPassword("changed");
+        otherInstance.evict(1);
+
+        // then : TTL 이 남아있어도 버전이 달라 DB 에서 다시 조회
+        assertEquals("changed", userCacheService.findByEmail("user1@test.com").orElseThrow().password());
+    }
+
+    @Test
+    @DisplayName("Redis 장애로 버전을 확인할 수 없으면 캐시를 사용하지 않고 DB 조회")
+    void findById_redisFailure() {
+        // given
+        when(userRepository.findById(1)).thenReturn(Optional.of(user(1)));
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        userCacheService.findById(1);
+        userCacheService.findById(1);
+
+        // then
+        verify(userRepository, times(2)).findById(1);
+        assertEquals(2.0, meterRegistry.get("cache.user.bypass").counter().count());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 캐시하지 않음")
+    void findByEmail_notFound() {
+        // given
+        when(userRepository.findByEmail("none@test.com")).thenReturn(Optional.empty());
+        CustomUserDetailService userDetailService = new CustomUserDetailService(userCacheService);
+
+        // when & then
+        assertThrows(UsernameNotFoundException.class, () -> userDetailService.loadUserByUsername("none@test.com"));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailService.loadUserByUsername("none@test.com"));
+        verify(userRepository, times(2)).findByEmail("none@test.com");
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 오래 사용되지 않은 사용자부터 제거")
+    void lruEviction() {
+        // given
+        MeterRegistry smallCacheRegistry = new SimpleMeterRegistry();
+        UserCacheService smallCache = new UserCacheService(userRepository, redisTemplate, smallCacheRegistry, 2, 60);
+        for (int id = 1; id <= 3; id++) {
+            when(userRepository.findById(id)).thenReturn(Optional.of(user(id)));
+        }
+
+        // when
+        smallCache.findById(1);
+        smallCache.findById(2);
+        smallCache.findById(3);
+        smallCache.findById(1);
+
+        // then
+        verify(userRepository, times(2)).findById(1);
+        assertEquals(2.0, smallCacheRegistry.get("cache.user.size").gauge().value());
+        assertEquals(2.0, smallCacheRegistry.get("cache.user.eviction").counter().count());
+    }
+
+    private User user(int id) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail("user" + id + "@test.com");
+        user.setNickname("user" + id);
+        user.setPassword("encoded" + id);
+        user.setRole(Role.ROLE_BUYER);
+        return user;
+    }
+}
@@ -3,9 +3,13 @@ package com.choi.springmall2.service;
 import com.choi.springmall2.config.JwtTokenProvider;
 import com.choi.springmall2.domain.Role;
 import com.choi.springmall2.domain.dto.TokenDto;
+import com.choi.springmall2.domain.dto.UserProfileResponseDto;
+import com.choi.springmall2.domain.dto.UserProfileUpdateDto;
 import com.choi.springmall2.domain.dto.UserRegisterDto;
 import com.choi.springmall2.domain.entity.User;
+import com.choi.springmall2.domain.vo.CachedUserVo;
 import com.choi.springmall2.error.exceptions.DuplicateUserException;
+import com.choi.springmall2.error.exceptions.UserNotFoundException;
 import com.choi.springmall2.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,6 +23,9 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -26,6 +33,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.verify;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceTest {
@@ -36,6 +44,8 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private UserCacheService userCacheService;
+    @Mock
     private PasswordEncoder passwordEncoder;
 
     @Mock
@@ -138,4 +148,52 @@ class UserServiceTest {
         assertThat(tokenDto.getAccessToken()).isEqualTo("mockAccessToken");
         assertThat(tokenDto.getRefreshToken()).isEqualTo("mockRefreshToken");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("프로필 조회는 사용자 캐시 사용")
+    void getUserProfileDto_cached() {
+        // given
+        CachedUserVo cachedUser = new CachedUserVo(1, "test@example.com", "홍길동", "encoded", Role.ROLE_BUYER, LocalDateTime.now());
+        given(userCacheService.findById(1)).willReturn(Optional.of(cachedUser));
+
+        // when
+        UserProfileResponseDto dto = userService.getUserProfileDto(1);
+
+        // then
+        assertEquals("test@example.com", dto.getEmail());
+        assertEquals("홍길동", dto.getNickname());
+        verify(userRepository, never()).findById(1);
+    }
+
+    @Test
+    @DisplayName("프로필 수정 시 사용자 캐시 무효화")
+    void updateUserProfile_evictsCache() {
+        // given
+        User user = new User();
+        user.setId(1);
+        user.setNickname("이전닉네임");
+        given(userRepository.findById(1)).willReturn(Optional.of(user));
+
+        UserProfileUpdateDto dto = new UserProfileUpdateDto();
+        dto.setNickname("새닉네임");
+
+        // when
+        userService.updateUserProfile(dto, 1);
+
+        // then
+        assertEquals("새닉네임", user.getNickname());
+        verify(userRepository).save(user);
+        verify(userCacheService).evict(1);
+    }
+
+    @Test
+    @DisplayName("사용자 참조 조회 - 존재하지 않는 사용자면 예외")
+    void getUserReference_notFound() {
+        // given
+        given(userCacheService.findById(999)).willReturn(Optional.empty());
+
+        // when & then
+        assertThrows(UserNotFoundException.class, () -> userService.getUserReference(999));
+        verify(userRepository, never()).getReferenceById(999);
+    }
+}